@@ -0,0 +1,21 @@
+package com.ramoncgusmao.admin.catalogo.application;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public abstract class AsyncNullaryUsecase<OUT> {
+
+	public abstract CompletableFuture<OUT> execute();
+
+	public static <OUT> AsyncNullaryUsecase<OUT> from(final NullaryUsecase<OUT> aUsecase, final Executor anExecutor) {
+		Objects.requireNonNull(aUsecase);
+		Objects.requireNonNull(anExecutor);
+		return new AsyncNullaryUsecase<>() {
+			@Override
+			public CompletableFuture<OUT> execute() {
+				return CompletableFuture.supplyAsync(aUsecase::execute, anExecutor);
+			}
+		};
+	}
+}
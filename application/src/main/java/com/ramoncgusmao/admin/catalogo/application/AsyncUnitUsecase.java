@@ -0,0 +1,21 @@
+package com.ramoncgusmao.admin.catalogo.application;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public abstract class AsyncUnitUsecase<IN> {
+
+	public abstract CompletableFuture<Void> execute(IN anIN);
+
+	public static <IN> AsyncUnitUsecase<IN> from(final UnitUsecase<IN> aUsecase, final Executor anExecutor) {
+		Objects.requireNonNull(aUsecase);
+		Objects.requireNonNull(anExecutor);
+		return new AsyncUnitUsecase<>() {
+			@Override
+			public CompletableFuture<Void> execute(final IN anIN) {
+				return CompletableFuture.runAsync(() -> aUsecase.execute(anIN), anExecutor);
+			}
+		};
+	}
+}
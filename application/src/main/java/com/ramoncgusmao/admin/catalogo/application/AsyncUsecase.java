@@ -0,0 +1,24 @@
+package com.ramoncgusmao.admin.catalogo.application;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public abstract class AsyncUsecase<IN, OUT> {
+
+	public abstract CompletableFuture<OUT> execute(IN anIN);
+
+	/**
+	 * Runs the synchronous use case on the executor; exceptions it throws complete the future exceptionally.
+	 */
+	public static <IN, OUT> AsyncUsecase<IN, OUT> from(final Usecase<IN, OUT> aUsecase, final Executor anExecutor) {
+		Objects.requireNonNull(aUsecase);
+		Objects.requireNonNull(anExecutor);
+		return new AsyncUsecase<>() {
+			@Override
+			public CompletableFuture<OUT> execute(final IN anIN) {
+				return CompletableFuture.supplyAsync(() -> aUsecase.execute(anIN), anExecutor);
+			}
+		};
+	}
+}
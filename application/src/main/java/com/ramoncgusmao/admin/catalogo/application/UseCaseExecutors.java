@@ -0,0 +1,53 @@
+package com.ramoncgusmao.admin.catalogo.application;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executors for the async use cases. On runtimes with virtual threads every task gets its own virtual thread, so
+ * the number of in-flight use cases is bounded by memory rather than by a pool size. Older runtimes fall back to an
+ * unbounded cached pool of daemon platform threads with the same task-per-thread behaviour.
+ */
+public final class UseCaseExecutors {
+
+	private static final MethodHandle VIRTUAL_THREAD_PER_TASK = lookupVirtualThreadPerTask();
+	private static final AtomicLong THREAD_IDS = new AtomicLong();
+
+	private UseCaseExecutors() {
+	}
+
+	public static boolean isVirtualThreadAvailable() {
+		return VIRTUAL_THREAD_PER_TASK != null;
+	}
+
+	public static ExecutorService newVirtualThreadPerTaskExecutor() {
+		if (VIRTUAL_THREAD_PER_TASK != null) {
+			try {
+				return (ExecutorService) VIRTUAL_THREAD_PER_TASK.invokeExact();
+			} catch (final Throwable ex) {
+				throw new IllegalStateException("Could not create a virtual thread executor", ex);
+			}
+		}
+		return Executors.newCachedThreadPool(aTask -> {
+			final var aThread = new Thread(aTask, "usecase-" + THREAD_IDS.incrementAndGet());
+			aThread.setDaemon(true);
+			return aThread;
+		});
+	}
+
+	private static MethodHandle lookupVirtualThreadPerTask() {
+		try {
+			return MethodHandles.publicLookup().findStatic(
+					Executors.class,
+					"newVirtualThreadPerTaskExecutor",
+					MethodType.methodType(ExecutorService.class)
+			);
+		} catch (final NoSuchMethodException | IllegalAccessException ex) {
+			return null;
+		}
+	}
+}
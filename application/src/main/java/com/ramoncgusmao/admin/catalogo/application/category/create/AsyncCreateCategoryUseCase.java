@@ -0,0 +1,9 @@
+package com.ramoncgusmao.admin.catalogo.application.category.create;
+
+import com.ramoncgusmao.admin.catalogo.application.AsyncUsecase;
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class AsyncCreateCategoryUseCase extends AsyncUsecase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> {
+
+}
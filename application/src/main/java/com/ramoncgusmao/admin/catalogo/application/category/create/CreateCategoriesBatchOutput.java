@@ -0,0 +1,23 @@
+package com.ramoncgusmao.admin.catalogo.application.category.create;
+
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public record CreateCategoriesBatchOutput(
+        List<Either<Notification, CreateCategoryOutput>> items
+) {
+
+    public static CreateCategoriesBatchOutput from(final List<Either<Notification, CreateCategoryOutput>> anItems) {
+        return new CreateCategoriesBatchOutput(List.copyOf(anItems));
+    }
+
+    public long created() {
+        return items.stream().filter(Either::isRight).count();
+    }
+
+    public long rejected() {
+        return items.stream().filter(Either::isLeft).count();
+    }
+}
@@ -0,0 +1,9 @@
+package com.ramoncgusmao.admin.catalogo.application.category.create;
+
+import com.ramoncgusmao.admin.catalogo.application.Usecase;
+
+import java.util.List;
+
+public abstract class CreateCategoriesBatchUseCase extends Usecase<List<CreateCategoryCommand>, CreateCategoriesBatchOutput> {
+
+}
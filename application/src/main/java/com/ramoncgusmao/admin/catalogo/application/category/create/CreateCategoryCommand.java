@@ -3,13 +3,23 @@ package com.ramoncgusmao.admin.catalogo.application.category.create;
 public record CreateCategoryCommand(
         String name,
         String description,
-        boolean isActive
+        boolean isActive,
+        String idempotencyKey
 ) {
     public static CreateCategoryCommand with(
             final String aName,
             final String aDescription,
             final boolean isActive
     ){
-        return new CreateCategoryCommand(aName, aDescription, isActive);
+        return new CreateCategoryCommand(aName, aDescription, isActive, null);
+    }
+
+    public static CreateCategoryCommand with(
+            final String aName,
+            final String aDescription,
+            final boolean isActive,
+            final String anIdempotencyKey
+    ){
+        return new CreateCategoryCommand(aName, aDescription, isActive, anIdempotencyKey);
     }
 }
@@ -0,0 +1,24 @@
+package com.ramoncgusmao.admin.catalogo.application.category.create;
+
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class DefaultAsyncCreateCategoryUseCase extends AsyncCreateCategoryUseCase {
+
+	private final CreateCategoryUseCase createCategoryUseCase;
+	private final Executor executor;
+
+	public DefaultAsyncCreateCategoryUseCase(final CreateCategoryUseCase createCategoryUseCase, final Executor executor) {
+		this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	@Override
+	public CompletableFuture<Either<Notification, CreateCategoryOutput>> execute(final CreateCategoryCommand aCommand) {
+		return CompletableFuture.supplyAsync(() -> this.createCategoryUseCase.execute(aCommand), this.executor);
+	}
+}
@@ -0,0 +1,65 @@
+package com.ramoncgusmao.admin.catalogo.application.category.create;
+
+import com.ramoncgusmao.admin.catalogo.application.metrics.ValidationEvent;
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static io.vavr.API.Try;
+
+public class DefaultCreateCategoriesBatchUseCase extends CreateCategoriesBatchUseCase {
+
+	private final CategoryGateway categoryGateway;
+
+	public DefaultCreateCategoriesBatchUseCase(final CategoryGateway categoryGateway) {
+		this.categoryGateway = Objects.requireNonNull(categoryGateway);
+	}
+
+	@Override
+	public CreateCategoriesBatchOutput execute(final List<CreateCategoryCommand> aCommands) {
+		final var results = new ArrayList<Either<Notification, CreateCategoryOutput>>(aCommands.size());
+		final var validCategories = new ArrayList<Category>(aCommands.size());
+		final var validPositions = new ArrayList<Integer>(aCommands.size());
+
+		for (final var aCommand : aCommands) {
+			final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+			final var notification = Notification.create();
+			ValidationEvent.validate(aCategory, notification);
+
+			if (notification.hasError()) {
+				results.add(Left(notification));
+			} else {
+				validPositions.add(results.size());
+				validCategories.add(aCategory);
+				results.add(null);
+			}
+		}
+
+		if (!validCategories.isEmpty()) {
+			createAll(validCategories, validPositions, results);
+		}
+		return CreateCategoriesBatchOutput.from(results);
+	}
+
+	private void createAll(
+			final List<Category> aCategories,
+			final List<Integer> aPositions,
+			final List<Either<Notification, CreateCategoryOutput>> results
+	) {
+		Try(() -> this.categoryGateway.createAll(aCategories))
+				.toEither()
+				.peekLeft(t -> aPositions.forEach(position -> results.set(position, Left(Notification.create(t)))))
+				.peek(created -> {
+					for (int i = 0; i < aPositions.size(); i++) {
+						results.set(aPositions.get(i), Right(CreateCategoryOutput.from(created.get(i))));
+					}
+				});
+	}
+}
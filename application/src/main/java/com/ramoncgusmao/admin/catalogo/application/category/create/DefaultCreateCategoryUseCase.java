@@ -1,5 +1,6 @@
 package com.ramoncgusmao.admin.catalogo.application.category.create;
 
+import com.ramoncgusmao.admin.catalogo.application.metrics.ValidationEvent;
 import com.ramoncgusmao.admin.catalogo.domain.category.Category;
 import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
 import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
@@ -22,7 +23,7 @@ public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
 	public Either<Notification, CreateCategoryOutput> execute(final CreateCategoryCommand aCommand) {
 		final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
 		final var notification = Notification.create();
-		aCategory.validate(notification);
+		ValidationEvent.validate(aCategory, notification);
 
 
 		return notification.hasError() ? Left(notification) : create(aCategory);
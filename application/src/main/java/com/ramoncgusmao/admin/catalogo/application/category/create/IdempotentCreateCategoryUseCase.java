@@ -0,0 +1,50 @@
+package com.ramoncgusmao.admin.catalogo.application.category.create;
+
+import com.ramoncgusmao.admin.catalogo.application.Usecase;
+import com.ramoncgusmao.admin.catalogo.application.idempotency.IdempotencyKeyReusedException;
+import com.ramoncgusmao.admin.catalogo.application.idempotency.IdempotencyStore;
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+
+import static io.vavr.API.Left;
+
+/**
+ * Runs a create command at most once per {@link CreateCategoryCommand#idempotencyKey()} while the store remembers
+ * the key; retries get the original output back without reaching the decorated use case. Commands without a key go
+ * straight through. Only successful creations are remembered, so a retry after a validation or gateway error runs
+ * again.
+ */
+public class IdempotentCreateCategoryUseCase extends CreateCategoryUseCase {
+
+	public static final int MAX_KEY_LENGTH = 255;
+
+	private final Usecase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> createCategoryUseCase;
+	private final IdempotencyStore<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> store;
+
+	public IdempotentCreateCategoryUseCase(
+			final Usecase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> createCategoryUseCase,
+			final IdempotencyStore<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> store
+	) {
+		this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+		this.store = Objects.requireNonNull(store);
+	}
+
+	@Override
+	public Either<Notification, CreateCategoryOutput> execute(final CreateCategoryCommand aCommand) {
+		final var aKey = aCommand.idempotencyKey();
+		if (aKey == null) {
+			return this.createCategoryUseCase.execute(aCommand);
+		}
+		if (aKey.isBlank() || aKey.length() > MAX_KEY_LENGTH) {
+			return Left(Notification.create(new Error("'idempotencyKey' must be between 1 and %d characters".formatted(MAX_KEY_LENGTH))));
+		}
+		try {
+			return this.store.execute(aKey, aCommand, this.createCategoryUseCase::execute, Either::isRight);
+		} catch (final IdempotencyKeyReusedException ex) {
+			return Left(Notification.create(ex.getErrors().get(0)));
+		}
+	}
+}
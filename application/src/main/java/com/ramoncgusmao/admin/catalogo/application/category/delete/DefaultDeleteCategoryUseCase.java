@@ -0,0 +1,20 @@
+package com.ramoncgusmao.admin.catalogo.application.category.delete;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+
+import java.util.Objects;
+
+public class DefaultDeleteCategoryUseCase extends DeleteCategoryUseCase {
+
+	private final CategoryGateway categoryGateway;
+
+	public DefaultDeleteCategoryUseCase(final CategoryGateway categoryGateway) {
+		this.categoryGateway = Objects.requireNonNull(categoryGateway);
+	}
+
+	@Override
+	public void execute(final String anIN) {
+		this.categoryGateway.deleteById(CategoryID.from(anIN));
+	}
+}
@@ -0,0 +1,6 @@
+package com.ramoncgusmao.admin.catalogo.application.category.delete;
+
+import com.ramoncgusmao.admin.catalogo.application.UnitUsecase;
+
+public abstract class DeleteCategoryUseCase extends UnitUsecase<String> {
+}
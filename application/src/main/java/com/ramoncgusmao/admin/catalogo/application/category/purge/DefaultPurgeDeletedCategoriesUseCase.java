@@ -0,0 +1,45 @@
+package com.ramoncgusmao.admin.catalogo.application.category.purge;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.exception.VersionConflictException;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorQuery;
+
+import java.util.Objects;
+
+/**
+ * Walks the catalog with the gateway's keyset cursor and removes each expired category with a versioned delete, so a
+ * category reactivated after it was read is kept instead of lost.
+ */
+public class DefaultPurgeDeletedCategoriesUseCase extends PurgeDeletedCategoriesUseCase {
+
+	private static final String ORDER = "createdAt";
+
+	private final CategoryGateway categoryGateway;
+
+	public DefaultPurgeDeletedCategoriesUseCase(final CategoryGateway categoryGateway) {
+		this.categoryGateway = Objects.requireNonNull(categoryGateway);
+	}
+
+	@Override
+	public PurgeDeletedCategoriesOutput execute(final PurgeDeletedCategoriesCommand aCommand) {
+		final var aPage = this.categoryGateway.findAll(
+				new CursorQuery(aCommand.cursor(), aCommand.batchSize(), null, ORDER, "asc")
+		);
+
+		var purged = 0;
+		var conflicts = 0;
+		for (final var aCategory : aPage.items()) {
+			final var deletedAt = aCategory.getDeletedAt();
+			if (deletedAt == null || !deletedAt.isBefore(aCommand.deletedBefore())) {
+				continue;
+			}
+			try {
+				this.categoryGateway.deleteById(aCategory.getId(), aCategory.getVersion());
+				purged++;
+			} catch (final VersionConflictException ex) {
+				conflicts++;
+			}
+		}
+		return new PurgeDeletedCategoriesOutput(aPage.items().size(), purged, conflicts, aPage.nextCursor());
+	}
+}
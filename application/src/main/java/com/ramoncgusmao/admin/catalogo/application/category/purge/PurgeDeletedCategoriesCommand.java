@@ -0,0 +1,18 @@
+package com.ramoncgusmao.admin.catalogo.application.category.purge;
+
+import java.time.Instant;
+
+/**
+ * One step of a purge sweep: examine the next {@code batchSize} categories after {@code cursor}, in creation order,
+ * and remove those deleted before {@code deletedBefore}. A null cursor starts a new sweep.
+ */
+public record PurgeDeletedCategoriesCommand(
+		String cursor,
+		int batchSize,
+		Instant deletedBefore
+) {
+
+	public static PurgeDeletedCategoriesCommand with(final String aCursor, final int aBatchSize, final Instant aDeletedBefore) {
+		return new PurgeDeletedCategoriesCommand(aCursor, aBatchSize, aDeletedBefore);
+	}
+}
@@ -0,0 +1,17 @@
+package com.ramoncgusmao.admin.catalogo.application.category.purge;
+
+/**
+ * What one purge step did. {@code conflicts} counts categories that changed between the scan and the removal, and
+ * were kept; a null {@code nextCursor} means the sweep reached the end of the catalog.
+ */
+public record PurgeDeletedCategoriesOutput(
+		int scanned,
+		int purged,
+		int conflicts,
+		String nextCursor
+) {
+
+	public boolean isSweepComplete() {
+		return nextCursor == null;
+	}
+}
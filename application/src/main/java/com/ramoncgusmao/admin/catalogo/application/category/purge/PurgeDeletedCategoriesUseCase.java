@@ -0,0 +1,6 @@
+package com.ramoncgusmao.admin.catalogo.application.category.purge;
+
+import com.ramoncgusmao.admin.catalogo.application.Usecase;
+
+public abstract class PurgeDeletedCategoriesUseCase extends Usecase<PurgeDeletedCategoriesCommand, PurgeDeletedCategoriesOutput> {
+}
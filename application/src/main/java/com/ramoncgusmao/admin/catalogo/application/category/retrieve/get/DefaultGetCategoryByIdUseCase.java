@@ -0,0 +1,30 @@
+package com.ramoncgusmao.admin.catalogo.application.category.retrieve.get;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.domain.exception.NotFoundException;
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class DefaultGetCategoryByIdUseCase extends GetCategoryByIdUseCase {
+
+	private final CategoryGateway categoryGateway;
+
+	public DefaultGetCategoryByIdUseCase(final CategoryGateway categoryGateway) {
+		this.categoryGateway = Objects.requireNonNull(categoryGateway);
+	}
+
+	@Override
+	public CategoryOutput execute(final String anIN) {
+		final var anId = CategoryID.from(anIN);
+		return this.categoryGateway.findById(anId)
+				.map(CategoryOutput::from)
+				.orElseThrow(notFound(anId));
+	}
+
+	private static Supplier<NotFoundException> notFound(final CategoryID anId) {
+		return () -> NotFoundException.with(new Error("Category with %s was not found".formatted(anId.getValue())));
+	}
+}
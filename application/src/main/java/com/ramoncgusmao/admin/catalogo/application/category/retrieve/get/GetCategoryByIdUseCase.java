@@ -0,0 +1,6 @@
+package com.ramoncgusmao.admin.catalogo.application.category.retrieve.get;
+
+import com.ramoncgusmao.admin.catalogo.application.Usecase;
+
+public abstract class GetCategoryByIdUseCase extends Usecase<String, CategoryOutput> {
+}
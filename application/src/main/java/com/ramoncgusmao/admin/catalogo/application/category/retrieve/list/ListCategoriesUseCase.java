@@ -0,0 +1,8 @@
+package com.ramoncgusmao.admin.catalogo.application.category.retrieve.list;
+
+import com.ramoncgusmao.admin.catalogo.application.Usecase;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategorySearchQuery;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.Pagination;
+
+public abstract class ListCategoriesUseCase extends Usecase<CategorySearchQuery, Pagination<CategoryListOutput>> {
+}
@@ -0,0 +1,8 @@
+package com.ramoncgusmao.admin.catalogo.application.category.update;
+
+import com.ramoncgusmao.admin.catalogo.application.AsyncUsecase;
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class AsyncUpdateCategoryUseCase extends AsyncUsecase<UpdateCategoryCommand, Either<Notification, UpdateCategoryOutput>> {
+}
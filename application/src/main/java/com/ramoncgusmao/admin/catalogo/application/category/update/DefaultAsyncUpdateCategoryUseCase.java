@@ -0,0 +1,24 @@
+package com.ramoncgusmao.admin.catalogo.application.category.update;
+
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class DefaultAsyncUpdateCategoryUseCase extends AsyncUpdateCategoryUseCase {
+
+	private final UpdateCategoryUseCase updateCategoryUseCase;
+	private final Executor executor;
+
+	public DefaultAsyncUpdateCategoryUseCase(final UpdateCategoryUseCase updateCategoryUseCase, final Executor executor) {
+		this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	@Override
+	public CompletableFuture<Either<Notification, UpdateCategoryOutput>> execute(final UpdateCategoryCommand aCommand) {
+		return CompletableFuture.supplyAsync(() -> this.updateCategoryUseCase.execute(aCommand), this.executor);
+	}
+}
@@ -1,21 +1,33 @@
 package com.ramoncgusmao.admin.catalogo.application.category.update;
 
+import com.ramoncgusmao.admin.catalogo.application.metrics.ValidationEvent;
 import com.ramoncgusmao.admin.catalogo.domain.category.Category;
 import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
 import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
-import com.ramoncgusmao.admin.catalogo.domain.exception.DomainException;
+import com.ramoncgusmao.admin.catalogo.domain.exception.NotFoundException;
+import com.ramoncgusmao.admin.catalogo.domain.exception.VersionConflictException;
 import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
 import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
 import io.vavr.control.Either;
 
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Supplier;
 
 import static io.vavr.API.Left;
 import static io.vavr.API.Try;
 
+/**
+ * Applies the command to a freshly read category and stores it with a version check. When another writer got there
+ * first, the read-modify-write is retried a bounded number of times with a short random pause, then reported as a
+ * notification.
+ */
 public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
 
+	static final int MAX_ATTEMPTS = 3;
+	private static final long MAX_BACKOFF_NANOS = 200_000;
+
 	private final CategoryGateway categoryGateway;
 
 	public DefaultUpdateCategoryUseCase(final CategoryGateway categoryGateway) {
@@ -27,21 +39,27 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
 
 		final var anId = CategoryID.from(anCategory.id());
 
-		final var notification = Notification.create();
-		final var aCategory = this.categoryGateway.findById(anId).orElseThrow(notFoundCategoryID(anId));
-		aCategory.update(anCategory.name(), anCategory.description(), anCategory.isActive()).validate(notification);
+		for (int attempt = 1; ; attempt++) {
+			final var notification = Notification.create();
+			final var aCategory = this.categoryGateway.findById(anId).orElseThrow(notFoundCategoryID(anId));
+			ValidationEvent.validate(aCategory.update(anCategory.name(), anCategory.description(), anCategory.isActive()), notification);
+			if (notification.hasError()) {
+				return Left(notification);
+			}
 
-		return notification.hasError() ? Left(notification) : update(aCategory);
+			final var result = update(aCategory);
+			if (result.isRight() || !(result.getLeft() instanceof VersionConflictException) || attempt >= MAX_ATTEMPTS) {
+				return result.bimap(Notification::create, UpdateCategoryOutput::from);
+			}
+			LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(MAX_BACKOFF_NANOS * attempt));
+		}
 	}
 
-	private Either<Notification, UpdateCategoryOutput> update(final Category aCategory) {
-		return Try(() -> this.categoryGateway.update(aCategory))
-				.toEither()
-				.bimap(Notification::create, UpdateCategoryOutput::from);
-
+	private Either<Throwable, Category> update(final Category aCategory) {
+		return Try(() -> this.categoryGateway.update(aCategory)).toEither();
 	}
 
-	private static Supplier<DomainException> notFoundCategoryID(final CategoryID anId) {
-		return () -> DomainException.with(new Error("Category with %s was not found".formatted(anId.getValue())));
+	private static Supplier<NotFoundException> notFoundCategoryID(final CategoryID anId) {
+		return () -> NotFoundException.with(new Error("Category with %s was not found".formatted(anId.getValue())));
 	}
 }
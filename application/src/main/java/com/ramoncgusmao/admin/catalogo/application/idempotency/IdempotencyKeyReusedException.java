@@ -0,0 +1,18 @@
+package com.ramoncgusmao.admin.catalogo.application.idempotency;
+
+import com.ramoncgusmao.admin.catalogo.domain.exception.DomainException;
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public class IdempotencyKeyReusedException extends DomainException {
+
+	protected IdempotencyKeyReusedException(final String aMessage, final List<Error> anErrors) {
+		super(aMessage, anErrors);
+	}
+
+	public static IdempotencyKeyReusedException with(final String aKey) {
+		final var anError = new Error("Idempotency key '%s' was already used with a different request".formatted(aKey));
+		return new IdempotencyKeyReusedException(anError.message(), List.of(anError));
+	}
+}
@@ -0,0 +1,160 @@
+package com.ramoncgusmao.admin.catalogo.application.idempotency;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Bounded, time-expiring memory of results keyed by a client supplied idempotency key.
+ * <p>
+ * The first caller of a key claims it and runs the action; callers arriving while it runs wait for the same result
+ * instead of running it again. Results accepted by the {@code isKept} predicate are remembered for the time to live,
+ * counted from completion, and handed back to later callers of the key; other results are shared with the callers
+ * already waiting and then forgotten, so the next retry runs again. At most {@code maxKeys} keys are held, dropping
+ * the oldest first. A key stays bound to the input it was first used with, and reusing it with another input throws
+ * {@link IdempotencyKeyReusedException}.
+ */
+public class IdempotencyStore<IN, OUT> {
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final LinkedHashMap<String, Entry<IN, OUT>> entries = new LinkedHashMap<>();
+	private final int maxKeys;
+	private final long ttlNanos;
+	private final LongSupplier nanoClock;
+
+	public IdempotencyStore(final int maxKeys, final Duration ttl, final LongSupplier nanoClock) {
+		if (maxKeys < 1) {
+			throw new IllegalArgumentException("'maxKeys' must be at least 1");
+		}
+		if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+			throw new IllegalArgumentException("'ttl' must be positive");
+		}
+		this.maxKeys = maxKeys;
+		this.ttlNanos = ttl.toNanos();
+		this.nanoClock = Objects.requireNonNull(nanoClock);
+	}
+
+	public static <IN, OUT> IdempotencyStore<IN, OUT> create(final int maxKeys, final Duration ttl) {
+		return new IdempotencyStore<>(maxKeys, ttl, System::nanoTime);
+	}
+
+	public OUT execute(
+			final String aKey,
+			final IN anInput,
+			final Function<? super IN, ? extends OUT> anAction,
+			final Predicate<? super OUT> isKept
+	) {
+		final var mine = new Entry<IN, OUT>(anInput);
+		final var anEntry = claim(Objects.requireNonNull(aKey), mine);
+		if (!Objects.equals(anEntry.input, anInput)) {
+			throw IdempotencyKeyReusedException.with(aKey);
+		}
+		return anEntry == mine ? run(aKey, mine, anAction, isKept) : await(anEntry);
+	}
+
+	public int size() {
+		this.lock.lock();
+		try {
+			return this.entries.size();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private Entry<IN, OUT> claim(final String aKey, final Entry<IN, OUT> aCandidate) {
+		this.lock.lock();
+		try {
+			final var now = this.nanoClock.getAsLong();
+			final var existing = this.entries.get(aKey);
+			if (existing != null && !existing.isExpired(now)) {
+				return existing;
+			}
+			this.entries.remove(aKey);
+			evict(now);
+			this.entries.put(aKey, aCandidate);
+			return aCandidate;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void evict(final long now) {
+		final var iterator = this.entries.values().iterator();
+		while (iterator.hasNext()) {
+			final var eldest = iterator.next();
+			if (this.entries.size() < this.maxKeys && !eldest.isExpired(now)) {
+				return;
+			}
+			iterator.remove();
+		}
+	}
+
+	private OUT run(
+			final String aKey,
+			final Entry<IN, OUT> anEntry,
+			final Function<? super IN, ? extends OUT> anAction,
+			final Predicate<? super OUT> isKept
+	) {
+		final OUT anOutput;
+		try {
+			anOutput = anAction.apply(anEntry.input);
+		} catch (final RuntimeException | Error ex) {
+			release(aKey, anEntry, false);
+			anEntry.result.completeExceptionally(ex);
+			throw ex;
+		}
+		release(aKey, anEntry, isKept.test(anOutput));
+		anEntry.result.complete(anOutput);
+		return anOutput;
+	}
+
+	private void release(final String aKey, final Entry<IN, OUT> anEntry, final boolean keep) {
+		this.lock.lock();
+		try {
+			if (keep) {
+				anEntry.expiresAt = this.nanoClock.getAsLong() + this.ttlNanos;
+				anEntry.completed = true;
+			} else {
+				this.entries.remove(aKey, anEntry);
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private OUT await(final Entry<IN, OUT> anEntry) {
+		try {
+			return anEntry.result.join();
+		} catch (final CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (ex.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+	}
+
+	private static final class Entry<IN, OUT> {
+
+		private final IN input;
+		private final CompletableFuture<OUT> result = new CompletableFuture<>();
+		private boolean completed;
+		private long expiresAt;
+
+		private Entry(final IN input) {
+			this.input = input;
+		}
+
+		private boolean isExpired(final long now) {
+			return this.completed && now - this.expiresAt >= 0;
+		}
+	}
+}
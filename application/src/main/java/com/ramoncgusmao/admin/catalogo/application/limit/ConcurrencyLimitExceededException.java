@@ -0,0 +1,17 @@
+package com.ramoncgusmao.admin.catalogo.application.limit;
+
+import com.ramoncgusmao.admin.catalogo.domain.exception.DomainException;
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public class ConcurrencyLimitExceededException extends DomainException {
+
+	protected ConcurrencyLimitExceededException(final String aMessage, final List<Error> anErrors) {
+		super(aMessage, anErrors);
+	}
+
+	public static ConcurrencyLimitExceededException with(final Error anError) {
+		return new ConcurrencyLimitExceededException(anError.message(), List.of(anError));
+	}
+}
@@ -0,0 +1,56 @@
+package com.ramoncgusmao.admin.catalogo.application.limit;
+
+import java.time.Duration;
+
+/**
+ * @param initialLimit     concurrent executions admitted before any latency was observed
+ * @param minLimit         floor the limit never backs off below
+ * @param maxLimit         ceiling the limit never grows above
+ * @param maxQueued        callers allowed to wait for a slot once the limit is reached; zero rejects at once
+ * @param maxWait          how long a queued caller waits for a slot before it is rejected
+ * @param latencyThreshold executions slower than this shrink the limit, faster ones let it grow
+ * @param backoffRatio     factor applied to the limit after each slow execution
+ */
+public record ConcurrencyLimitOptions(
+		int initialLimit,
+		int minLimit,
+		int maxLimit,
+		int maxQueued,
+		Duration maxWait,
+		Duration latencyThreshold,
+		double backoffRatio
+) {
+
+	public ConcurrencyLimitOptions {
+		if (minLimit < 1) {
+			throw new IllegalArgumentException("'minLimit' must be at least 1");
+		}
+		if (initialLimit < minLimit || initialLimit > maxLimit) {
+			throw new IllegalArgumentException("'initialLimit' must be between 'minLimit' and 'maxLimit'");
+		}
+		if (maxQueued < 0) {
+			throw new IllegalArgumentException("'maxQueued' must not be negative");
+		}
+		if (maxWait == null || maxWait.isNegative()) {
+			throw new IllegalArgumentException("'maxWait' must not be negative");
+		}
+		if (latencyThreshold == null || latencyThreshold.isZero() || latencyThreshold.isNegative()) {
+			throw new IllegalArgumentException("'latencyThreshold' must be positive");
+		}
+		if (!(backoffRatio > 0 && backoffRatio < 1)) {
+			throw new IllegalArgumentException("'backoffRatio' must be between 0 and 1");
+		}
+	}
+
+	public static ConcurrencyLimitOptions with(final Duration aLatencyThreshold) {
+		return new ConcurrencyLimitOptions(20, 4, 200, 50, Duration.ofMillis(50), aLatencyThreshold, 0.9);
+	}
+
+	public ConcurrencyLimitOptions withLimits(final int anInitialLimit, final int aMinLimit, final int aMaxLimit) {
+		return new ConcurrencyLimitOptions(anInitialLimit, aMinLimit, aMaxLimit, maxQueued, maxWait, latencyThreshold, backoffRatio);
+	}
+
+	public ConcurrencyLimitOptions withQueue(final int aMaxQueued, final Duration aMaxWait) {
+		return new ConcurrencyLimitOptions(initialLimit, minLimit, maxLimit, aMaxQueued, aMaxWait, latencyThreshold, backoffRatio);
+	}
+}
@@ -0,0 +1,9 @@
+package com.ramoncgusmao.admin.catalogo.application.limit;
+
+public record ConcurrencyLimitStats(
+		int limit,
+		int inFlight,
+		int queued,
+		long rejected
+) {
+}
@@ -0,0 +1,108 @@
+package com.ramoncgusmao.admin.catalogo.application.limit;
+
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that adapts to observed latency, with a bounded wait queue.
+ * <p>
+ * The limit follows additive increase, multiplicative decrease: an execution that finishes within the latency
+ * threshold while at least half the limit was in use raises it by {@code 1 / limit}, about one slot per full window,
+ * and a slower one multiplies it by the backoff ratio. Callers over the limit wait in a queue of at most
+ * {@code maxQueued} for up to {@code maxWait}; everyone else is refused at once, so overload turns into fast
+ * rejections instead of latency growing for every caller.
+ */
+public class ConcurrencyLimiter {
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition slots = this.lock.newCondition();
+	private final ConcurrencyLimitOptions options;
+	private final long latencyThresholdNanos;
+	private final long maxWaitNanos;
+
+	private double limit;
+	private int inFlight;
+	private int queued;
+	private long rejected;
+
+	public ConcurrencyLimiter(final ConcurrencyLimitOptions options) {
+		this.options = Objects.requireNonNull(options);
+		this.latencyThresholdNanos = options.latencyThreshold().toNanos();
+		this.maxWaitNanos = options.maxWait().toNanos();
+		this.limit = options.initialLimit();
+	}
+
+	/**
+	 * Takes a slot, waiting in the queue when the limit is reached. Every {@code true} must be followed by exactly one
+	 * {@link #release(long)}.
+	 */
+	public boolean tryAcquire() {
+		this.lock.lock();
+		try {
+			if (this.queued == 0 && this.inFlight < (int) this.limit) {
+				this.inFlight++;
+				return true;
+			}
+			if (this.queued >= this.options.maxQueued() || this.maxWaitNanos == 0) {
+				this.rejected++;
+				return false;
+			}
+			return awaitSlot();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Gives the slot back and adjusts the limit to the latency of the execution that held it.
+	 */
+	public void release(final long aLatencyNanos) {
+		this.lock.lock();
+		try {
+			final var used = this.inFlight--;
+			if (aLatencyNanos > this.latencyThresholdNanos) {
+				this.limit = Math.max(this.options.minLimit(), this.limit * this.options.backoffRatio());
+			} else if (used >= this.limit / 2) {
+				this.limit = Math.min(this.options.maxLimit(), this.limit + 1 / this.limit);
+			}
+			final var available = Math.min((int) this.limit - this.inFlight, this.queued);
+			for (int i = 0; i < available; i++) {
+				this.slots.signal();
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	public ConcurrencyLimitStats stats() {
+		this.lock.lock();
+		try {
+			return new ConcurrencyLimitStats((int) this.limit, this.inFlight, this.queued, this.rejected);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private boolean awaitSlot() {
+		this.queued++;
+		try {
+			var remaining = this.maxWaitNanos;
+			while (this.inFlight >= (int) this.limit) {
+				if (remaining <= 0) {
+					this.rejected++;
+					return false;
+				}
+				remaining = this.slots.awaitNanos(remaining);
+			}
+			this.inFlight++;
+			return true;
+		} catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			this.rejected++;
+			return false;
+		} finally {
+			this.queued--;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.ramoncgusmao.admin.catalogo.application.limit;
+
+import com.ramoncgusmao.admin.catalogo.application.NullaryUsecase;
+import com.ramoncgusmao.admin.catalogo.application.UnitUsecase;
+import com.ramoncgusmao.admin.catalogo.application.Usecase;
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import static io.vavr.API.Left;
+
+/**
+ * Registry of {@link ConcurrencyLimiter}s, one per use case name, all built from the same options.
+ * <p>
+ * The {@code limit} methods wrap a use case so that every {@code execute} first takes a slot from the limiter of its
+ * name and throws {@link ConcurrencyLimitExceededException} when none is granted. {@link #limitEither(String, Usecase)}
+ * answers the rejection with a {@link Notification} instead, for use cases that already report errors that way.
+ * Without an explicit name the simple name of the use case class is used, as in the use case metrics.
+ */
+public class ConcurrencyLimits {
+
+	private final ConcurrentMap<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+	private final ConcurrencyLimitOptions options;
+	private final LongSupplier nanoClock;
+
+	public ConcurrencyLimits(final ConcurrencyLimitOptions options, final LongSupplier nanoClock) {
+		this.options = Objects.requireNonNull(options);
+		this.nanoClock = Objects.requireNonNull(nanoClock);
+	}
+
+	public static ConcurrencyLimits create(final ConcurrencyLimitOptions options) {
+		return new ConcurrencyLimits(options, System::nanoTime);
+	}
+
+	public Optional<ConcurrencyLimiter> limiterOf(final String aName) {
+		return Optional.ofNullable(this.limiters.get(aName));
+	}
+
+	public <IN, OUT> Usecase<IN, OUT> limit(final Usecase<IN, OUT> aUsecase) {
+		return limit(nameOf(aUsecase.getClass()), aUsecase);
+	}
+
+	public <IN, OUT> Usecase<IN, OUT> limit(final String aName, final Usecase<IN, OUT> aUsecase) {
+		final var aLimiter = limiterFor(aName);
+		return new Usecase<>() {
+			@Override
+			public OUT execute(final IN anIN) {
+				acquire(aLimiter, aName);
+				final var start = nanoClock.getAsLong();
+				try {
+					return aUsecase.execute(anIN);
+				} finally {
+					aLimiter.release(nanoClock.getAsLong() - start);
+				}
+			}
+		};
+	}
+
+	public <IN, OUT> Usecase<IN, Either<Notification, OUT>> limitEither(
+			final String aName,
+			final Usecase<IN, Either<Notification, OUT>> aUsecase
+	) {
+		final var aLimiter = limiterFor(aName);
+		return new Usecase<>() {
+			@Override
+			public Either<Notification, OUT> execute(final IN anIN) {
+				if (!aLimiter.tryAcquire()) {
+					return Left(Notification.create(overloaded(aName)));
+				}
+				final var start = nanoClock.getAsLong();
+				try {
+					return aUsecase.execute(anIN);
+				} finally {
+					aLimiter.release(nanoClock.getAsLong() - start);
+				}
+			}
+		};
+	}
+
+	public <IN> UnitUsecase<IN> limit(final UnitUsecase<IN> aUsecase) {
+		return limit(nameOf(aUsecase.getClass()), aUsecase);
+	}
+
+	public <IN> UnitUsecase<IN> limit(final String aName, final UnitUsecase<IN> aUsecase) {
+		final var aLimiter = limiterFor(aName);
+		return new UnitUsecase<>() {
+			@Override
+			public void execute(final IN anIN) {
+				acquire(aLimiter, aName);
+				final var start = nanoClock.getAsLong();
+				try {
+					aUsecase.execute(anIN);
+				} finally {
+					aLimiter.release(nanoClock.getAsLong() - start);
+				}
+			}
+		};
+	}
+
+	public <OUT> NullaryUsecase<OUT> limit(final NullaryUsecase<OUT> aUsecase) {
+		return limit(nameOf(aUsecase.getClass()), aUsecase);
+	}
+
+	public <OUT> NullaryUsecase<OUT> limit(final String aName, final NullaryUsecase<OUT> aUsecase) {
+		final var aLimiter = limiterFor(aName);
+		return new NullaryUsecase<>() {
+			@Override
+			public OUT execute() {
+				acquire(aLimiter, aName);
+				final var start = nanoClock.getAsLong();
+				try {
+					return aUsecase.execute();
+				} finally {
+					aLimiter.release(nanoClock.getAsLong() - start);
+				}
+			}
+		};
+	}
+
+	private static void acquire(final ConcurrencyLimiter aLimiter, final String aName) {
+		if (!aLimiter.tryAcquire()) {
+			throw ConcurrencyLimitExceededException.with(overloaded(aName));
+		}
+	}
+
+	private static Error overloaded(final String aName) {
+		return new Error("%s is over its concurrency limit, try again later".formatted(aName));
+	}
+
+	private ConcurrencyLimiter limiterFor(final String aName) {
+		return this.limiters.computeIfAbsent(Objects.requireNonNull(aName), aKey -> new ConcurrencyLimiter(this.options));
+	}
+
+	private static String nameOf(final Class<?> aType) {
+		final var aSimpleName = aType.getSimpleName();
+		return aSimpleName.isEmpty() ? aType.getName() : aSimpleName;
+	}
+}
@@ -0,0 +1,112 @@
+package com.ramoncgusmao.admin.catalogo.application.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, in the spirit of HdrHistogram.
+ * <p>
+ * Values below {@value #SUB_BUCKETS} get a bucket each; above that, every power of two is split into
+ * {@value #SUB_BUCKETS} equal buckets, so any reported value is within 1% of a recorded one. Recording is a bucket
+ * index computed from the leading zeros plus one atomic increment, with no allocation. Values above
+ * {@link #MAX_VALUE} nanoseconds (about five hours) are clamped.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 7;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 44;
+
+	static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray(indexOf(MAX_VALUE) + 1);
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	public void record(final long aValue) {
+		final var value = Math.min(Math.max(aValue, 0), MAX_VALUE);
+		this.counts.incrementAndGet(indexOf(value));
+		this.sum.add(value);
+		long current;
+		while (value > (current = this.max.get()) && !this.max.compareAndSet(current, value)) {
+			Thread.onSpinWait();
+		}
+	}
+
+	/**
+	 * Copies the buckets. Concurrent recordings may or may not be part of the copy, but each is counted once.
+	 */
+	public Snapshot snapshot() {
+		final var copy = new long[this.counts.length()];
+		long total = 0;
+		for (int i = 0; i < copy.length; i++) {
+			copy[i] = this.counts.get(i);
+			total += copy[i];
+		}
+		return new Snapshot(copy, total, this.sum.sum(), this.max.get());
+	}
+
+	static int indexOf(final long aValue) {
+		if (aValue < SUB_BUCKETS) {
+			return (int) aValue;
+		}
+		final var shift = 63 - Long.numberOfLeadingZeros(aValue) - SUB_BUCKET_BITS;
+		final var subBucket = (int) (aValue >>> shift) - SUB_BUCKETS;
+		return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+	}
+
+	static long highestEquivalentValue(final int anIndex) {
+		if (anIndex < SUB_BUCKETS) {
+			return anIndex;
+		}
+		final var shift = (anIndex - SUB_BUCKETS) / SUB_BUCKETS;
+		final var subBucket = (anIndex - SUB_BUCKETS) % SUB_BUCKETS;
+		return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+	}
+
+	public static final class Snapshot {
+
+		private final long[] counts;
+		private final long count;
+		private final long sum;
+		private final long max;
+
+		private Snapshot(final long[] counts, final long count, final long sum, final long max) {
+			this.counts = counts;
+			this.count = count;
+			this.sum = sum;
+			this.max = max;
+		}
+
+		public long count() {
+			return count;
+		}
+
+		public long max() {
+			return max;
+		}
+
+		public double mean() {
+			return count == 0 ? 0 : (double) sum / count;
+		}
+
+		/**
+		 * Returns the highest value equivalent to the one at the given percentile, between 0 and 100.
+		 */
+		public long percentile(final double aPercentile) {
+			if (count == 0) {
+				return 0;
+			}
+			final var rank = Math.max(1, (long) Math.ceil(Math.min(aPercentile, 100) / 100 * count));
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= rank) {
+					return Math.min(highestEquivalentValue(i), max);
+				}
+			}
+			return max;
+		}
+	}
+}
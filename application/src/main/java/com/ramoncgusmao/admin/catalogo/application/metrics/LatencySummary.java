@@ -0,0 +1,66 @@
+package com.ramoncgusmao.admin.catalogo.application.metrics;
+
+/**
+ * Latency figures of one use case taken from a single histogram snapshot, so they agree with each other. Exposed over
+ * JMX as one composite attribute. Latencies are in nanoseconds.
+ */
+public final class LatencySummary {
+
+	private final long count;
+	private final double meanNanos;
+	private final long maxNanos;
+	private final long p50Nanos;
+	private final long p99Nanos;
+	private final long p999Nanos;
+
+	private LatencySummary(
+			final long count,
+			final double meanNanos,
+			final long maxNanos,
+			final long p50Nanos,
+			final long p99Nanos,
+			final long p999Nanos
+	) {
+		this.count = count;
+		this.meanNanos = meanNanos;
+		this.maxNanos = maxNanos;
+		this.p50Nanos = p50Nanos;
+		this.p99Nanos = p99Nanos;
+		this.p999Nanos = p999Nanos;
+	}
+
+	static LatencySummary of(final LatencyHistogram.Snapshot aSnapshot) {
+		return new LatencySummary(
+				aSnapshot.count(),
+				aSnapshot.mean(),
+				aSnapshot.max(),
+				aSnapshot.percentile(50),
+				aSnapshot.percentile(99),
+				aSnapshot.percentile(99.9)
+		);
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public double getMeanNanos() {
+		return meanNanos;
+	}
+
+	public long getMaxNanos() {
+		return maxNanos;
+	}
+
+	public long getP50Nanos() {
+		return p50Nanos;
+	}
+
+	public long getP99Nanos() {
+		return p99Nanos;
+	}
+
+	public long getP999Nanos() {
+		return p999Nanos;
+	}
+}
@@ -0,0 +1,32 @@
+package com.ramoncgusmao.admin.catalogo.application.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one measured use case execution, committed by {@link UseCaseMetrics}.
+ */
+@Name("catalogo.UseCase")
+@Label("Use Case")
+@Description("Execution of an application use case")
+@Category({"Catalogo", "Application"})
+@StackTrace(false)
+public class UseCaseEvent extends Event {
+
+	@Label("Use Case")
+	String useCase;
+
+	@Label("Outcome")
+	String outcome;
+
+	@Label("Error Count")
+	@Description("Errors in the notification of a rejected execution")
+	int errorCount;
+
+	@Label("Exception")
+	String exception;
+}
@@ -0,0 +1,165 @@
+package com.ramoncgusmao.admin.catalogo.application.metrics;
+
+import com.ramoncgusmao.admin.catalogo.application.NullaryUsecase;
+import com.ramoncgusmao.admin.catalogo.application.UnitUsecase;
+import com.ramoncgusmao.admin.catalogo.application.Usecase;
+import com.ramoncgusmao.admin.catalogo.application.metrics.UseCaseStats.Outcome;
+import com.ramoncgusmao.admin.catalogo.domain.validation.ValidationHandler;
+import io.vavr.control.Either;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of {@link UseCaseStats}, keyed by the simple name of the decorated use case class.
+ * <p>
+ * The {@code measure} methods wrap a use case so that every {@code execute} records its latency and outcome, and
+ * commits a {@link UseCaseEvent} when Flight Recorder has it enabled. The stats are created on first use and, when
+ * the registry was built {@link #registeredWith(MBeanServer) with an MBean server}, exposed under
+ * {@value #DOMAIN}{@code :type=UseCase,name=<class>}.
+ */
+public class UseCaseMetrics {
+
+	public static final String DOMAIN = "com.ramoncgusmao.admin.catalogo";
+
+	private final ConcurrentMap<String, UseCaseStats> stats = new ConcurrentHashMap<>();
+	private final MBeanServer server;
+
+	private UseCaseMetrics(final MBeanServer server) {
+		this.server = server;
+	}
+
+	public static UseCaseMetrics create() {
+		return new UseCaseMetrics(null);
+	}
+
+	public static UseCaseMetrics registeredWith(final MBeanServer aServer) {
+		return new UseCaseMetrics(Objects.requireNonNull(aServer));
+	}
+
+	public Optional<UseCaseStats> statsOf(final String aName) {
+		return Optional.ofNullable(this.stats.get(aName));
+	}
+
+	public <IN, OUT> Usecase<IN, OUT> measure(final Usecase<IN, OUT> aUsecase) {
+		final var aStats = statsFor(aUsecase.getClass());
+		return new Usecase<>() {
+			@Override
+			public OUT execute(final IN anIN) {
+				final var anEvent = new UseCaseEvent();
+				anEvent.begin();
+				final var start = System.nanoTime();
+				final OUT output;
+				try {
+					output = aUsecase.execute(anIN);
+				} catch (final RuntimeException | Error ex) {
+					failed(aStats, anEvent, start, ex);
+					throw ex;
+				}
+				completed(aStats, anEvent, start, output);
+				return output;
+			}
+		};
+	}
+
+	public <IN> UnitUsecase<IN> measure(final UnitUsecase<IN> aUsecase) {
+		final var aStats = statsFor(aUsecase.getClass());
+		return new UnitUsecase<>() {
+			@Override
+			public void execute(final IN anIN) {
+				final var anEvent = new UseCaseEvent();
+				anEvent.begin();
+				final var start = System.nanoTime();
+				try {
+					aUsecase.execute(anIN);
+				} catch (final RuntimeException | Error ex) {
+					failed(aStats, anEvent, start, ex);
+					throw ex;
+				}
+				completed(aStats, anEvent, start, null);
+			}
+		};
+	}
+
+	public <OUT> NullaryUsecase<OUT> measure(final NullaryUsecase<OUT> aUsecase) {
+		final var aStats = statsFor(aUsecase.getClass());
+		return new NullaryUsecase<>() {
+			@Override
+			public OUT execute() {
+				final var anEvent = new UseCaseEvent();
+				anEvent.begin();
+				final var start = System.nanoTime();
+				final OUT output;
+				try {
+					output = aUsecase.execute();
+				} catch (final RuntimeException | Error ex) {
+					failed(aStats, anEvent, start, ex);
+					throw ex;
+				}
+				completed(aStats, anEvent, start, output);
+				return output;
+			}
+		};
+	}
+
+	private static void completed(final UseCaseStats aStats, final UseCaseEvent anEvent, final long start, final Object anOutput) {
+		final var latency = System.nanoTime() - start;
+		anEvent.end();
+		if (anOutput instanceof Either<?, ?> anEither && anEither.isLeft()) {
+			aStats.record(Outcome.REJECTED, latency);
+			if (anEvent.shouldCommit()) {
+				anEvent.errorCount = anEither.getLeft() instanceof ValidationHandler aHandler ? aHandler.getErrors().size() : 1;
+				commit(anEvent, aStats, Outcome.REJECTED);
+			}
+		} else {
+			aStats.record(Outcome.SUCCESS, latency);
+			if (anEvent.shouldCommit()) {
+				commit(anEvent, aStats, Outcome.SUCCESS);
+			}
+		}
+	}
+
+	private static void failed(final UseCaseStats aStats, final UseCaseEvent anEvent, final long start, final Throwable anError) {
+		aStats.record(Outcome.ERROR, System.nanoTime() - start);
+		anEvent.end();
+		if (anEvent.shouldCommit()) {
+			anEvent.exception = anError.getClass().getName();
+			commit(anEvent, aStats, Outcome.ERROR);
+		}
+	}
+
+	private static void commit(final UseCaseEvent anEvent, final UseCaseStats aStats, final Outcome anOutcome) {
+		anEvent.useCase = aStats.getName();
+		anEvent.outcome = anOutcome.name();
+		anEvent.commit();
+	}
+
+	private UseCaseStats statsFor(final Class<?> aType) {
+		final var aSimpleName = aType.getSimpleName();
+		return this.stats.computeIfAbsent(aSimpleName.isEmpty() ? aType.getName() : aSimpleName, aName -> {
+			final var aStats = new UseCaseStats(aName);
+			register(aStats);
+			return aStats;
+		});
+	}
+
+	private void register(final UseCaseStats aStats) {
+		if (this.server == null) {
+			return;
+		}
+		try {
+			final var aName = new ObjectName(DOMAIN + ":type=UseCase,name=" + ObjectName.quote(aStats.getName()));
+			if (this.server.isRegistered(aName)) {
+				this.server.unregisterMBean(aName);
+			}
+			this.server.registerMBean(aStats, aName);
+		} catch (final JMException ex) {
+			throw new IllegalStateException("Could not register the metrics of " + aStats.getName(), ex);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.ramoncgusmao.admin.catalogo.application.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counters of one use case. An execution is rejected when it returns a {@code Left}, and an error
+ * when it throws.
+ */
+public class UseCaseStats implements UseCaseStatsMXBean {
+
+	private final String name;
+	private final LatencyHistogram latency = new LatencyHistogram();
+	private final LongAdder successes = new LongAdder();
+	private final LongAdder rejections = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+
+	UseCaseStats(final String name) {
+		this.name = name;
+	}
+
+	void record(final Outcome anOutcome, final long aLatency) {
+		this.latency.record(aLatency);
+		switch (anOutcome) {
+			case SUCCESS -> this.successes.increment();
+			case REJECTED -> this.rejections.increment();
+			case ERROR -> this.errors.increment();
+		}
+	}
+
+	public LatencyHistogram.Snapshot latency() {
+		return this.latency.snapshot();
+	}
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public long getCount() {
+		return getSuccessCount() + getRejectedCount() + getErrorCount();
+	}
+
+	@Override
+	public long getSuccessCount() {
+		return this.successes.sum();
+	}
+
+	@Override
+	public long getRejectedCount() {
+		return this.rejections.sum();
+	}
+
+	@Override
+	public long getErrorCount() {
+		return this.errors.sum();
+	}
+
+	@Override
+	public LatencySummary getLatency() {
+		return LatencySummary.of(latency());
+	}
+
+	public enum Outcome {
+		SUCCESS,
+		REJECTED,
+		ERROR
+	}
+}
@@ -0,0 +1,20 @@
+package com.ramoncgusmao.admin.catalogo.application.metrics;
+
+/**
+ * JMX view of one use case. The latency figures come as one composite attribute, so a poll copies the histogram once
+ * and its percentiles all describe the same moment.
+ */
+public interface UseCaseStatsMXBean {
+
+	String getName();
+
+	long getCount();
+
+	long getSuccessCount();
+
+	long getRejectedCount();
+
+	long getErrorCount();
+
+	LatencySummary getLatency();
+}
@@ -0,0 +1,83 @@
+package com.ramoncgusmao.admin.catalogo.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class AsyncUsecaseTest {
+
+	private final ExecutorService executor = UseCaseExecutors.newVirtualThreadPerTaskExecutor();
+
+	@AfterEach
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void givenASyncUsecase_whenCallsExecuteAsync_shouldRunItOnTheExecutor() {
+		final var caller = Thread.currentThread();
+		final var worker = new AtomicReference<Thread>();
+		final var aUsecase = AsyncUsecase.from(new Usecase<String, Integer>() {
+			@Override
+			public Integer execute(final String anIN) {
+				worker.set(Thread.currentThread());
+				return anIN.length();
+			}
+		}, executor);
+
+		Assertions.assertEquals(6, aUsecase.execute("Filmes").join());
+		Assertions.assertNotSame(caller, worker.get());
+	}
+
+	@Test
+	public void givenAFailingUsecase_whenCallsExecuteAsync_shouldCompleteExceptionally() {
+		final var expectedException = new IllegalStateException("Gateway error");
+		final var aUsecase = AsyncNullaryUsecase.from(new NullaryUsecase<String>() {
+			@Override
+			public String execute() {
+				throw expectedException;
+			}
+		}, executor);
+
+		final var actualException = Assertions.assertThrows(CompletionException.class, () -> aUsecase.execute().join());
+
+		Assertions.assertSame(expectedException, actualException.getCause());
+	}
+
+	@Test
+	public void givenBlockingUsecases_whenCallsExecuteAsyncConcurrently_shouldNotBeLimitedByAPoolSize() throws InterruptedException {
+		final var expectedConcurrency = 200;
+		final var started = new CountDownLatch(expectedConcurrency);
+		final var release = new CountDownLatch(1);
+		final var aUsecase = AsyncUnitUsecase.from(new UnitUsecase<Integer>() {
+			@Override
+			public void execute(final Integer anIN) {
+				started.countDown();
+				try {
+					release.await();
+				} catch (final InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}, executor);
+
+		final var futures = new ArrayList<CompletableFuture<Void>>();
+		for (int i = 0; i < expectedConcurrency; i++) {
+			futures.add(aUsecase.execute(i));
+		}
+
+		Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+		release.countDown();
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		Assertions.assertEquals(List.of(), futures.stream().filter(CompletableFuture::isCompletedExceptionally).toList());
+	}
+}
@@ -0,0 +1,99 @@
+package com.ramoncgusmao.admin.catalogo.application.category.create;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateCategoriesBatchUseCaseTest {
+
+	@InjectMocks
+	private DefaultCreateCategoriesBatchUseCase useCase;
+
+	@Mock
+	private CategoryGateway categoryGateway;
+
+	@Test
+	public void givenValidCommands_whenCallsCreateCategoriesBatch_shouldCreateAllInOneCall() {
+		final var aCommands = List.of(
+				CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+				CreateCategoryCommand.with("Series", null, false)
+		);
+
+		when(categoryGateway.createAll(Mockito.any())).thenAnswer(returnsFirstArg());
+
+		final var actualOutput = useCase.execute(aCommands);
+
+		Assertions.assertEquals(2, actualOutput.created());
+		Assertions.assertEquals(0, actualOutput.rejected());
+		actualOutput.items().forEach(anItem -> Assertions.assertNotNull(anItem.get().id()));
+
+		verify(categoryGateway, times(1)).createAll(Mockito.argThat(aCategories ->
+				aCategories.size() == 2
+						&& "Filmes".equals(aCategories.get(0).getName())
+						&& "Series".equals(aCategories.get(1).getName())
+						&& !aCategories.get(1).isActive()
+		));
+		verify(categoryGateway, times(0)).create(any());
+	}
+
+	@Test
+	public void givenValidAndInvalidCommands_whenCallsCreateCategoriesBatch_shouldReportPerItemResults() {
+		final var expectedErrorMessage = "'name' should not be null";
+		final var aCommands = List.of(
+				CreateCategoryCommand.with(null, "Sem nome", true),
+				CreateCategoryCommand.with("Filmes", null, true),
+				CreateCategoryCommand.with(" ", null, true)
+		);
+
+		when(categoryGateway.createAll(Mockito.any())).thenAnswer(returnsFirstArg());
+
+		final var actualOutput = useCase.execute(aCommands);
+
+		Assertions.assertEquals(3, actualOutput.items().size());
+		Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(0).getLeft().firstError().message());
+		Assertions.assertTrue(actualOutput.items().get(1).isRight());
+		Assertions.assertEquals("'name' should not be empty", actualOutput.items().get(2).getLeft().firstError().message());
+
+		verify(categoryGateway, times(1)).createAll(Mockito.argThat(aCategories ->
+				aCategories.size() == 1 && "Filmes".equals(aCategories.get(0).getName())
+		));
+	}
+
+	@Test
+	public void givenOnlyInvalidCommands_whenCallsCreateCategoriesBatch_shouldNotCallGateway() {
+		final var actualOutput = useCase.execute(List.of(CreateCategoryCommand.with("Fi", null, true)));
+
+		Assertions.assertEquals(1, actualOutput.rejected());
+		verify(categoryGateway, times(0)).createAll(any());
+	}
+
+	@Test
+	public void givenAGatewayError_whenCallsCreateCategoriesBatch_shouldFailEveryValidItem() {
+		final var expectedErrorMessage = "Gateway Error";
+		final var aCommands = List.of(
+				CreateCategoryCommand.with("Filmes", null, true),
+				CreateCategoryCommand.with(null, null, true),
+				CreateCategoryCommand.with("Series", null, true)
+		);
+
+		when(categoryGateway.createAll(Mockito.any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+		final var actualOutput = useCase.execute(aCommands);
+
+		Assertions.assertEquals(0, actualOutput.created());
+		Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(0).getLeft().firstError().message());
+		Assertions.assertEquals("'name' should not be null", actualOutput.items().get(1).getLeft().firstError().message());
+		Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(2).getLeft().firstError().message());
+	}
+}
@@ -0,0 +1,96 @@
+package com.ramoncgusmao.admin.catalogo.application.category.create;
+
+import com.ramoncgusmao.admin.catalogo.application.idempotency.IdempotencyStore;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class IdempotentCreateCategoryUseCaseTest {
+
+	@Mock
+	private CategoryGateway categoryGateway;
+
+	private IdempotentCreateCategoryUseCase useCase;
+
+	@BeforeEach
+	public void setUp() {
+		useCase = new IdempotentCreateCategoryUseCase(
+				new DefaultCreateCategoryUseCase(categoryGateway),
+				IdempotencyStore.create(100, Duration.ofMinutes(5))
+		);
+	}
+
+	@Test
+	public void givenARetriedCommand_whenCallsCreateCategory_shouldReturnTheOriginalIdWithoutCreatingAgain() {
+		final var aCommand = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true, "request-1");
+		when(categoryGateway.create(any())).thenAnswer(returnsFirstArg());
+
+		final var firstOutput = useCase.execute(aCommand).get();
+		final var retriedOutput = useCase.execute(CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true, "request-1")).get();
+
+		Assertions.assertEquals(firstOutput.id(), retriedOutput.id());
+		verify(categoryGateway, times(1)).create(any());
+	}
+
+	@Test
+	public void givenCommandsWithoutKey_whenCallsCreateCategory_shouldCreateEveryTime() {
+		final var aCommand = CreateCategoryCommand.with("Filmes", null, true);
+		when(categoryGateway.create(any())).thenAnswer(returnsFirstArg());
+
+		final var firstOutput = useCase.execute(aCommand).get();
+		final var secondOutput = useCase.execute(aCommand).get();
+
+		Assertions.assertNotEquals(firstOutput.id(), secondOutput.id());
+		verify(categoryGateway, times(2)).create(any());
+	}
+
+	@Test
+	public void givenAKeyReusedForAnotherCategory_whenCallsCreateCategory_shouldReturnNotification() {
+		when(categoryGateway.create(any())).thenAnswer(returnsFirstArg());
+		useCase.execute(CreateCategoryCommand.with("Filmes", null, true, "request-1"));
+
+		final var notification = useCase.execute(CreateCategoryCommand.with("Series", null, true, "request-1")).getLeft();
+
+		Assertions.assertEquals(
+				"Idempotency key 'request-1' was already used with a different request",
+				notification.getErrors().get(0).message()
+		);
+		verify(categoryGateway, times(1)).create(any());
+	}
+
+	@Test
+	public void givenAGatewayError_whenRetriesWithTheSameKey_shouldCreateAgain() {
+		final var aCommand = CreateCategoryCommand.with("Filmes", null, true, "request-1");
+		when(categoryGateway.create(any()))
+				.thenThrow(new IllegalStateException("Gateway error"))
+				.thenAnswer(returnsFirstArg());
+
+		final var failed = useCase.execute(aCommand);
+		final var retried = useCase.execute(aCommand);
+
+		Assertions.assertEquals("Gateway error", failed.getLeft().getErrors().get(0).message());
+		Assertions.assertTrue(retried.isRight());
+		verify(categoryGateway, times(2)).create(any());
+	}
+
+	@Test
+	public void givenABlankKey_whenCallsCreateCategory_shouldReturnNotificationWithoutCreating() {
+		final var notification = useCase.execute(CreateCategoryCommand.with("Filmes", null, true, " ")).getLeft();
+
+		Assertions.assertEquals("'idempotencyKey' must be between 1 and 255 characters", notification.getErrors().get(0).message());
+		verify(categoryGateway, times(0)).create(any());
+	}
+}
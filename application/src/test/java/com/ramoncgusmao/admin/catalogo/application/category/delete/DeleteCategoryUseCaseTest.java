@@ -0,0 +1,48 @@
+package com.ramoncgusmao.admin.catalogo.application.category.delete;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteCategoryUseCaseTest {
+
+	@InjectMocks
+	private DefaultDeleteCategoryUseCase useCase;
+
+	@Mock
+	private CategoryGateway categoryGateway;
+
+	@Test
+	public void givenAValidId_whenCallsDeleteCategory_shouldDeleteIt() {
+		final var expectedId = CategoryID.unique();
+
+		useCase.execute(expectedId.getValue());
+
+		verify(categoryGateway, times(1)).deleteById(eq(expectedId));
+	}
+
+	@Test
+	public void givenAGatewayError_whenCallsDeleteCategory_shouldPropagateIt() {
+		final var expectedId = CategoryID.unique();
+
+		doThrow(new IllegalStateException("Gateway error")).when(categoryGateway).deleteById(eq(expectedId));
+
+		final var actualException = Assertions.assertThrows(
+				IllegalStateException.class,
+				() -> useCase.execute(expectedId.getValue())
+		);
+
+		Assertions.assertEquals("Gateway error", actualException.getMessage());
+	}
+}
@@ -0,0 +1,78 @@
+package com.ramoncgusmao.admin.catalogo.application.category.purge;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.domain.exception.VersionConflictException;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorPagination;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorQuery;
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PurgeDeletedCategoriesUseCaseTest {
+
+	private static final Instant CUTOFF = Instant.parse("2024-06-01T00:00:00Z");
+
+	@InjectMocks
+	private DefaultPurgeDeletedCategoriesUseCase useCase;
+
+	@Mock
+	private CategoryGateway categoryGateway;
+
+	@Test
+	public void givenAPageWithExpiredCategories_whenCallsPurge_shouldDeleteOnlyThoseWithTheirVersion() {
+		final var expired = deletedAt(Instant.parse("2024-05-31T23:59:59Z"), 3);
+		final var recent = deletedAt(CUTOFF, 1);
+		final var active = Category.newCategory("Filmes", null, true);
+		when(categoryGateway.findAll(any(CursorQuery.class)))
+				.thenReturn(new CursorPagination<>(3, "next", List.of(expired, recent, active)));
+
+		final var actualOutput = useCase.execute(PurgeDeletedCategoriesCommand.with("current", 3, CUTOFF));
+
+		Assertions.assertEquals(new PurgeDeletedCategoriesOutput(3, 1, 0, "next"), actualOutput);
+		Assertions.assertFalse(actualOutput.isSweepComplete());
+		verify(categoryGateway, times(1)).findAll(eq(new CursorQuery("current", 3, null, "createdAt", "asc")));
+		verify(categoryGateway, times(1)).deleteById(eq(expired.getId()), eq(3L));
+		verify(categoryGateway, never()).deleteById(eq(recent.getId()), anyLong());
+		verify(categoryGateway, never()).deleteById(eq(active.getId()), anyLong());
+	}
+
+	@Test
+	public void givenACategoryChangedAfterTheScan_whenCallsPurge_shouldKeepItAndCountTheConflict() {
+		final var reactivated = deletedAt(Instant.parse("2024-01-01T00:00:00Z"), 0);
+		final var expired = deletedAt(Instant.parse("2024-01-02T00:00:00Z"), 0);
+		when(categoryGateway.findAll(any(CursorQuery.class)))
+				.thenReturn(new CursorPagination<>(10, null, List.of(reactivated, expired)));
+		doThrow(VersionConflictException.with(new Error("conflict")))
+				.when(categoryGateway).deleteById(eq(reactivated.getId()), eq(0L));
+
+		final var actualOutput = useCase.execute(PurgeDeletedCategoriesCommand.with(null, 10, CUTOFF));
+
+		Assertions.assertEquals(new PurgeDeletedCategoriesOutput(2, 1, 1, null), actualOutput);
+		Assertions.assertTrue(actualOutput.isSweepComplete());
+		verify(categoryGateway, times(1)).deleteById(eq(expired.getId()), eq(0L));
+	}
+
+	private static Category deletedAt(final Instant aDeletedAt, final long aVersion) {
+		final var createdAt = Instant.parse("2023-01-01T00:00:00Z");
+		return Category.with(CategoryID.unique(), "Filmes", null, false, createdAt, aDeletedAt, aDeletedAt, aVersion);
+	}
+}
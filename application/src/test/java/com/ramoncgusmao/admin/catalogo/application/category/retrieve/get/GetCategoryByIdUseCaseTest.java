@@ -0,0 +1,62 @@
+package com.ramoncgusmao.admin.catalogo.application.category.retrieve.get;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.domain.exception.NotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class GetCategoryByIdUseCaseTest {
+
+	@InjectMocks
+	private DefaultGetCategoryByIdUseCase useCase;
+
+	@Mock
+	private CategoryGateway categoryGateway;
+
+	@Test
+	public void givenAnExistingId_whenCallsGetCategory_shouldReturnIt() {
+		final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+		final var expectedId = aCategory.getId();
+
+		when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory.clone()));
+
+		final var actualOutput = useCase.execute(expectedId.getValue());
+
+		Assertions.assertEquals(expectedId, actualOutput.id());
+		Assertions.assertEquals("Filmes", actualOutput.name());
+		Assertions.assertEquals("A categoria mais assistida", actualOutput.description());
+		Assertions.assertTrue(actualOutput.isActive());
+		Assertions.assertEquals(aCategory.getCreatedAt(), actualOutput.createdAt());
+		Assertions.assertEquals(aCategory.getUpdatedAt(), actualOutput.updatedAt());
+		Assertions.assertNull(actualOutput.deletedAt());
+	}
+
+	@Test
+	public void givenAnUnknownId_whenCallsGetCategory_shouldThrowNotFound() {
+		final var expectedId = CategoryID.unique();
+
+		when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.empty());
+
+		final var actualException = Assertions.assertThrows(
+				NotFoundException.class,
+				() -> useCase.execute(expectedId.getValue())
+		);
+
+		Assertions.assertEquals(
+				"Category with %s was not found".formatted(expectedId.getValue()),
+				actualException.getErrors().get(0).message()
+		);
+	}
+}
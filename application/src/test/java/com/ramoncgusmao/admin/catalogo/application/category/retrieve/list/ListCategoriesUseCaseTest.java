@@ -0,0 +1,48 @@
+package com.ramoncgusmao.admin.catalogo.application.category.retrieve.list;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategorySearchQuery;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ListCategoriesUseCaseTest {
+
+	@InjectMocks
+	private DefaultListCategoriesUseCase useCase;
+
+	@Mock
+	private CategoryGateway categoryGateway;
+
+	@Test
+	public void givenAValidQuery_whenCallsListCategories_shouldReturnMappedPage() {
+		final var categories = List.of(
+				Category.newCategory("Filmes", null, true),
+				Category.newCategory("Series", null, true)
+		);
+		final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+		when(categoryGateway.findAll(eq(aQuery))).thenReturn(new Pagination<>(0, 10, 2, categories));
+
+		final var actualOutput = useCase.execute(aQuery);
+
+		Assertions.assertEquals(0, actualOutput.currentPage());
+		Assertions.assertEquals(10, actualOutput.perPage());
+		Assertions.assertEquals(2, actualOutput.total());
+		Assertions.assertEquals(
+				categories.stream().map(CategoryListOutput::from).toList(),
+				actualOutput.items()
+		);
+	}
+}
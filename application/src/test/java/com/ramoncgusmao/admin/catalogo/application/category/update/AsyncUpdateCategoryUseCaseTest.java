@@ -0,0 +1,66 @@
+package com.ramoncgusmao.admin.catalogo.application.category.update;
+
+import com.ramoncgusmao.admin.catalogo.application.UseCaseExecutors;
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.exception.DomainException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncUpdateCategoryUseCaseTest {
+
+	private final ExecutorService executor = UseCaseExecutors.newVirtualThreadPerTaskExecutor();
+
+	@Mock
+	private CategoryGateway categoryGateway;
+
+	@AfterEach
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void givenAValidCommand_whenCallsUpdateCategoryAsync_shouldCompleteWithCategoryId() {
+		final var aCategory = Category.newCategory("Film", null, true);
+		final var expectedId = aCategory.getId();
+		final var useCase = new DefaultAsyncUpdateCategoryUseCase(new DefaultUpdateCategoryUseCase(categoryGateway), executor);
+
+		when(categoryGateway.findById(eq(expectedId))).thenReturn(Optional.of(aCategory.clone()));
+		when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
+
+		final var actualOutput = useCase.execute(UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true))
+				.join()
+				.get();
+
+		Assertions.assertEquals(expectedId, actualOutput.id());
+	}
+
+	@Test
+	public void givenAnUnknownId_whenCallsUpdateCategoryAsync_shouldCompleteExceptionally() {
+		final var aCategory = Category.newCategory("Film", null, true);
+		final var useCase = new DefaultAsyncUpdateCategoryUseCase(new DefaultUpdateCategoryUseCase(categoryGateway), executor);
+
+		when(categoryGateway.findById(eq(aCategory.getId()))).thenReturn(Optional.empty());
+
+		final var actualException = Assertions.assertThrows(
+				CompletionException.class,
+				() -> useCase.execute(UpdateCategoryCommand.with(aCategory.getId().getValue(), "Filmes", null, true)).join()
+		);
+
+		Assertions.assertInstanceOf(DomainException.class, actualException.getCause());
+	}
+}
@@ -4,6 +4,8 @@ import com.ramoncgusmao.admin.catalogo.domain.category.Category;
 import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
 import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
 import com.ramoncgusmao.admin.catalogo.domain.exception.DomainException;
+import com.ramoncgusmao.admin.catalogo.domain.exception.VersionConflictException;
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -193,4 +195,38 @@ public class UpdateCategoryUseCaseTest {
 
 		verify(categoryGateway, Mockito.times(0)).update(any());
 	}
+
+	@Test
+	public void givenAConcurrentUpdate_whenCallsUpdateCategory_shouldRetryWithAFreshCopy() {
+		final var aCategory = Category.newCategory("Film", null, true);
+		final var expectedId = aCategory.getId();
+		final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true);
+
+		when(categoryGateway.findById(eq(expectedId))).thenAnswer(invocation -> Optional.of(aCategory.clone()));
+		when(categoryGateway.update(any()))
+				.thenThrow(VersionConflictException.with(new Error("conflict")))
+				.thenAnswer(returnsFirstArg());
+
+		final var actualOutput = useCase.execute(aCommand).get();
+
+		Assertions.assertEquals(expectedId, actualOutput.id());
+		verify(categoryGateway, Mockito.times(2)).findById(eq(expectedId));
+		verify(categoryGateway, Mockito.times(2)).update(any());
+	}
+
+	@Test
+	public void givenAPersistentConflict_whenCallsUpdateCategory_shouldGiveUpAfterMaxAttempts() {
+		final var aCategory = Category.newCategory("Film", null, true);
+		final var expectedId = aCategory.getId();
+		final var expectedErrorMessage = "conflict";
+		final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true);
+
+		when(categoryGateway.findById(eq(expectedId))).thenAnswer(invocation -> Optional.of(aCategory.clone()));
+		when(categoryGateway.update(any())).thenThrow(VersionConflictException.with(new Error(expectedErrorMessage)));
+
+		final var notification = useCase.execute(aCommand).getLeft();
+
+		Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+		verify(categoryGateway, Mockito.times(DefaultUpdateCategoryUseCase.MAX_ATTEMPTS)).update(any());
+	}
 }
@@ -0,0 +1,119 @@
+package com.ramoncgusmao.admin.catalogo.application.idempotency;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class IdempotencyStoreTest {
+
+	private final AtomicLong now = new AtomicLong();
+	private final AtomicInteger runs = new AtomicInteger();
+	private final IdempotencyStore<String, String> store = new IdempotencyStore<>(2, Duration.ofSeconds(10), now::get);
+
+	@Test
+	public void givenARepeatedKey_whenExecutes_shouldReturnTheFirstResultWithoutRunningAgain() {
+		final var first = store.execute("key-1", "Filmes", this::create, aResult -> true);
+		final var second = store.execute("key-1", "Filmes", this::create, aResult -> true);
+
+		Assertions.assertEquals("Filmes#1", first);
+		Assertions.assertEquals("Filmes#1", second);
+		Assertions.assertEquals(1, runs.get());
+	}
+
+	@Test
+	public void givenAnExpiredKey_whenExecutes_shouldRunAgain() {
+		store.execute("key-1", "Filmes", this::create, aResult -> true);
+		now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+		Assertions.assertEquals("Filmes#2", store.execute("key-1", "Filmes", this::create, aResult -> true));
+	}
+
+	@Test
+	public void givenMoreKeysThanTheBound_whenExecutes_shouldForgetTheOldestFirst() {
+		store.execute("key-1", "Filmes", this::create, aResult -> true);
+		store.execute("key-2", "Series", this::create, aResult -> true);
+		store.execute("key-3", "Animes", this::create, aResult -> true);
+
+		Assertions.assertEquals(2, store.size());
+		Assertions.assertEquals("Series#2", store.execute("key-2", "Series", this::create, aResult -> true));
+		Assertions.assertEquals("Filmes#4", store.execute("key-1", "Filmes", this::create, aResult -> true));
+	}
+
+	@Test
+	public void givenAResultThatIsNotKept_whenExecutesAgain_shouldRunAgain() {
+		store.execute("key-1", "Filmes", this::create, aResult -> false);
+		Assertions.assertThrows(IllegalStateException.class, () -> store.execute("key-1", "Filmes", anInput -> {
+			throw new IllegalStateException("gateway down");
+		}, aResult -> true));
+
+		Assertions.assertEquals("Filmes#2", store.execute("key-1", "Filmes", this::create, aResult -> true));
+		Assertions.assertEquals(1, store.size());
+	}
+
+	@Test
+	public void givenAKeyUsedWithAnotherInput_whenExecutes_shouldThrowIdempotencyKeyReused() {
+		store.execute("key-1", "Filmes", this::create, aResult -> true);
+
+		final var actualException = Assertions.assertThrows(
+				IdempotencyKeyReusedException.class,
+				() -> store.execute("key-1", "Series", this::create, aResult -> true)
+		);
+
+		Assertions.assertEquals(
+				"Idempotency key 'key-1' was already used with a different request",
+				actualException.getErrors().get(0).message()
+		);
+		Assertions.assertEquals(1, runs.get());
+	}
+
+	@Test
+	public void givenConcurrentDuplicates_whenExecutes_shouldRunOnceAndShareTheResult() throws Exception {
+		final var started = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		final var executor = Executors.newFixedThreadPool(4);
+		try {
+			final var owner = executor.submit(() -> store.execute("key-1", "Filmes", anInput -> {
+				started.countDown();
+				await(release);
+				return create(anInput);
+			}, aResult -> true));
+			Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+			final var duplicates = new ArrayList<Future<String>>();
+			for (int i = 0; i < 3; i++) {
+				duplicates.add(executor.submit(() -> store.execute("key-1", "Filmes", this::create, aResult -> true)));
+			}
+			Thread.sleep(50);
+			Assertions.assertTrue(duplicates.stream().noneMatch(Future::isDone));
+			release.countDown();
+
+			Assertions.assertEquals("Filmes#1", owner.get(5, TimeUnit.SECONDS));
+			for (final var aDuplicate : duplicates) {
+				Assertions.assertEquals("Filmes#1", aDuplicate.get(5, TimeUnit.SECONDS));
+			}
+			Assertions.assertEquals(1, runs.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private String create(final String anInput) {
+		return anInput + "#" + runs.incrementAndGet();
+	}
+
+	private static void await(final CountDownLatch aLatch) {
+		try {
+			aLatch.await(5, TimeUnit.SECONDS);
+		} catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
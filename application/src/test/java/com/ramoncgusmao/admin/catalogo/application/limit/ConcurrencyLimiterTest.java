@@ -0,0 +1,111 @@
+package com.ramoncgusmao.admin.catalogo.application.limit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class ConcurrencyLimiterTest {
+
+	private static final long FAST = Duration.ofMillis(1).toNanos();
+	private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+	private final ConcurrencyLimitOptions options = ConcurrencyLimitOptions.with(Duration.ofMillis(10))
+			.withLimits(4, 2, 10)
+			.withQueue(0, Duration.ZERO);
+
+	@Test
+	public void givenFastExecutionsAtTheLimit_whenReleases_shouldRaiseTheLimitUpToTheMaximum() {
+		final var limiter = new ConcurrencyLimiter(options);
+
+		for (int round = 0; round < 100; round++) {
+			final var admitted = acquireAll(limiter);
+			for (int i = 0; i < admitted; i++) {
+				limiter.release(FAST);
+			}
+		}
+
+		Assertions.assertEquals(10, limiter.stats().limit());
+		Assertions.assertEquals(0, limiter.stats().inFlight());
+	}
+
+	@Test
+	public void givenFastExecutionsFarBelowTheLimit_whenReleases_shouldKeepTheLimit() {
+		final var limiter = new ConcurrencyLimiter(options);
+
+		for (int i = 0; i < 100; i++) {
+			Assertions.assertTrue(limiter.tryAcquire());
+			limiter.release(FAST);
+		}
+
+		Assertions.assertEquals(4, limiter.stats().limit());
+	}
+
+	@Test
+	public void givenSlowExecutions_whenReleases_shouldBackOffDownToTheMinimum() {
+		final var limiter = new ConcurrencyLimiter(options.withLimits(10, 2, 10));
+
+		Assertions.assertTrue(limiter.tryAcquire());
+		limiter.release(SLOW);
+		Assertions.assertEquals(9, limiter.stats().limit());
+
+		for (int i = 0; i < 50; i++) {
+			Assertions.assertTrue(limiter.tryAcquire());
+			limiter.release(SLOW);
+		}
+		Assertions.assertEquals(2, limiter.stats().limit());
+	}
+
+	@Test
+	public void givenNoQueue_whenTheLimitIsReached_shouldRejectAtOnce() {
+		final var limiter = new ConcurrencyLimiter(options);
+
+		acquire(limiter, 4);
+
+		Assertions.assertFalse(limiter.tryAcquire());
+		Assertions.assertEquals(new ConcurrencyLimitStats(4, 4, 0, 1), limiter.stats());
+	}
+
+	@Test
+	public void givenAQueuedCaller_whenASlotIsReleased_shouldAdmitItAndRejectCallersBeyondTheQueue() throws Exception {
+		final var limiter = new ConcurrencyLimiter(options.withLimits(2, 2, 2).withQueue(1, Duration.ofSeconds(5)));
+		acquire(limiter, 2);
+
+		final var queued = CompletableFuture.supplyAsync(limiter::tryAcquire);
+		while (limiter.stats().queued() == 0) {
+			Thread.onSpinWait();
+		}
+		Assertions.assertFalse(limiter.tryAcquire());
+
+		limiter.release(FAST);
+
+		Assertions.assertTrue(queued.get(5, TimeUnit.SECONDS));
+		Assertions.assertEquals(new ConcurrencyLimitStats(2, 2, 0, 1), limiter.stats());
+	}
+
+	@Test
+	public void givenAQueuedCaller_whenNoSlotIsReleasedInTime_shouldRejectIt() {
+		final var limiter = new ConcurrencyLimiter(options.withQueue(1, Duration.ofMillis(20)));
+		acquire(limiter, 4);
+
+		Assertions.assertFalse(limiter.tryAcquire());
+		Assertions.assertEquals(1, limiter.stats().rejected());
+		Assertions.assertEquals(0, limiter.stats().queued());
+	}
+
+	private static void acquire(final ConcurrencyLimiter aLimiter, final int aCount) {
+		for (int i = 0; i < aCount; i++) {
+			Assertions.assertTrue(aLimiter.tryAcquire());
+		}
+	}
+
+	private static int acquireAll(final ConcurrencyLimiter aLimiter) {
+		var admitted = 0;
+		while (aLimiter.tryAcquire()) {
+			admitted++;
+		}
+		return admitted;
+	}
+}
@@ -0,0 +1,84 @@
+package com.ramoncgusmao.admin.catalogo.application.limit;
+
+import com.ramoncgusmao.admin.catalogo.application.Usecase;
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.vavr.API.Right;
+
+public class ConcurrencyLimitsTest {
+
+	private final AtomicLong now = new AtomicLong();
+	private final ConcurrencyLimits limits = new ConcurrencyLimits(
+			ConcurrencyLimitOptions.with(Duration.ofMillis(100)).withLimits(2, 1, 2).withQueue(0, Duration.ZERO),
+			now::get
+	);
+
+	@Test
+	public void givenAUseCaseOverItsLimit_whenCallsExecute_shouldThrowConcurrencyLimitExceeded() {
+		final var inner = new AtomicReference<Usecase<Integer, Integer>>();
+		inner.set(limits.limit("Nested", new Usecase<>() {
+			@Override
+			public Integer execute(final Integer aDepth) {
+				return aDepth == 0 ? 0 : inner.get().execute(aDepth - 1) + 1;
+			}
+		}));
+
+		Assertions.assertEquals(1, inner.get().execute(1));
+		final var actualException = Assertions.assertThrows(
+				ConcurrencyLimitExceededException.class,
+				() -> inner.get().execute(2)
+		);
+
+		Assertions.assertEquals(
+				"Nested is over its concurrency limit, try again later",
+				actualException.getErrors().get(0).message()
+		);
+		Assertions.assertEquals(0, limits.limiterOf("Nested").orElseThrow().stats().inFlight());
+	}
+
+	@Test
+	public void givenAnEitherUseCaseOverItsLimit_whenCallsExecute_shouldReturnNotification() {
+		final var inner = new AtomicReference<Usecase<Integer, Either<Notification, Integer>>>();
+		inner.set(limits.limitEither("Nested", new Usecase<>() {
+			@Override
+			public Either<Notification, Integer> execute(final Integer aDepth) {
+				return aDepth == 0 ? Right(0) : inner.get().execute(aDepth - 1).map(aValue -> aValue + 1);
+			}
+		}));
+
+		final var actualNotification = inner.get().execute(2).getLeft();
+
+		Assertions.assertEquals(
+				"Nested is over its concurrency limit, try again later",
+				actualNotification.getErrors().get(0).message()
+		);
+		Assertions.assertEquals(1, limits.limiterOf("Nested").orElseThrow().stats().rejected());
+	}
+
+	@Test
+	public void givenASlowFailingUseCase_whenCallsExecute_shouldReleaseTheSlotAndBackOff() {
+		final var useCase = limits.limit(new SlowFailingUseCase());
+
+		Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute("Filmes"));
+
+		final var actualStats = limits.limiterOf("SlowFailingUseCase").orElseThrow().stats();
+		Assertions.assertEquals(1, actualStats.limit());
+		Assertions.assertEquals(0, actualStats.inFlight());
+	}
+
+	private class SlowFailingUseCase extends Usecase<String, String> {
+
+		@Override
+		public String execute(final String anIN) {
+			now.addAndGet(Duration.ofSeconds(1).toNanos());
+			throw new IllegalStateException("Gateway timeout");
+		}
+	}
+}
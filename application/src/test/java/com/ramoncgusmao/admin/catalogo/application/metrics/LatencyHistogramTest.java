@@ -0,0 +1,60 @@
+package com.ramoncgusmao.admin.catalogo.application.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void givenUniformValues_whenCallsPercentile_shouldStayWithinOnePercent() {
+		final var histogram = new LatencyHistogram();
+		for (long value = 1; value <= 100_000; value++) {
+			histogram.record(value * 1_000);
+		}
+
+		final var snapshot = histogram.snapshot();
+
+		Assertions.assertEquals(100_000, snapshot.count());
+		Assertions.assertEquals(100_000_000, snapshot.max());
+		assertWithinOnePercent(50_000_000, snapshot.percentile(50));
+		assertWithinOnePercent(99_000_000, snapshot.percentile(99));
+		assertWithinOnePercent(99_900_000, snapshot.percentile(99.9));
+		assertWithinOnePercent(50_000_500, (long) snapshot.mean());
+	}
+
+	@Test
+	public void givenEveryBucket_whenComputesItsRange_shouldCoverTheValuesMappedToIt() {
+		for (long value : new long[]{0, 1, 127, 128, 129, 255, 256, 1_000_003, LatencyHistogram.MAX_VALUE}) {
+			final var index = LatencyHistogram.indexOf(value);
+
+			Assertions.assertTrue(value <= LatencyHistogram.highestEquivalentValue(index));
+			Assertions.assertTrue(index == 0 || value > LatencyHistogram.highestEquivalentValue(index - 1));
+		}
+	}
+
+	@Test
+	public void givenOutOfRangeValues_whenRecords_shouldClampThem() {
+		final var histogram = new LatencyHistogram();
+
+		histogram.record(-5);
+		histogram.record(Long.MAX_VALUE);
+
+		final var snapshot = histogram.snapshot();
+		Assertions.assertEquals(2, snapshot.count());
+		Assertions.assertEquals(0, snapshot.percentile(50));
+		Assertions.assertEquals(LatencyHistogram.MAX_VALUE, snapshot.percentile(100));
+	}
+
+	@Test
+	public void givenNoValues_whenCallsPercentile_shouldReturnZero() {
+		final var snapshot = new LatencyHistogram().snapshot();
+
+		Assertions.assertEquals(0, snapshot.count());
+		Assertions.assertEquals(0, snapshot.percentile(99));
+		Assertions.assertEquals(0, snapshot.mean());
+	}
+
+	private static void assertWithinOnePercent(final long expected, final long actual) {
+		Assertions.assertTrue(Math.abs(expected - actual) <= expected / 100, "expected ~" + expected + " but was " + actual);
+	}
+}
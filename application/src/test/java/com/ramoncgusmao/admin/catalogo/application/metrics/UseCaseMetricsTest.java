@@ -0,0 +1,99 @@
+package com.ramoncgusmao.admin.catalogo.application.metrics;
+
+import com.ramoncgusmao.admin.catalogo.application.UnitUsecase;
+import com.ramoncgusmao.admin.catalogo.application.Usecase;
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.nio.file.Files;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+
+public class UseCaseMetricsTest {
+
+	@Test
+	public void givenAMeasuredUsecase_whenExecutes_shouldCountEveryOutcome() {
+		final var metrics = UseCaseMetrics.create();
+		final var aUsecase = metrics.measure(new ValidatingUsecase());
+
+		Assertions.assertTrue(aUsecase.execute("Filmes").isRight());
+		Assertions.assertTrue(aUsecase.execute("").isLeft());
+		Assertions.assertThrows(IllegalStateException.class, () -> aUsecase.execute(null));
+
+		final var stats = metrics.statsOf("ValidatingUsecase").orElseThrow();
+		Assertions.assertEquals(3, stats.getCount());
+		Assertions.assertEquals(1, stats.getSuccessCount());
+		Assertions.assertEquals(1, stats.getRejectedCount());
+		Assertions.assertEquals(1, stats.getErrorCount());
+		Assertions.assertEquals(3, stats.latency().count());
+		Assertions.assertTrue(stats.getLatency().getP999Nanos() >= stats.getLatency().getP50Nanos());
+	}
+
+	@Test
+	public void givenARegistryWithAnMBeanServer_whenMeasures_shouldExposeTheStats() throws Exception {
+		final var server = MBeanServerFactory.newMBeanServer();
+		final var metrics = UseCaseMetrics.registeredWith(server);
+		final var aUsecase = metrics.measure(new CountingUnitUsecase());
+
+		aUsecase.execute("Filmes");
+		aUsecase.execute("Series");
+
+		final var aName = new ObjectName(UseCaseMetrics.DOMAIN + ":type=UseCase,name=\"CountingUnitUsecase\"");
+		Assertions.assertEquals(2L, server.getAttribute(aName, "SuccessCount"));
+		Assertions.assertEquals(0L, server.getAttribute(aName, "ErrorCount"));
+		final var aLatency = (CompositeData) server.getAttribute(aName, "Latency");
+		Assertions.assertEquals(2L, aLatency.get("count"));
+		Assertions.assertTrue((Long) aLatency.get("p999Nanos") >= (Long) aLatency.get("p50Nanos"));
+	}
+
+	@Test
+	public void givenARecording_whenExecutesAMeasuredUsecase_shouldCommitUseCaseEvents() throws Exception {
+		final var aUsecase = UseCaseMetrics.create().measure(new ValidatingUsecase());
+		final var aDump = Files.createTempFile("usecase", ".jfr");
+		try (final var aRecording = new Recording()) {
+			aRecording.enable("catalogo.UseCase").withoutThreshold();
+			aRecording.start();
+			aUsecase.execute("");
+			aRecording.stop();
+			aRecording.dump(aDump);
+
+			final var events = RecordingFile.readAllEvents(aDump).stream()
+					.filter(anEvent -> anEvent.getEventType().getName().equals("catalogo.UseCase"))
+					.toList();
+
+			Assertions.assertEquals(1, events.size());
+			Assertions.assertEquals("ValidatingUsecase", events.get(0).getString("useCase"));
+			Assertions.assertEquals("REJECTED", events.get(0).getString("outcome"));
+			Assertions.assertEquals(1, events.get(0).getInt("errorCount"));
+		} finally {
+			Files.deleteIfExists(aDump);
+		}
+	}
+
+	private static class ValidatingUsecase extends Usecase<String, Either<Notification, String>> {
+
+		@Override
+		public Either<Notification, String> execute(final String aName) {
+			if (aName == null) {
+				throw new IllegalStateException("Gateway Error");
+			}
+			return aName.isBlank() ? Left(Notification.create(new Error("'name' should not be empty"))) : Right(aName);
+		}
+	}
+
+	private static class CountingUnitUsecase extends UnitUsecase<String> {
+
+		@Override
+		public void execute(final String aName) {
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.ramoncgusmao.admin.catalogo.application.metrics;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+
+public class ValidationEventTest {
+
+	@Test
+	public void givenARecording_whenValidatesAnInvalidCategory_shouldFillTheHandlerAndCommitAnEvent() throws Exception {
+		final var aCategory = Category.newCategory(null, "A categoria mais assistida", true);
+		final var notification = Notification.create();
+		final var aDump = Files.createTempFile("validation", ".jfr");
+		try (final var aRecording = new Recording()) {
+			aRecording.enable("catalogo.Validation").withoutThreshold();
+			aRecording.start();
+			ValidationEvent.validate(aCategory, notification);
+			aRecording.stop();
+			aRecording.dump(aDump);
+
+			final var events = RecordingFile.readAllEvents(aDump).stream()
+					.filter(anEvent -> anEvent.getEventType().getName().equals("catalogo.Validation"))
+					.toList();
+
+			Assertions.assertEquals("'name' should not be null", notification.getErrors().get(0).message());
+			Assertions.assertEquals(1, events.size());
+			Assertions.assertEquals("Category", events.get(0).getString("entity"));
+			Assertions.assertEquals(aCategory.getId().getValue(), events.get(0).getString("entityId"));
+			Assertions.assertEquals(1, events.get(0).getInt("errorCount"));
+		} finally {
+			Files.deleteIfExists(aDump);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.ramoncgusmao.admin.catalogo.benchmarks;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CategoryBenchmark {
+
+	private Category validCategory;
+	private Category blankNameCategory;
+	private Category shortNameCategory;
+
+	@Setup
+	public void setUp() {
+		this.validCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+		this.blankNameCategory = Category.newCategory("   ", "A categoria mais assistida", true);
+		this.shortNameCategory = Category.newCategory("Fi  ", "A categoria mais assistida", true);
+	}
+
+	@Benchmark
+	public Category newCategory() {
+		return Category.newCategory("Filmes", "A categoria mais assistida", true);
+	}
+
+	@Benchmark
+	public Notification validateValidCategory() {
+		final var notification = Notification.create();
+		this.validCategory.validate(notification);
+		return notification;
+	}
+
+	@Benchmark
+	public boolean validateValidCategoryHasError() {
+		final var notification = Notification.create();
+		this.validCategory.validate(notification);
+		return notification.hasError();
+	}
+
+	@Benchmark
+	public Notification validateBlankName() {
+		final var notification = Notification.create();
+		this.blankNameCategory.validate(notification);
+		return notification;
+	}
+
+	@Benchmark
+	public Notification validateShortName() {
+		final var notification = Notification.create();
+		this.shortNameCategory.validate(notification);
+		return notification;
+	}
+}
@@ -0,0 +1,98 @@
+package com.ramoncgusmao.admin.catalogo.benchmarks;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.Pagination;
+import com.ramoncgusmao.admin.catalogo.infrastructure.api.CategoryJson;
+import com.ramoncgusmao.admin.catalogo.infrastructure.codec.BinaryCodec;
+import com.ramoncgusmao.admin.catalogo.infrastructure.codec.BinaryWriter;
+import com.ramoncgusmao.admin.catalogo.infrastructure.codec.CategoryCodecs;
+import com.ramoncgusmao.admin.catalogo.infrastructure.json.JsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CategoryCodecBenchmark {
+
+	@Param({"ascii", "accented"})
+	public String names;
+
+	private final BinaryWriter writer = new BinaryWriter();
+	private final ByteArrayOutputStream jsonBytes = new ByteArrayOutputStream(512);
+	private final BinaryCodec<Pagination<Category>> pageCodec = CategoryCodecs.pagination(CategoryCodecs.CATEGORY);
+
+	private Category category;
+	private byte[] encodedCategory;
+	private Pagination<Category> page;
+	private byte[] encodedPage;
+
+	@Setup
+	public void setUp() {
+		final var aName = "ascii".equals(this.names) ? "Filmes de acao" : "Filmes de a\u00e7\u00e3o";
+		final var aDescription = "ascii".equals(this.names) ? "A categoria mais assistida" : "A categoria mais assistida \u00e9 essa";
+		this.category = Category.newCategory(aName, aDescription, true);
+		CategoryCodecs.CATEGORY.encode(this.category, this.writer);
+		this.encodedCategory = this.writer.toByteArray();
+
+		final var items = new ArrayList<Category>();
+		for (int i = 0; i < 50; i++) {
+			items.add(Category.newCategory(aName + " " + i, aDescription, i % 2 == 0));
+		}
+		this.page = new Pagination<>(0, 50, 10_000, items);
+		this.pageCodec.encode(this.page, this.writer);
+		this.encodedPage = this.writer.toByteArray();
+	}
+
+	@Benchmark
+	public ByteBuffer encodeCategory() {
+		return CategoryCodecs.CATEGORY.encode(this.category, this.writer);
+	}
+
+	@Benchmark
+	public Category decodeCategory() {
+		return CategoryCodecs.CATEGORY.decode(ByteBuffer.wrap(this.encodedCategory));
+	}
+
+	@Benchmark
+	public Category roundTripCategory() {
+		return CategoryCodecs.CATEGORY.decode(CategoryCodecs.CATEGORY.encode(this.category, this.writer));
+	}
+
+	@Benchmark
+	public int encodeCategoryAsJson() throws IOException {
+		this.jsonBytes.reset();
+		final var aWriter = new JsonWriter(this.jsonBytes, 512);
+		CategoryJson.writeCategory(aWriter, this.category);
+		aWriter.flush();
+		return this.jsonBytes.size();
+	}
+
+	@Benchmark
+	public ByteBuffer encodePage() {
+		return this.pageCodec.encode(this.page, this.writer);
+	}
+
+	@Benchmark
+	public Pagination<Category> decodePage() {
+		return this.pageCodec.decode(ByteBuffer.wrap(this.encodedPage));
+	}
+}
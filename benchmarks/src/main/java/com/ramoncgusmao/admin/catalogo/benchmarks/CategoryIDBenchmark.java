@@ -0,0 +1,48 @@
+package com.ramoncgusmao.admin.catalogo.benchmarks;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CategoryIDBenchmark {
+
+	private String aValue;
+	private CategoryID anId;
+
+	@Setup
+	public void setUp() {
+		this.anId = CategoryID.unique();
+		this.aValue = this.anId.getValue();
+	}
+
+	@Benchmark
+	public CategoryID unique() {
+		return CategoryID.unique();
+	}
+
+	@Benchmark
+	public CategoryID fromString() {
+		return CategoryID.from(this.aValue);
+	}
+
+	@Benchmark
+	public int hashCodeOf() {
+		return this.anId.hashCode();
+	}
+}
@@ -0,0 +1,104 @@
+package com.ramoncgusmao.admin.catalogo.benchmarks;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the long-backed {@link CategoryID} with the previous String-backed id as keys of a large map. The
+ * {@code *Lookup} benchmarks probe with equal but distinct key instances, as the gateway indexes do; the
+ * {@code *ParseAndLookup} ones also build the key from its string form, as a request does. The retained bytes per key
+ * are printed when the trial starts.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CategoryIDLookupBenchmark {
+
+	@Param({"1000000"})
+	private int size;
+
+	private Map<CategoryID, Integer> compactMap;
+	private Map<LegacyCategoryID, Integer> legacyMap;
+	private String[] values;
+	private CategoryID[] compactProbes;
+	private LegacyCategoryID[] legacyProbes;
+
+	@Setup
+	public void setUp() {
+		this.compactMap = new HashMap<>(this.size * 2);
+		this.legacyMap = new HashMap<>(this.size * 2);
+		this.values = new String[this.size];
+		this.compactProbes = new CategoryID[this.size];
+		this.legacyProbes = new LegacyCategoryID[this.size];
+		final var compactKeys = new CategoryID[this.size];
+		final var legacyKeys = new LegacyCategoryID[this.size];
+
+		for (int i = 0; i < this.size; i++) {
+			final var anId = CategoryID.unique();
+			this.values[i] = anId.getValue();
+			compactKeys[i] = CategoryID.from(this.values[i]);
+			legacyKeys[i] = LegacyCategoryID.from(new String(this.values[i].toCharArray()));
+			this.compactMap.put(compactKeys[i], i);
+			this.legacyMap.put(legacyKeys[i], i);
+			this.compactProbes[i] = CategoryID.from(this.values[i]);
+			this.legacyProbes[i] = LegacyCategoryID.from(new String(this.values[i].toCharArray()));
+		}
+
+		final var compactBytesPerKey = (double) GraphLayout.parseInstance((Object) compactKeys).totalSize() / this.size;
+		final var legacyBytesPerKey = (double) GraphLayout.parseInstance((Object) legacyKeys).totalSize() / this.size;
+		System.out.printf(
+				"%nRetained bytes per key (including the array slot): compact=%.1f legacy=%.1f%n",
+				compactBytesPerKey,
+				legacyBytesPerKey
+		);
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int next;
+	}
+
+	@Benchmark
+	public Integer compactLookup(final Cursor aCursor) {
+		return this.compactMap.get(this.compactProbes[next(aCursor)]);
+	}
+
+	@Benchmark
+	public Integer legacyLookup(final Cursor aCursor) {
+		return this.legacyMap.get(this.legacyProbes[next(aCursor)]);
+	}
+
+	@Benchmark
+	public Integer compactParseAndLookup(final Cursor aCursor) {
+		return this.compactMap.get(CategoryID.from(this.values[next(aCursor)]));
+	}
+
+	@Benchmark
+	public Integer legacyParseAndLookup(final Cursor aCursor) {
+		return this.legacyMap.get(LegacyCategoryID.from(this.values[next(aCursor)]));
+	}
+
+	private int next(final Cursor aCursor) {
+		final var index = aCursor.next;
+		aCursor.next = index + 1 == this.size ? 0 : index + 1;
+		return index;
+	}
+}
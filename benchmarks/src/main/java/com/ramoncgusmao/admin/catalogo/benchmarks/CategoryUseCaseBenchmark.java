@@ -0,0 +1,82 @@
+package com.ramoncgusmao.admin.catalogo.benchmarks;
+
+import com.ramoncgusmao.admin.catalogo.application.Usecase;
+import com.ramoncgusmao.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.ramoncgusmao.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.ramoncgusmao.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.ramoncgusmao.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
+import com.ramoncgusmao.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.ramoncgusmao.admin.catalogo.application.category.update.UpdateCategoryOutput;
+import com.ramoncgusmao.admin.catalogo.application.metrics.UseCaseMetrics;
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CategoryUseCaseBenchmark {
+
+	private final CreateCategoryCommand validCreate = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true);
+	private final CreateCategoryCommand invalidCreate = CreateCategoryCommand.with(null, "A categoria mais assistida", true);
+
+	private DefaultCreateCategoryUseCase createUseCase;
+	private Usecase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> measuredCreateUseCase;
+	private DefaultUpdateCategoryUseCase updateUseCase;
+	private UpdateCategoryCommand validUpdate;
+	private UpdateCategoryCommand invalidUpdate;
+
+	@Setup
+	public void setUp() {
+		final var existing = Category.newCategory("Filmes", "A categoria mais assistida", true);
+		final var aGateway = new NoOpCategoryGateway(existing);
+		this.createUseCase = new DefaultCreateCategoryUseCase(aGateway);
+		this.measuredCreateUseCase = UseCaseMetrics.create().measure(this.createUseCase);
+		this.updateUseCase = new DefaultUpdateCategoryUseCase(aGateway);
+		this.validUpdate = UpdateCategoryCommand.with(existing.getId().getValue(), "Series", "Temporadas", false);
+		this.invalidUpdate = UpdateCategoryCommand.with(existing.getId().getValue(), " ", "Temporadas", false);
+	}
+
+	@Benchmark
+	public Either<Notification, CreateCategoryOutput> createValid() {
+		return this.createUseCase.execute(this.validCreate);
+	}
+
+	/**
+	 * Same as {@link #createValid()} through the metrics decorator; the difference is the recording overhead.
+	 */
+	@Benchmark
+	public Either<Notification, CreateCategoryOutput> createValidMeasured() {
+		return this.measuredCreateUseCase.execute(this.validCreate);
+	}
+
+	@Benchmark
+	public Either<Notification, CreateCategoryOutput> createInvalid() {
+		return this.createUseCase.execute(this.invalidCreate);
+	}
+
+	@Benchmark
+	public Either<Notification, UpdateCategoryOutput> updateValid() {
+		return this.updateUseCase.execute(this.validUpdate);
+	}
+
+	@Benchmark
+	public Either<Notification, UpdateCategoryOutput> updateInvalid() {
+		return this.updateUseCase.execute(this.invalidUpdate);
+	}
+}
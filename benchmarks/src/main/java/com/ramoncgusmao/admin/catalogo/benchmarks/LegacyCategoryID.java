@@ -0,0 +1,41 @@
+package com.ramoncgusmao.admin.catalogo.benchmarks;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The previous String-backed CategoryID, kept only as a baseline for {@link CategoryIDLookupBenchmark}.
+ */
+public final class LegacyCategoryID {
+
+	private final String value;
+
+	private LegacyCategoryID(final String value) {
+		this.value = value;
+	}
+
+	public static LegacyCategoryID unique() {
+		return new LegacyCategoryID(UUID.randomUUID().toString().toLowerCase());
+	}
+
+	public static LegacyCategoryID from(final String anId) {
+		return new LegacyCategoryID(anId);
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		final LegacyCategoryID that = (LegacyCategoryID) o;
+		return value.equals(that.value);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(value);
+	}
+}
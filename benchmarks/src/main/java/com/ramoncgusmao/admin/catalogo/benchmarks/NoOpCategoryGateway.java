@@ -0,0 +1,64 @@
+package com.ramoncgusmao.admin.catalogo.benchmarks;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategorySearchQuery;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorPagination;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorQuery;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Gateway that does no I/O, so use case benchmarks only measure the application pipeline.
+ */
+public class NoOpCategoryGateway implements CategoryGateway {
+
+	private final Category existing;
+
+	public NoOpCategoryGateway(final Category existing) {
+		this.existing = existing;
+	}
+
+	@Override
+	public Category create(final Category aCategory) {
+		return aCategory;
+	}
+
+	@Override
+	public List<Category> createAll(final List<Category> aCategories) {
+		return aCategories;
+	}
+
+	@Override
+	public boolean deleteById(final CategoryID anId) {
+		return true;
+	}
+
+	@Override
+	public boolean deleteById(final CategoryID anId, final long anExpectedVersion) {
+		return true;
+	}
+
+	@Override
+	public Optional<Category> findById(final CategoryID anId) {
+		return Optional.of(this.existing.clone());
+	}
+
+	@Override
+	public Category update(final Category aCategory) {
+		return aCategory;
+	}
+
+	@Override
+	public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+		return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+	}
+
+	@Override
+	public CursorPagination<Category> findAll(final CursorQuery aQuery) {
+		return new CursorPagination<>(aQuery.perPage(), null, List.of());
+	}
+}
@@ -0,0 +1,57 @@
+package com.ramoncgusmao.admin.catalogo.benchmarks;
+
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NotificationBenchmark {
+
+	private final Error anError = new Error("'name' should not be null");
+	private final Notification threeErrors = Notification.create()
+			.append(anError)
+			.append(anError)
+			.append(anError);
+
+	@Benchmark
+	public boolean createEmpty() {
+		return Notification.create().hasError();
+	}
+
+	@Benchmark
+	public Notification appendOneError() {
+		return Notification.create().append(anError);
+	}
+
+	@Benchmark
+	public Notification appendThreeErrors() {
+		return Notification.create().append(anError).append(anError).append(anError);
+	}
+
+	@Benchmark
+	public Notification mergeHandlers() {
+		final var notification = Notification.create();
+		notification.append(this.threeErrors);
+		return notification;
+	}
+
+	@Benchmark
+	public Notification fromThrowable() {
+		return Notification.create(new IllegalStateException("Gateway Error"));
+	}
+}
@@ -0,0 +1,59 @@
+package com.ramoncgusmao.admin.catalogo.benchmarks.load;
+
+import com.ramoncgusmao.admin.catalogo.application.metrics.LatencyHistogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles of the measured part of a load test. Latencies are those of successful calls,
+ * in microseconds.
+ */
+record LoadReport(LoadTestOptions options, Duration elapsed, Map<Operation, Result> results) {
+
+	void print(final PrintStream out) {
+		out.printf(
+				"%d %s threads, %s measured after %s warmup, mix %s, skew %.2f, %d categories, %s store%n%n",
+				this.options.threads(),
+				this.options.threadKind().name().toLowerCase(),
+				this.elapsed,
+				this.options.warmup(),
+				this.options.mix(),
+				this.options.skew(),
+				this.options.categories(),
+				this.options.dataDir() == null ? "in-memory" : "log"
+		);
+		out.printf("%-8s %12s %12s %10s %10s %10s %10s %10s %9s %9s%n",
+				"op", "calls", "ops/s", "mean us", "p50 us", "p99 us", "p999 us", "max us", "rejected", "failed");
+		long calls = 0;
+		for (final var anOperation : Operation.values()) {
+			final var aResult = this.results.get(anOperation);
+			if (aResult == null) {
+				continue;
+			}
+			final var latencies = aResult.latencies();
+			calls += latencies.count();
+			out.printf("%-8s %12d %12.0f %10.1f %10.1f %10.1f %10.1f %10.1f %9d %9d%n",
+					anOperation.name().toLowerCase(),
+					latencies.count(),
+					perSecond(latencies.count()),
+					latencies.mean() / 1_000,
+					latencies.percentile(50) / 1_000.0,
+					latencies.percentile(99) / 1_000.0,
+					latencies.percentile(99.9) / 1_000.0,
+					latencies.max() / 1_000.0,
+					aResult.rejected(),
+					aResult.failed()
+			);
+		}
+		out.printf("%-8s %12d %12.0f%n", "total", calls, perSecond(calls));
+	}
+
+	double perSecond(final long aCount) {
+		return aCount / (this.elapsed.toNanos() / 1e9);
+	}
+
+	record Result(LatencyHistogram.Snapshot latencies, long rejected, long failed) {
+	}
+}
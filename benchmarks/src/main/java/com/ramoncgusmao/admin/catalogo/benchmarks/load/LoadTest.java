@@ -0,0 +1,188 @@
+package com.ramoncgusmao.admin.catalogo.benchmarks.load;
+
+import com.ramoncgusmao.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.ramoncgusmao.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.ramoncgusmao.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
+import com.ramoncgusmao.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategorySearchQuery;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.CategoryInMemoryGateway;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log.CategoryLogGateway;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log.CategoryLogOptions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load generator for the category use cases: every thread calls create, update or search, picked at
+ * random by weight, as fast as it can until the test ends. Updates go through {@link DefaultUpdateCategoryUseCase}
+ * on a Zipfian-chosen category, so a high skew also exercises version conflicts and retries; searches page through
+ * the gateway by a word of the description.
+ * <p>
+ * Run it with {@code gradle :benchmarks:loadTest -Pload.args="--duration=60s --threads=32"}; see
+ * {@link LoadTestOptions} for every option.
+ */
+public final class LoadTest {
+
+	private static final String[] WORDS = {
+			"acao", "aventura", "animacao", "comedia", "crime", "documentario", "drama", "familia",
+			"fantasia", "faroeste", "ficcao", "guerra", "historia", "misterio", "musical", "policial",
+			"romance", "suspense", "terror", "thriller", "biografia", "esporte", "natureza", "viagem"
+	};
+	private static final int PRELOAD_BATCH = 1_000;
+	private static final int SEARCH_PAGE_SIZE = 20;
+
+	private LoadTest() {
+	}
+
+	public static void main(final String[] args) throws Exception {
+		final var options = LoadTestOptions.parse(args);
+		run(options).print(System.out);
+	}
+
+	static LoadReport run(final LoadTestOptions options) throws InterruptedException {
+		final CategoryGateway gateway = options.dataDir() == null
+				? new CategoryInMemoryGateway()
+				: new CategoryLogGateway(CategoryLogOptions.with(options.dataDir()));
+		try {
+			return run(options, gateway);
+		} finally {
+			if (gateway instanceof CategoryLogGateway aLogGateway) {
+				aLogGateway.close();
+			}
+		}
+	}
+
+	private static LoadReport run(final LoadTestOptions options, final CategoryGateway gateway) throws InterruptedException {
+		final var ids = preload(gateway, options.categories());
+		final var hotKeys = new ZipfianGenerator(ids.length, options.skew());
+		final var createUseCase = new DefaultCreateCategoryUseCase(gateway);
+		final var updateUseCase = new DefaultUpdateCategoryUseCase(gateway);
+		final var sequence = new AtomicLong(options.categories());
+
+		final var stats = new EnumMap<Operation, OperationStats>(Operation.class);
+		for (final var anOperation : Operation.values()) {
+			stats.put(anOperation, new OperationStats());
+		}
+		final var picker = new OperationPicker(options);
+
+		final var measureFrom = System.nanoTime() + options.warmup().toNanos();
+		final var stopAt = measureFrom + options.duration().toNanos();
+		final var finished = new CountDownLatch(options.threads());
+		final var executor = options.threadKind().newExecutor(options.threads());
+		try {
+			for (int i = 0; i < options.threads(); i++) {
+				executor.execute(() -> {
+					try {
+						long now;
+						while ((now = System.nanoTime()) - stopAt < 0) {
+							final var anOperation = picker.next();
+							final var aStats = now - measureFrom >= 0 ? stats.get(anOperation) : null;
+							final var started = System.nanoTime();
+							try {
+								final var accepted = switch (anOperation) {
+									case CREATE -> createUseCase.execute(CreateCategoryCommand.with(
+											"Categoria " + sequence.incrementAndGet(), descriptionOf(ThreadLocalRandom.current().nextInt()), true
+									)).isRight();
+									case UPDATE -> updateUseCase.execute(UpdateCategoryCommand.with(
+											ids[(int) hotKeys.next()], "Categoria " + sequence.incrementAndGet(), descriptionOf(ThreadLocalRandom.current().nextInt()), true
+									)).isRight();
+									case SEARCH -> gateway.findAll(new CategorySearchQuery(
+											0, SEARCH_PAGE_SIZE, WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)], "name", "asc"
+									)) != null;
+								};
+								if (aStats != null) {
+									if (accepted) {
+										aStats.succeeded(System.nanoTime() - started);
+									} else {
+										aStats.rejected();
+									}
+								}
+							} catch (final RuntimeException ex) {
+								if (aStats != null) {
+									aStats.failed();
+								}
+							}
+						}
+					} finally {
+						finished.countDown();
+					}
+				});
+			}
+			finished.await();
+		} finally {
+			executor.shutdownNow();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+
+		final var results = new EnumMap<Operation, LoadReport.Result>(Operation.class);
+		stats.forEach((anOperation, aStats) -> {
+			if (options.weightOf(anOperation) > 0) {
+				results.put(anOperation, new LoadReport.Result(aStats.latencies(), aStats.rejectedCount(), aStats.failedCount()));
+			}
+		});
+		return new LoadReport(options, Duration.ofNanos(Math.max(System.nanoTime() - measureFrom, 1)), results);
+	}
+
+	private static String[] preload(final CategoryGateway gateway, final int aCount) {
+		final var ids = new String[aCount];
+		final var batch = new ArrayList<Category>(PRELOAD_BATCH);
+		for (int i = 0; i < aCount; i++) {
+			final var aCategory = Category.newCategory("Categoria " + i, descriptionOf(i), true);
+			ids[i] = aCategory.getId().getValue();
+			batch.add(aCategory);
+			if (batch.size() == PRELOAD_BATCH || i == aCount - 1) {
+				gateway.createAll(batch);
+				batch.clear();
+			}
+		}
+		return ids;
+	}
+
+	private static String descriptionOf(final int aSeed) {
+		final var first = WORDS[Math.floorMod(aSeed, WORDS.length)];
+		final var second = WORDS[Math.floorMod(aSeed / WORDS.length, WORDS.length)];
+		return "Titulos de " + first + " e " + second;
+	}
+
+	/**
+	 * Picks an operation with probability proportional to its weight in the mix.
+	 */
+	private static final class OperationPicker {
+
+		private final Operation[] operations;
+		private final int[] cumulativeWeights;
+
+		private OperationPicker(final LoadTestOptions options) {
+			final var picked = new ArrayList<Operation>();
+			final var weights = new ArrayList<Integer>();
+			var total = 0;
+			for (final var anOperation : Operation.values()) {
+				final var aWeight = options.weightOf(anOperation);
+				if (aWeight > 0) {
+					total += aWeight;
+					picked.add(anOperation);
+					weights.add(total);
+				}
+			}
+			this.operations = picked.toArray(Operation[]::new);
+			this.cumulativeWeights = weights.stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		private Operation next() {
+			final var draw = ThreadLocalRandom.current().nextInt(this.cumulativeWeights[this.cumulativeWeights.length - 1]);
+			for (int i = 0; i < this.cumulativeWeights.length; i++) {
+				if (draw < this.cumulativeWeights[i]) {
+					return this.operations[i];
+				}
+			}
+			return this.operations[this.operations.length - 1];
+		}
+	}
+}
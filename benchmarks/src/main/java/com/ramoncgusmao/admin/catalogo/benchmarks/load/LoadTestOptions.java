@@ -0,0 +1,118 @@
+package com.ramoncgusmao.admin.catalogo.benchmarks.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Settings of a load test, read from {@code --name=value} arguments:
+ * <ul>
+ *     <li>{@code --duration=60s}, {@code --warmup=10s}: measured time and unmeasured time before it</li>
+ *     <li>{@code --threads=16}, {@code --thread-kind=platform|virtual}: concurrent callers</li>
+ *     <li>{@code --mix=create:20,update:30,search:50}: relative weight of each operation</li>
+ *     <li>{@code --skew=0.99}: Zipfian exponent for picking the category to update, {@code 0} for uniform</li>
+ *     <li>{@code --categories=10000}: categories stored before the test starts</li>
+ *     <li>{@code --data-dir=/tmp/catalog}: run against the log-structured store instead of memory</li>
+ * </ul>
+ */
+record LoadTestOptions(
+		Duration duration,
+		Duration warmup,
+		int threads,
+		ThreadKind threadKind,
+		Map<Operation, Integer> mix,
+		double skew,
+		int categories,
+		Path dataDir
+) {
+
+	LoadTestOptions {
+		if (duration.isNegative() || duration.isZero()) {
+			throw new IllegalArgumentException("'duration' must be positive");
+		}
+		if (warmup.isNegative()) {
+			throw new IllegalArgumentException("'warmup' must not be negative");
+		}
+		if (threads < 1) {
+			throw new IllegalArgumentException("'threads' must be at least 1");
+		}
+		if (categories < 1) {
+			throw new IllegalArgumentException("'categories' must be at least 1");
+		}
+		if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0 || mix.values().stream().anyMatch(w -> w < 0)) {
+			throw new IllegalArgumentException("'mix' weights must not be negative and must not all be zero");
+		}
+		mix = Collections.unmodifiableMap(new EnumMap<>(mix));
+	}
+
+	static LoadTestOptions parse(final String[] args) {
+		var duration = Duration.ofSeconds(30);
+		var warmup = Duration.ofSeconds(5);
+		var threads = Runtime.getRuntime().availableProcessors() * 2;
+		var threadKind = ThreadKind.PLATFORM;
+		Map<Operation, Integer> mix = new EnumMap<>(Map.of(Operation.CREATE, 20, Operation.UPDATE, 30, Operation.SEARCH, 50));
+		var skew = 0.99;
+		var categories = 10_000;
+		Path dataDir = null;
+
+		for (final var anArg : args) {
+			final var separator = anArg.indexOf('=');
+			if (!anArg.startsWith("--") || separator < 0) {
+				throw new IllegalArgumentException("Expected --name=value but got '%s'".formatted(anArg));
+			}
+			final var aName = anArg.substring(2, separator);
+			final var aValue = anArg.substring(separator + 1);
+			switch (aName) {
+				case "duration" -> duration = parseDuration(aValue);
+				case "warmup" -> warmup = parseDuration(aValue);
+				case "threads" -> threads = Integer.parseInt(aValue);
+				case "thread-kind" -> threadKind = ThreadKind.valueOf(aValue.toUpperCase(Locale.ROOT));
+				case "mix" -> mix = parseMix(aValue);
+				case "skew" -> skew = Double.parseDouble(aValue);
+				case "categories" -> categories = Integer.parseInt(aValue);
+				case "data-dir" -> dataDir = Path.of(aValue);
+				default -> throw new IllegalArgumentException("Unknown option '--%s'".formatted(aName));
+			}
+		}
+		return new LoadTestOptions(duration, warmup, threads, threadKind, mix, skew, categories, dataDir);
+	}
+
+	int weightOf(final Operation anOperation) {
+		return this.mix.getOrDefault(anOperation, 0);
+	}
+
+	/**
+	 * Accepts ISO-8601 durations as well as a number followed by {@code ms}, {@code s} or {@code m}.
+	 */
+	private static Duration parseDuration(final String aValue) {
+		final var value = aValue.trim().toLowerCase(Locale.ROOT);
+		if (value.startsWith("p")) {
+			return Duration.parse(value);
+		}
+		if (value.endsWith("ms")) {
+			return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+		}
+		if (value.endsWith("s")) {
+			return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+		}
+		if (value.endsWith("m")) {
+			return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+		}
+		return Duration.ofSeconds(Long.parseLong(value));
+	}
+
+	private static Map<Operation, Integer> parseMix(final String aValue) {
+		final var mix = new EnumMap<Operation, Integer>(Operation.class);
+		for (final var anEntry : aValue.split(",")) {
+			final var parts = anEntry.split(":");
+			if (parts.length != 2) {
+				throw new IllegalArgumentException("Expected operation:weight but got '%s'".formatted(anEntry));
+			}
+			mix.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+		}
+		return mix;
+	}
+}
@@ -0,0 +1,7 @@
+package com.ramoncgusmao.admin.catalogo.benchmarks.load;
+
+enum Operation {
+	CREATE,
+	UPDATE,
+	SEARCH
+}
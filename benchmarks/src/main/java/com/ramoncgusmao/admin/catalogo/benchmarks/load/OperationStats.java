@@ -0,0 +1,40 @@
+package com.ramoncgusmao.admin.catalogo.benchmarks.load;
+
+import com.ramoncgusmao.admin.catalogo.application.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies of the successful calls of one operation, and how many calls were rejected or failed. Shared by every
+ * load thread.
+ */
+final class OperationStats {
+
+	private final LatencyHistogram latencies = new LatencyHistogram();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+
+	void succeeded(final long aLatencyNanos) {
+		this.latencies.record(aLatencyNanos);
+	}
+
+	void rejected() {
+		this.rejected.increment();
+	}
+
+	void failed() {
+		this.failed.increment();
+	}
+
+	LatencyHistogram.Snapshot latencies() {
+		return this.latencies.snapshot();
+	}
+
+	long rejectedCount() {
+		return this.rejected.sum();
+	}
+
+	long failedCount() {
+		return this.failed.sum();
+	}
+}
@@ -0,0 +1,46 @@
+package com.ramoncgusmao.admin.catalogo.benchmarks.load;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+enum ThreadKind {
+
+	PLATFORM {
+		@Override
+		ExecutorService newExecutor(final int threads) {
+			final var counter = new AtomicInteger();
+			return Executors.newFixedThreadPool(threads, aTask -> {
+				final var aThread = new Thread(aTask, "load-" + counter.incrementAndGet());
+				aThread.setDaemon(true);
+				return aThread;
+			});
+		}
+	},
+
+	/**
+	 * Virtual threads are looked up at run time, so the harness still compiles for Java 17 and only this option needs
+	 * a Java 21 runtime.
+	 */
+	VIRTUAL {
+		@Override
+		ExecutorService newExecutor(final int threads) {
+			try {
+				final var factory = MethodHandles.publicLookup().findStatic(
+						Executors.class,
+						"newVirtualThreadPerTaskExecutor",
+						MethodType.methodType(ExecutorService.class)
+				);
+				return (ExecutorService) factory.invoke();
+			} catch (final NoSuchMethodException | IllegalAccessException ex) {
+				throw new IllegalStateException("Virtual threads need Java 21 or later, running on " + Runtime.version());
+			} catch (final Throwable ex) {
+				throw new IllegalStateException("Could not create a virtual thread executor", ex);
+			}
+		}
+	};
+
+	abstract ExecutorService newExecutor(int threads);
+}
@@ -0,0 +1,59 @@
+package com.ramoncgusmao.admin.catalogo.benchmarks.load;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Draws indexes in {@code [0, items)} so that index {@code i} comes up with probability proportional to
+ * {@code 1 / (i + 1)^theta}, using the closed form from Gray et al., "Quickly Generating Billion-Record Synthetic
+ * Databases" (also used by YCSB). A {@code theta} of zero gives a uniform draw; values close to one concentrate the
+ * load on a few hot items. Setup is linear in {@code items}, each draw is constant time.
+ */
+final class ZipfianGenerator {
+
+	private final long items;
+	private final double theta;
+	private final double alpha;
+	private final double zetaN;
+	private final double eta;
+	private final double secondThreshold;
+
+	ZipfianGenerator(final long items, final double theta) {
+		if (items < 1) {
+			throw new IllegalArgumentException("'items' must be at least 1");
+		}
+		if (theta < 0 || theta >= 1) {
+			throw new IllegalArgumentException("'theta' must be in [0, 1)");
+		}
+		this.items = items;
+		this.theta = theta;
+		this.alpha = 1 / (1 - theta);
+		this.zetaN = zeta(items, theta);
+		final var zeta2 = zeta(Math.min(items, 2), theta);
+		this.eta = items < 2 ? 0 : (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta2 / this.zetaN);
+		this.secondThreshold = 1 + Math.pow(0.5, theta);
+	}
+
+	long next() {
+		final var random = ThreadLocalRandom.current();
+		if (this.theta == 0) {
+			return random.nextLong(this.items);
+		}
+		final var u = random.nextDouble();
+		final var uz = u * this.zetaN;
+		if (uz < 1) {
+			return 0;
+		}
+		if (uz < this.secondThreshold && this.items > 1) {
+			return 1;
+		}
+		return Math.min(this.items - 1, (long) (this.items * Math.pow(this.eta * u - this.eta + 1, this.alpha)));
+	}
+
+	private static double zeta(final long n, final double theta) {
+		var sum = 0.0;
+		for (long i = 1; i <= n; i++) {
+			sum += 1 / Math.pow(i, theta);
+		}
+		return sum;
+	}
+}
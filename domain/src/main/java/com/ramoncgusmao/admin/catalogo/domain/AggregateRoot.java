@@ -1,8 +1,57 @@
 package com.ramoncgusmao.admin.catalogo.domain;
 
+import com.ramoncgusmao.admin.catalogo.domain.event.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
 
+    private long version;
+    private List<DomainEvent> events;
+
     protected AggregateRoot(final ID id){
+        this(id, 0);
+    }
+
+    protected AggregateRoot(final ID id, final long version){
         super(id);
+        this.version = version;
+    }
+
+    /**
+     * Version of the stored state this instance was read from. Gateways only accept an update carrying the version
+     * they currently hold, and bump it when the update is stored.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public void incrementVersion() {
+        this.version++;
+    }
+
+    /**
+     * Returns the events recorded since the last call and forgets them. The write path publishes them once the change
+     * is stored.
+     */
+    public List<DomainEvent> pullEvents() {
+        final var recorded = this.events;
+        this.events = null;
+        return recorded == null ? List.of() : recorded;
+    }
+
+    protected void registerEvent(final DomainEvent anEvent) {
+        if (this.events == null) {
+            this.events = new ArrayList<>(2);
+        }
+        this.events.add(anEvent);
+    }
+
+    /**
+     * Events belong to the instance that recorded them; a copy starts without any.
+     */
+    protected void forgetEvents() {
+        this.events = null;
     }
 }
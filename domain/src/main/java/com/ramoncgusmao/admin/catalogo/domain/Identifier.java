@@ -1,4 +1,6 @@
 package com.ramoncgusmao.admin.catalogo.domain;
 
 public abstract class Identifier {
+
+    public abstract String getValue();
 }
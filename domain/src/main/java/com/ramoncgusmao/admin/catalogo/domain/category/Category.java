@@ -21,8 +21,9 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
 			final boolean active,
 			final Instant createdAt,
 			final Instant updatedAt,
-			final Instant deletedAt) {
-		super(anId);
+			final Instant deletedAt,
+			final long version) {
+		super(anId, version);
 		this.name = name;
 		this.description = description;
 		this.active = active;
@@ -40,7 +41,32 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
 		final var id = CategoryID.unique();
 		final var now = Instant.now();
 		final var deletedAt = isActive ? null : now;
-		return new Category(id, name, description, isActive, now, now, deletedAt);
+		final var aCategory = new Category(id, name, description, isActive, now, now, deletedAt, 0);
+		aCategory.registerEvent(CategoryCreated.of(aCategory));
+		return aCategory;
+	}
+
+	public static Category with(
+			final CategoryID anId,
+			final String name,
+			final String description,
+			final boolean active,
+			final Instant createdAt,
+			final Instant updatedAt,
+			final Instant deletedAt) {
+		return with(anId, name, description, active, createdAt, updatedAt, deletedAt, 0);
+	}
+
+	public static Category with(
+			final CategoryID anId,
+			final String name,
+			final String description,
+			final boolean active,
+			final Instant createdAt,
+			final Instant updatedAt,
+			final Instant deletedAt,
+			final long version) {
+		return new Category(anId, name, description, active, createdAt, updatedAt, deletedAt, version);
 	}
 
 	public CategoryID getId() {
@@ -75,16 +101,24 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
 		if (getDeletedAt() == null) {
 			this.deletedAt = Instant.now();
 		}
+		final var wasActive = this.active;
 		this.active = false;
 		this.updatedAt = Instant.now();
+		if (wasActive) {
+			registerEvent(new CategoryDeactivated(getId(), getVersion() + 1, this.updatedAt));
+		}
 		return this;
 	}
 
 	public Category activate() {
 
 		this.deletedAt = null;
+		final var wasActive = this.active;
 		this.active = true;
 		this.updatedAt = Instant.now();
+		if (!wasActive) {
+			registerEvent(new CategoryActivated(getId(), getVersion() + 1, this.updatedAt));
+		}
 		return this;
 	}
 
@@ -102,13 +136,16 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
 		this.name = aName;
 		this.description = aDescription;
 		this.updatedAt = Instant.now();
+		registerEvent(CategoryUpdated.of(this));
 		return this;
 	}
 
 	@Override
 	public Category clone() {
 		try {
-			return (Category) super.clone();
+			final var aCopy = (Category) super.clone();
+			aCopy.forgetEvents();
+			return aCopy;
 		} catch (CloneNotSupportedException e) {
 			throw new AssertionError();
 		}
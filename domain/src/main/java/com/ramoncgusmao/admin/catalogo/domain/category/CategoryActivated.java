@@ -0,0 +1,8 @@
+package com.ramoncgusmao.admin.catalogo.domain.category;
+
+import com.ramoncgusmao.admin.catalogo.domain.event.DomainEvent;
+
+import java.time.Instant;
+
+public record CategoryActivated(CategoryID aggregateId, long aggregateVersion, Instant occurredOn) implements DomainEvent {
+}
@@ -0,0 +1,26 @@
+package com.ramoncgusmao.admin.catalogo.domain.category;
+
+import com.ramoncgusmao.admin.catalogo.domain.event.DomainEvent;
+
+import java.time.Instant;
+
+public record CategoryCreated(
+		CategoryID aggregateId,
+		long aggregateVersion,
+		Instant occurredOn,
+		String name,
+		String description,
+		boolean active
+) implements DomainEvent {
+
+	static CategoryCreated of(final Category aCategory) {
+		return new CategoryCreated(
+				aCategory.getId(),
+				aCategory.getVersion(),
+				aCategory.getCreatedAt(),
+				aCategory.getName(),
+				aCategory.getDescription(),
+				aCategory.isActive()
+		);
+	}
+}
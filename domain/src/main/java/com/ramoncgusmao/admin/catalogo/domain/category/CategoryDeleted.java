@@ -0,0 +1,16 @@
+package com.ramoncgusmao.admin.catalogo.domain.category;
+
+import com.ramoncgusmao.admin.catalogo.domain.event.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * Raised by the write path rather than the aggregate, since a delete never loads the category. The version is unknown
+ * and always {@link Long#MAX_VALUE}, so it supersedes every earlier event of the category.
+ */
+public record CategoryDeleted(CategoryID aggregateId, long aggregateVersion, Instant occurredOn) implements DomainEvent {
+
+	public static CategoryDeleted of(final CategoryID anId) {
+		return new CategoryDeleted(anId, Long.MAX_VALUE, Instant.now());
+	}
+}
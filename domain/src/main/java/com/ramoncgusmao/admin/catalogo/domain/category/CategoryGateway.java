@@ -1,18 +1,44 @@
 package com.ramoncgusmao.admin.catalogo.domain.category;
 
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorPagination;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorQuery;
 import com.ramoncgusmao.admin.catalogo.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryGateway {
 
     Category create(Category aCategory);
 
-    void deleteById(CategoryID anId);
+    /**
+     * Stores every category or none of them: an id that already exists or repeats within the batch fails the whole
+     * call with a {@link com.ramoncgusmao.admin.catalogo.domain.exception.DomainException}.
+     */
+    List<Category> createAll(List<Category> aCategories);
+
+    /**
+     * Removes the category, doing nothing when it does not exist. Returns whether a category was removed.
+     */
+    boolean deleteById(CategoryID anId);
+
+    /**
+     * Removes the category only if its stored version still equals {@code anExpectedVersion}, otherwise throws
+     * {@link com.ramoncgusmao.admin.catalogo.domain.exception.VersionConflictException}. Does nothing when the
+     * category does not exist. Returns whether a category was removed.
+     */
+    boolean deleteById(CategoryID anId, long anExpectedVersion);
 
     Optional<Category> findById(CategoryID anId);
 
+    /**
+     * Stores the category only if the stored version still equals {@link Category#getVersion()}, otherwise throws
+     * {@link com.ramoncgusmao.admin.catalogo.domain.exception.VersionConflictException}. The returned copy carries
+     * the incremented version.
+     */
     Category update(Category aCategory);
 
     Pagination<Category> findAll(CategorySearchQuery aQuery);
+
+    CursorPagination<Category> findAll(CursorQuery aQuery);
 }
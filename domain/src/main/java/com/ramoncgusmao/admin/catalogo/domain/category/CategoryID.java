@@ -2,14 +2,46 @@ package com.ramoncgusmao.admin.catalogo.domain.category;
 
 import com.ramoncgusmao.admin.catalogo.domain.Identifier;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
-public class CategoryID extends Identifier {
-    private final String value;
+public class CategoryID extends Identifier implements Comparable<CategoryID> {
 
-    private CategoryID(final String value){
-       this.value = value;
+    private static final int UUID_LENGTH = 36;
+    private static final byte[] HEX_DIGITS = new byte[128];
+
+    static {
+        Arrays.fill(HEX_DIGITS, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_DIGITS['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_DIGITS['a' + i] = (byte) (10 + i);
+        }
+    }
+
+    private final long mostSigBits;
+    private final long leastSigBits;
+    private final boolean uuid;
+    private final int hash;
+    private String value;
+
+    private CategoryID(final long mostSigBits, final long leastSigBits) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+        this.uuid = true;
+        this.hash = Long.hashCode(mostSigBits ^ leastSigBits);
+    }
+
+    private CategoryID(final String value) {
+        this.mostSigBits = 0;
+        this.leastSigBits = 0;
+        this.uuid = false;
+        this.hash = Objects.hashCode(value);
+        this.value = value;
     }
 
     public static CategoryID unique(){
@@ -17,15 +49,35 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID from(final String anId){
+        if (hasUuidShape(anId)) {
+            final var timeLow = parseHex(anId, 0, 8);
+            final var timeMid = parseHex(anId, 9, 13);
+            final var timeHigh = parseHex(anId, 14, 18);
+            final var clockSeq = parseHex(anId, 19, 23);
+            final var node = parseHex(anId, 24, 36);
+            if ((timeLow | timeMid | timeHigh | clockSeq | node) >= 0) {
+                return new CategoryID(timeLow << 32 | timeMid << 16 | timeHigh, clockSeq << 48 | node);
+            }
+        }
         return new CategoryID(anId);
     }
 
     public static CategoryID from(final UUID anId){
-        return new CategoryID(anId.toString().toLowerCase());
+        return new CategoryID(anId.getMostSignificantBits(), anId.getLeastSignificantBits());
     }
 
+    @Override
     public String getValue() {
-        return value;
+        var aValue = this.value;
+        if (aValue == null) {
+            aValue = new UUID(mostSigBits, leastSigBits).toString();
+            this.value = aValue;
+        }
+        return aValue;
+    }
+
+    public Optional<UUID> toUUID() {
+        return uuid ? Optional.of(new UUID(mostSigBits, leastSigBits)) : Optional.empty();
     }
 
     @Override
@@ -33,11 +85,50 @@ public class CategoryID extends Identifier {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         CategoryID that = (CategoryID) o;
-        return value.equals(that.value);
+        if (uuid != that.uuid || hash != that.hash) return false;
+        return uuid
+                ? mostSigBits == that.mostSigBits && leastSigBits == that.leastSigBits
+                : Objects.equals(value, that.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return hash;
+    }
+
+    @Override
+    public int compareTo(final CategoryID that) {
+        if (uuid != that.uuid) {
+            return uuid ? -1 : 1;
+        }
+        if (!uuid) {
+            return Comparator.nullsFirst(Comparator.<String>naturalOrder()).compare(value, that.value);
+        }
+        final var byMost = Long.compareUnsigned(mostSigBits, that.mostSigBits);
+        return byMost != 0 ? byMost : Long.compareUnsigned(leastSigBits, that.leastSigBits);
+    }
+
+    private static boolean hasUuidShape(final String anId) {
+        return anId != null
+                && anId.length() == UUID_LENGTH
+                && anId.charAt(8) == '-'
+                && anId.charAt(13) == '-'
+                && anId.charAt(18) == '-'
+                && anId.charAt(23) == '-';
+    }
+
+    /**
+     * Parses lowercase hex digits through a lookup table; returns a negative number if any character is not one.
+     */
+    private static long parseHex(final String anId, final int from, final int to) {
+        long result = 0;
+        int invalid = 0;
+        for (int i = from; i < to; i++) {
+            final var c = anId.charAt(i);
+            final int nibble = c < HEX_DIGITS.length ? HEX_DIGITS[c] : -1;
+            invalid |= nibble;
+            result = result << 4 | (nibble & 0xF);
+        }
+        return invalid < 0 ? -1 : result;
     }
 }
@@ -0,0 +1,26 @@
+package com.ramoncgusmao.admin.catalogo.domain.category;
+
+import com.ramoncgusmao.admin.catalogo.domain.event.DomainEvent;
+
+import java.time.Instant;
+
+public record CategoryUpdated(
+		CategoryID aggregateId,
+		long aggregateVersion,
+		Instant occurredOn,
+		String name,
+		String description,
+		boolean active
+) implements DomainEvent {
+
+	static CategoryUpdated of(final Category aCategory) {
+		return new CategoryUpdated(
+				aCategory.getId(),
+				aCategory.getVersion() + 1,
+				aCategory.getUpdatedAt(),
+				aCategory.getName(),
+				aCategory.getDescription(),
+				aCategory.isActive()
+		);
+	}
+}
@@ -6,6 +6,14 @@ import com.ramoncgusmao.admin.catalogo.domain.validation.Validator;
 
 public class CategoryValidator extends Validator {
 
+    public static final int NAME_MIN_LENGTH = 3;
+    public static final int NAME_MAX_LENGTH = 255;
+
+    private static final Error NULL_NAME = new Error("'name' should not be null");
+    private static final Error EMPTY_NAME = new Error("'name' should not be empty");
+    private static final Error INVALID_NAME_LENGTH =
+            new Error("'name' must be between %d and %d character".formatted(NAME_MIN_LENGTH, NAME_MAX_LENGTH));
+
     private final Category category;
 
     public CategoryValidator(final Category aCategory, final ValidationHandler aHandler){
@@ -18,21 +26,36 @@ public class CategoryValidator extends Validator {
     public void validate() {
         final var name = this.category.getName();
         if  (name == null){
-            this.validationHandler().append(new Error("'name' should not be null"));
+            this.validationHandler().append(NULL_NAME);
             return;
         }
 
 
 
         if (name.isBlank()){
-            this.validationHandler().append(new Error("'name' should not be empty"));
+            this.validationHandler().append(EMPTY_NAME);
             return;
         }
 
 
-        final int length = name.trim().length();
-        if (length < 3 || length > 255)
-            this.validationHandler().append(new Error("'name' must be between 3 and 255 character"));
+        final int length = trimmedLength(name);
+        if (length < NAME_MIN_LENGTH || length > NAME_MAX_LENGTH)
+            this.validationHandler().append(INVALID_NAME_LENGTH);
+
+    }
 
+    /**
+     * Same length as {@code aText.trim().length()} without copying the string.
+     */
+    private static int trimmedLength(final String aText) {
+        int start = 0;
+        int end = aText.length();
+        while (start < end && aText.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && aText.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end - start;
     }
 }
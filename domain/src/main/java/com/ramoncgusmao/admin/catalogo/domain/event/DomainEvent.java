@@ -0,0 +1,18 @@
+package com.ramoncgusmao.admin.catalogo.domain.event;
+
+import com.ramoncgusmao.admin.catalogo.domain.Identifier;
+
+import java.time.Instant;
+
+/**
+ * Something that happened to an aggregate. {@link #aggregateVersion()} is the version the change is stored as, so
+ * consumers can drop events older than what they have already applied.
+ */
+public interface DomainEvent {
+
+	Identifier aggregateId();
+
+	long aggregateVersion();
+
+	Instant occurredOn();
+}
@@ -8,7 +8,7 @@ public class DomainException extends NoStackTraceException{
 
     private final List<Error> errors;
 
-    private DomainException(final String aMessage, final List<Error> anErrors){
+    protected DomainException(final String aMessage, final List<Error> anErrors){
         super(aMessage);
         this.errors = anErrors;
     }
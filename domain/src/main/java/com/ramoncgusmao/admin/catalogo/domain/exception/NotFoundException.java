@@ -0,0 +1,16 @@
+package com.ramoncgusmao.admin.catalogo.domain.exception;
+
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public class NotFoundException extends DomainException {
+
+	protected NotFoundException(final String aMessage, final List<Error> anErrors) {
+		super(aMessage, anErrors);
+	}
+
+	public static NotFoundException with(final Error anError) {
+		return new NotFoundException(anError.message(), List.of(anError));
+	}
+}
@@ -0,0 +1,16 @@
+package com.ramoncgusmao.admin.catalogo.domain.exception;
+
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public class VersionConflictException extends DomainException {
+
+	protected VersionConflictException(final String aMessage, final List<Error> anErrors) {
+		super(aMessage, anErrors);
+	}
+
+	public static VersionConflictException with(final Error anError) {
+		return new VersionConflictException(anError.message(), List.of(anError));
+	}
+}
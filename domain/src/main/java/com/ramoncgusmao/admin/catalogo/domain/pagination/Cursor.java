@@ -0,0 +1,51 @@
+package com.ramoncgusmao.admin.catalogo.domain.pagination;
+
+import com.ramoncgusmao.admin.catalogo.domain.exception.DomainException;
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position of the last item of a keyset page: its sort key and its identifier. Clients only ever see the opaque
+ * token produced by {@link #encode()}.
+ */
+public record Cursor(
+        String key,
+        String id
+) {
+
+    private static final char NULL_KEY = '0';
+    private static final char PRESENT_KEY = '1';
+
+    public Cursor {
+        Objects.requireNonNull(id, "'id' should not be null");
+    }
+
+    public static Cursor of(final String aKey, final String anId) {
+        return new Cursor(aKey, anId);
+    }
+
+    public static Cursor decode(final String aToken) {
+        try {
+            final var raw = new String(Base64.getUrlDecoder().decode(aToken), StandardCharsets.UTF_8);
+            if (raw.charAt(0) == NULL_KEY) {
+                return new Cursor(null, raw.substring(1));
+            }
+            final var separator = raw.indexOf(':');
+            final var keyLength = Integer.parseInt(raw.substring(1, separator));
+            final var keyEnd = separator + 1 + keyLength;
+            return new Cursor(raw.substring(separator + 1, keyEnd), raw.substring(keyEnd));
+        } catch (final RuntimeException ex) {
+            throw DomainException.with(new Error("Invalid cursor '%s'".formatted(aToken)));
+        }
+    }
+
+    public String encode() {
+        final var raw = key == null
+                ? NULL_KEY + id
+                : PRESENT_KEY + Integer.toString(key.length()) + ':' + key + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,14 @@
+package com.ramoncgusmao.admin.catalogo.domain.pagination;
+
+import java.util.List;
+
+public record CursorPagination<T>(
+        int perPage,
+        String nextCursor,
+        List<T> items
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.ramoncgusmao.admin.catalogo.domain.pagination;
+
+public record CursorQuery(
+        String cursor,
+        int perPage,
+        String terms,
+        String sort,
+        String direction
+) {
+}
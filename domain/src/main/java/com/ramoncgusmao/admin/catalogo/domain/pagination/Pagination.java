@@ -1,6 +1,7 @@
 package com.ramoncgusmao.admin.catalogo.domain.pagination;
 
 import java.util.List;
+import java.util.function.Function;
 
 public record Pagination<T>(
         int currentPage,
@@ -8,4 +9,8 @@ public record Pagination<T>(
         long total,
         List<T> items
 ) {
+
+    public <R> Pagination<R> map(final Function<T, R> mapper) {
+        return new Pagination<>(currentPage, perPage, total, items.stream().map(mapper).toList());
+    }
 }
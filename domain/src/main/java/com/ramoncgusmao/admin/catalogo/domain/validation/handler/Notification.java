@@ -9,7 +9,7 @@ import java.util.List;
 
 public class Notification implements ValidationHandler {
 
-    private final List<Error> errors;
+    private List<Error> errors;
 
     private Notification(final List<Error> errors) {
         this.errors = errors;
@@ -20,23 +20,25 @@ public class Notification implements ValidationHandler {
     }
 
     public static Notification create() {
-        return new Notification(new ArrayList<>());
+        return new Notification(null);
     }
 
     public static Notification create(final Error anError) {
-        return new Notification(new ArrayList<>()).append(anError);
+        return new Notification(null).append(anError);
     }
 
     @Override
     public Notification append(Error anError) {
-        this.errors.add(anError);
+        errors().add(anError);
         return this;
     }
 
 
     @Override
     public ValidationHandler append(ValidationHandler anHandler) {
-        this.errors.addAll(anHandler.getErrors());
+        if (anHandler.hasError()) {
+            errors().addAll(anHandler.getErrors());
+        }
         return this;
     }
 
@@ -45,9 +47,9 @@ public class Notification implements ValidationHandler {
         try {
             aValidation.validate();
         } catch (final DomainException ex) {
-            this.errors.addAll(ex.getErrors());
+            errors().addAll(ex.getErrors());
         } catch (final Throwable t) {
-            this.errors.add(new Error(t.getMessage()));
+            errors().add(new Error(t.getMessage()));
         }
 
         return this;
@@ -55,6 +57,18 @@ public class Notification implements ValidationHandler {
 
     @Override
     public List<Error> getErrors() {
+        return this.errors == null ? List.of() : this.errors;
+    }
+
+    @Override
+    public boolean hasError() {
+        return this.errors != null && !this.errors.isEmpty();
+    }
+
+    private List<Error> errors() {
+        if (this.errors == null) {
+            this.errors = new ArrayList<>(2);
+        }
         return this.errors;
     }
 }
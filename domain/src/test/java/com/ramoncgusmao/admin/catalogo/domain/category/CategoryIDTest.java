@@ -0,0 +1,51 @@
+package com.ramoncgusmao.admin.catalogo.domain.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+public class CategoryIDTest {
+
+	@Test
+	public void givenAUuid_whenCallsFrom_thenGetValueReturnsLowercaseString() {
+		final var aUuid = UUID.randomUUID();
+
+		final var actualId = CategoryID.from(aUuid);
+
+		Assertions.assertEquals(aUuid.toString().toLowerCase(), actualId.getValue());
+	}
+
+	@Test
+	public void givenACanonicalUuidString_whenCallsFrom_thenEqualsTheUuidId() {
+		final var expectedId = CategoryID.unique();
+
+		final var actualId = CategoryID.from(expectedId.getValue());
+
+		Assertions.assertEquals(expectedId, actualId);
+		Assertions.assertEquals(expectedId.hashCode(), actualId.hashCode());
+		Assertions.assertEquals(0, expectedId.compareTo(actualId));
+		Assertions.assertEquals(expectedId.getValue(), actualId.getValue());
+	}
+
+	@Test
+	public void givenANonUuidString_whenCallsFrom_thenKeepsTheOriginalValue() {
+		final var expectedValue = "123";
+		final var upperCaseUuid = "0A4F2C1E-7D21-4D2A-9A57-A5A9F8F5F2D1";
+
+		Assertions.assertEquals(expectedValue, CategoryID.from(expectedValue).getValue());
+		Assertions.assertEquals(CategoryID.from(expectedValue), CategoryID.from(expectedValue));
+		Assertions.assertEquals(upperCaseUuid, CategoryID.from(upperCaseUuid).getValue());
+		Assertions.assertNotEquals(CategoryID.from(upperCaseUuid), CategoryID.from(upperCaseUuid.toLowerCase()));
+	}
+
+	@Test
+	public void givenTwoUuidIds_whenCallsCompareTo_thenOrdersLikeTheirStrings() {
+		final var first = CategoryID.from("0a4f2c1e-7d21-4d2a-9a57-a5a9f8f5f2d1");
+		final var second = CategoryID.from("f0000000-0000-4000-8000-000000000000");
+
+		Assertions.assertTrue(first.compareTo(second) < 0);
+		Assertions.assertTrue(second.compareTo(first) > 0);
+		Assertions.assertTrue(first.compareTo(CategoryID.from("123")) < 0);
+	}
+}
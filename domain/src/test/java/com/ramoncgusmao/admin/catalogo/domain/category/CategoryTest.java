@@ -262,4 +262,46 @@ public class CategoryTest {
 
 
 	}
+
+	@Test
+	public void givenANewCategory_whenCallsPullEvents_shouldReturnCategoryCreatedOnce() {
+		final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+		final var events = aCategory.pullEvents();
+
+		Assertions.assertEquals(1, events.size());
+		final var created = Assertions.assertInstanceOf(CategoryCreated.class, events.get(0));
+		Assertions.assertEquals(aCategory.getId(), created.aggregateId());
+		Assertions.assertEquals(0, created.aggregateVersion());
+		Assertions.assertEquals("Filmes", created.name());
+		Assertions.assertTrue(aCategory.pullEvents().isEmpty());
+	}
+
+	@Test
+	public void givenAnActiveCategory_whenCallsUpdateToInactive_shouldRecordDeactivatedAndUpdated() {
+		final var aCategory = Category.newCategory("Filmes", null, true);
+		aCategory.pullEvents();
+
+		aCategory.update("Series", null, false).update("Series", "Temporadas", false);
+
+		final var events = aCategory.pullEvents();
+		Assertions.assertEquals(3, events.size());
+		Assertions.assertInstanceOf(CategoryDeactivated.class, events.get(0));
+		Assertions.assertInstanceOf(CategoryUpdated.class, events.get(1));
+		final var updated = Assertions.assertInstanceOf(CategoryUpdated.class, events.get(2));
+		Assertions.assertEquals("Temporadas", updated.description());
+		Assertions.assertEquals(1, updated.aggregateVersion());
+	}
+
+	@Test
+	public void givenARecordedEvent_whenCallsClone_shouldLeaveTheEventOnTheOriginal() {
+		final var aCategory = Category.newCategory("Filmes", null, false);
+
+		final var aCopy = aCategory.clone().activate();
+
+		Assertions.assertEquals(1, aCategory.pullEvents().size());
+		final var events = aCopy.pullEvents();
+		Assertions.assertEquals(1, events.size());
+		Assertions.assertInstanceOf(CategoryActivated.class, events.get(0));
+	}
 }
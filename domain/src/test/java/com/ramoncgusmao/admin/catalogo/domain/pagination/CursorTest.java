@@ -0,0 +1,36 @@
+package com.ramoncgusmao.admin.catalogo.domain.pagination;
+
+import com.ramoncgusmao.admin.catalogo.domain.exception.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CursorTest {
+
+	@Test
+	public void givenACursor_whenEncodeAndDecode_thenReturnSameKeyAndId() {
+		final var expectedKey = "Filmes: ação 100%";
+		final var expectedId = "0a4f2c1e-7d21-4d2a-9a57-a5a9f8f5f2d1";
+
+		final var aToken = Cursor.of(expectedKey, expectedId).encode();
+		final var actualCursor = Cursor.decode(aToken);
+
+		Assertions.assertFalse(aToken.contains(expectedId));
+		Assertions.assertEquals(expectedKey, actualCursor.key());
+		Assertions.assertEquals(expectedId, actualCursor.id());
+	}
+
+	@Test
+	public void givenACursorWithNullKey_whenEncodeAndDecode_thenReturnNullKey() {
+		final var actualCursor = Cursor.decode(Cursor.of(null, "123").encode());
+
+		Assertions.assertNull(actualCursor.key());
+		Assertions.assertEquals("123", actualCursor.id());
+	}
+
+	@Test
+	public void givenAnInvalidToken_whenDecode_thenThrowDomainException() {
+		final var actualException = Assertions.assertThrows(DomainException.class, () -> Cursor.decode("%%%"));
+
+		Assertions.assertEquals("Invalid cursor '%%%'", actualException.getErrors().get(0).message());
+	}
+}
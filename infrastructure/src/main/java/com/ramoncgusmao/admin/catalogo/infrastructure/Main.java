@@ -1,8 +1,94 @@
 package com.ramoncgusmao.admin.catalogo.infrastructure;
 
+import com.ramoncgusmao.admin.catalogo.application.category.purge.DefaultPurgeDeletedCategoriesUseCase;
+import com.ramoncgusmao.admin.catalogo.application.limit.ConcurrencyLimitOptions;
+import com.ramoncgusmao.admin.catalogo.application.metrics.UseCaseMetrics;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.infrastructure.api.CategoryHttpServer;
+import com.ramoncgusmao.admin.catalogo.infrastructure.api.HttpServerOptions;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.event.PublishingCategoryGateway;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.jfr.RecordedCategoryGateway;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.CategoryInMemoryGateway;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log.CategoryLogGateway;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log.CategoryLogOptions;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.purge.CategoryPurgeJob;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.purge.CategoryPurgeOptions;
+import com.ramoncgusmao.admin.catalogo.infrastructure.event.DomainEventStream;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
 public class Main {
+
+    private static final int EVENT_RING_CAPACITY = 4096;
+    private static final Duration PURGE_INITIAL_DELAY = Duration.ofMinutes(1);
+
     public static void main(String[] args) {
+        final var server = start(args);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        System.out.println("Listening on port " + server.port());
+    }
+
+    /**
+     * Starts the API on the port given as the first argument (8080 by default). Categories are kept in memory unless
+     * {@code CATALOGO_DATA_DIR} points to a directory for the log-structured store. Use case latencies and outcomes
+     * are published as platform MBeans, use cases, gateway calls and validations emit Flight Recorder events, and
+     * stored changes are published to {@link Server#events()}. When {@code CATALOGO_PURGE_RETENTION} holds an ISO-8601
+     * duration such as {@code P30D}, categories deleted longer ago than that are purged in the background. When
+     * {@code CATALOGO_USECASE_LATENCY_TARGET} holds one such as {@code PT0.1S}, each use case gets a concurrency limit
+     * that backs off whenever executions take longer than that.
+     */
+    public static Server start(final String[] args) {
+        final var aPort = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        final var aDataDir = System.getenv("CATALOGO_DATA_DIR");
+        final CategoryGateway aGateway = aDataDir == null || aDataDir.isBlank()
+                ? new CategoryInMemoryGateway()
+                : new CategoryLogGateway(CategoryLogOptions.with(Path.of(aDataDir)));
+        final var aMetrics = UseCaseMetrics.registeredWith(ManagementFactory.getPlatformMBeanServer());
+        final var anEventStream = new DomainEventStream(EVENT_RING_CAPACITY);
+        final var aServedGateway = new RecordedCategoryGateway(new PublishingCategoryGateway(aGateway, anEventStream));
+        final var aLatencyTarget = System.getenv("CATALOGO_USECASE_LATENCY_TARGET");
+        final var anHttpOptions = aLatencyTarget == null || aLatencyTarget.isBlank()
+                ? HttpServerOptions.with(aPort)
+                : HttpServerOptions.with(aPort).withUseCaseLimits(ConcurrencyLimitOptions.with(Duration.parse(aLatencyTarget)));
+        final var anHttpServer = CategoryHttpServer.start(anHttpOptions, aServedGateway, aMetrics);
+        final var aRetention = System.getenv("CATALOGO_PURGE_RETENTION");
+        final var aPurgeJob = aRetention == null || aRetention.isBlank()
+                ? null
+                : new CategoryPurgeJob(
+                        aMetrics.measure(new DefaultPurgeDeletedCategoriesUseCase(aServedGateway)),
+                        CategoryPurgeOptions.with(Duration.parse(aRetention)),
+                        Clock.systemUTC()
+                ).registerWith(ManagementFactory.getPlatformMBeanServer()).start(PURGE_INITIAL_DELAY);
+        return new Server(anHttpServer, aGateway, anEventStream, aPurgeJob);
+    }
+
+    /**
+     * @param purge the background purge job, or null when it is not enabled
+     */
+    public record Server(
+            CategoryHttpServer http,
+            CategoryGateway gateway,
+            DomainEventStream events,
+            CategoryPurgeJob purge
+    ) implements AutoCloseable {
+
+        public int port() {
+            return http.port();
+        }
 
-        System.out.println("Hello world!");
+        @Override
+        public void close() {
+            if (purge != null) {
+                purge.close();
+            }
+            http.close();
+            events.close();
+            if (gateway instanceof CategoryLogGateway aLogGateway) {
+                aLogGateway.close();
+            }
+        }
     }
-}
\ No newline at end of file
+}
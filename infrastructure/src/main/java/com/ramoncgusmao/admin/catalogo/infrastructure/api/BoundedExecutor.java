@@ -0,0 +1,44 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.api;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Caps the number of tasks running on an unbounded executor. A caller that submits past the limit blocks until a
+ * running task finishes; for the HTTP server that caller is the dispatcher thread, so excess connections wait in
+ * the accept queue instead of piling up as threads.
+ */
+class BoundedExecutor implements Executor {
+
+	private final Executor delegate;
+	private final Semaphore permits;
+
+	BoundedExecutor(final Executor delegate, final int maxConcurrentTasks) {
+		this.delegate = Objects.requireNonNull(delegate);
+		this.permits = new Semaphore(maxConcurrentTasks);
+	}
+
+	@Override
+	public void execute(final Runnable aTask) {
+		try {
+			this.permits.acquire();
+		} catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new RejectedExecutionException("Interrupted while waiting for a free worker", ex);
+		}
+		try {
+			this.delegate.execute(() -> {
+				try {
+					aTask.run();
+				} finally {
+					this.permits.release();
+				}
+			});
+		} catch (final RuntimeException ex) {
+			this.permits.release();
+			throw ex;
+		}
+	}
+}
@@ -0,0 +1,302 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.api;
+
+import com.ramoncgusmao.admin.catalogo.application.UnitUsecase;
+import com.ramoncgusmao.admin.catalogo.application.Usecase;
+import com.ramoncgusmao.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.ramoncgusmao.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.ramoncgusmao.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.ramoncgusmao.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.ramoncgusmao.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.ramoncgusmao.admin.catalogo.application.category.update.UpdateCategoryOutput;
+import com.ramoncgusmao.admin.catalogo.application.limit.ConcurrencyLimitExceededException;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategorySearchQuery;
+import com.ramoncgusmao.admin.catalogo.domain.exception.DomainException;
+import com.ramoncgusmao.admin.catalogo.domain.exception.NotFoundException;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.Pagination;
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.CategorySortField;
+import com.ramoncgusmao.admin.catalogo.infrastructure.json.JsonException;
+import com.ramoncgusmao.admin.catalogo.infrastructure.json.JsonReader;
+import com.ramoncgusmao.admin.catalogo.infrastructure.json.JsonWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import io.vavr.control.Either;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Routes {@code /categories} requests to the category use cases.
+ * <p>
+ * Request bodies are decoded by a pull parser straight from the exchange stream and responses are encoded into a
+ * buffer first, so every response carries a {@code Content-Length} and the connection can be reused. Not found
+ * errors answer 404, use cases over their concurrency limit 503, other domain errors 422 and malformed requests 400.
+ * A {@code POST} may carry an {@code Idempotency-Key} header, which is passed on with the create command.
+ */
+class CategoryHttpHandler implements HttpHandler {
+
+	static final String PATH = "/categories";
+
+	private static final String JSON = "application/json; charset=utf-8";
+	private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+	private final Usecase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> createCategoryUseCase;
+	private final Usecase<UpdateCategoryCommand, Either<Notification, UpdateCategoryOutput>> updateCategoryUseCase;
+	private final Usecase<String, CategoryOutput> getCategoryByIdUseCase;
+	private final Usecase<CategorySearchQuery, Pagination<CategoryListOutput>> listCategoriesUseCase;
+	private final UnitUsecase<String> deleteCategoryUseCase;
+	private final int maxRequestBytes;
+
+	CategoryHttpHandler(
+			final Usecase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> createCategoryUseCase,
+			final Usecase<UpdateCategoryCommand, Either<Notification, UpdateCategoryOutput>> updateCategoryUseCase,
+			final Usecase<String, CategoryOutput> getCategoryByIdUseCase,
+			final Usecase<CategorySearchQuery, Pagination<CategoryListOutput>> listCategoriesUseCase,
+			final UnitUsecase<String> deleteCategoryUseCase,
+			final int maxRequestBytes
+	) {
+		this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+		this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
+		this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+		this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+		this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+		this.maxRequestBytes = maxRequestBytes;
+	}
+
+	@Override
+	public void handle(final HttpExchange anExchange) throws IOException {
+		try (anExchange) {
+			try {
+				route(anExchange);
+			} catch (final NotFoundException ex) {
+				sendErrors(anExchange, 404, ex.getErrors());
+			} catch (final ConcurrencyLimitExceededException ex) {
+				anExchange.getResponseHeaders().set("Retry-After", "1");
+				sendErrors(anExchange, 503, ex.getErrors());
+			} catch (final DomainException ex) {
+				sendErrors(anExchange, 422, ex.getErrors());
+			} catch (final JsonException | IllegalArgumentException ex) {
+				sendErrors(anExchange, 400, List.of(new Error(ex.getMessage())));
+			} catch (final RequestTooLargeException ex) {
+				anExchange.getResponseHeaders().set("Connection", "close");
+				sendErrors(anExchange, 413, List.of(new Error(ex.getMessage())));
+			} catch (final RuntimeException ex) {
+				sendErrors(anExchange, 500, List.of(new Error("Internal server error")));
+			}
+		}
+	}
+
+	private void route(final HttpExchange anExchange) throws IOException {
+		final var aPath = anExchange.getRequestURI().getRawPath();
+		final var aMethod = anExchange.getRequestMethod();
+		final var anId = aPath.length() > PATH.length() + 1
+				? URLDecoder.decode(aPath.substring(PATH.length() + 1), StandardCharsets.UTF_8)
+				: null;
+
+		if (!aPath.equals(PATH) && !aPath.equals(PATH + "/") && (anId == null || !aPath.startsWith(PATH + "/") || anId.contains("/"))) {
+			sendErrors(anExchange, 404, List.of(new Error("Resource %s was not found".formatted(aPath))));
+			return;
+		}
+
+		if (anId == null) {
+			switch (aMethod) {
+				case "POST" -> create(anExchange);
+				case "GET" -> list(anExchange);
+				default -> methodNotAllowed(anExchange, "GET, POST");
+			}
+		} else {
+			switch (aMethod) {
+				case "GET" -> get(anExchange, anId);
+				case "PUT" -> update(anExchange, anId);
+				case "DELETE" -> delete(anExchange, anId);
+				default -> methodNotAllowed(anExchange, "GET, PUT, DELETE");
+			}
+		}
+	}
+
+	private void create(final HttpExchange anExchange) throws IOException {
+		final var aBody = CategoryJson.readCreateCommand(requestBody(anExchange));
+		final var aCommand = CreateCategoryCommand.with(
+				aBody.name(),
+				aBody.description(),
+				aBody.isActive(),
+				anExchange.getRequestHeaders().getFirst(IDEMPOTENCY_KEY)
+		);
+		final var anOutput = this.createCategoryUseCase.execute(aCommand);
+		if (anOutput.isLeft()) {
+			sendErrors(anExchange, 422, anOutput.getLeft().getErrors());
+			return;
+		}
+		final var anId = anOutput.get().id().getValue();
+		anExchange.getResponseHeaders().set("Location", PATH + "/" + anId);
+		send(anExchange, 201, aWriter -> CategoryJson.writeId(aWriter, anId));
+	}
+
+	private void update(final HttpExchange anExchange, final String anId) throws IOException {
+		final var aCommand = CategoryJson.readUpdateCommand(anId, requestBody(anExchange));
+		final var anOutput = this.updateCategoryUseCase.execute(aCommand);
+		if (anOutput.isLeft()) {
+			sendErrors(anExchange, 422, anOutput.getLeft().getErrors());
+			return;
+		}
+		send(anExchange, 200, aWriter -> CategoryJson.writeId(aWriter, anOutput.get().id().getValue()));
+	}
+
+	private void get(final HttpExchange anExchange, final String anId) throws IOException {
+		final var anOutput = this.getCategoryByIdUseCase.execute(anId);
+		send(anExchange, 200, aWriter -> CategoryJson.writeCategory(aWriter, anOutput));
+	}
+
+	private void list(final HttpExchange anExchange) throws IOException {
+		final var params = queryParams(anExchange.getRequestURI().getRawQuery());
+		final var aQuery = new CategorySearchQuery(
+				intParam(params, "page", 0),
+				intParam(params, "perPage", 10),
+				params.getOrDefault("search", ""),
+				sortParam(params),
+				params.getOrDefault("dir", "asc")
+		);
+		final var aPage = this.listCategoriesUseCase.execute(aQuery);
+		send(anExchange, 200, aWriter -> CategoryJson.writePage(aWriter, aPage));
+	}
+
+	private void delete(final HttpExchange anExchange, final String anId) throws IOException {
+		this.deleteCategoryUseCase.execute(anId);
+		anExchange.sendResponseHeaders(204, -1);
+	}
+
+	private void methodNotAllowed(final HttpExchange anExchange, final String allowed) throws IOException {
+		anExchange.getResponseHeaders().set("Allow", allowed);
+		sendErrors(anExchange, 405, List.of(new Error("Method %s is not allowed".formatted(anExchange.getRequestMethod()))));
+	}
+
+	private JsonReader requestBody(final HttpExchange anExchange) {
+		final var aLength = anExchange.getRequestHeaders().getFirst("Content-Length");
+		if (aLength != null && Long.parseLong(aLength.trim()) > this.maxRequestBytes) {
+			throw new RequestTooLargeException(this.maxRequestBytes);
+		}
+		return new JsonReader(new LimitedInputStream(anExchange.getRequestBody(), this.maxRequestBytes));
+	}
+
+	private static void sendErrors(final HttpExchange anExchange, final int aStatus, final List<Error> anErrors) throws IOException {
+		send(anExchange, aStatus, aWriter -> CategoryJson.writeErrors(aWriter, anErrors));
+	}
+
+	private static void send(final HttpExchange anExchange, final int aStatus, final Body aBody) throws IOException {
+		final var bytes = new ByteArrayOutputStream(256);
+		final var aWriter = new JsonWriter(bytes, 1024);
+		aBody.writeTo(aWriter);
+		aWriter.flush();
+
+		anExchange.getResponseHeaders().set("Content-Type", JSON);
+		anExchange.sendResponseHeaders(aStatus, bytes.size());
+		try (final OutputStream out = anExchange.getResponseBody()) {
+			bytes.writeTo(out);
+		}
+	}
+
+	private static Map<String, String> queryParams(final String aRawQuery) {
+		final var params = new HashMap<String, String>();
+		if (aRawQuery == null || aRawQuery.isEmpty()) {
+			return params;
+		}
+		for (final var aPair : aRawQuery.split("&")) {
+			final var separator = aPair.indexOf('=');
+			final var aKey = separator < 0 ? aPair : aPair.substring(0, separator);
+			final var aValue = separator < 0 ? "" : aPair.substring(separator + 1);
+			params.putIfAbsent(
+					URLDecoder.decode(aKey, StandardCharsets.UTF_8),
+					URLDecoder.decode(aValue, StandardCharsets.UTF_8)
+			);
+		}
+		return params;
+	}
+
+	private static int intParam(final Map<String, String> params, final String aName, final int aDefault) {
+		final var aValue = params.get(aName);
+		if (aValue == null || aValue.isBlank()) {
+			return aDefault;
+		}
+		try {
+			return Integer.parseInt(aValue.trim());
+		} catch (final NumberFormatException ex) {
+			throw new IllegalArgumentException("Query parameter '%s' must be an integer".formatted(aName));
+		}
+	}
+
+	private static String sortParam(final Map<String, String> params) {
+		final var aValue = params.get("sort");
+		if (aValue == null || aValue.isBlank()) {
+			return CategorySortField.NAME.field();
+		}
+		for (final var aField : CategorySortField.values()) {
+			if (aField.field().equalsIgnoreCase(aValue.trim())) {
+				return aField.field();
+			}
+		}
+		throw new IllegalArgumentException("Query parameter 'sort' must be one of %s".formatted(
+				Arrays.stream(CategorySortField.values()).map(CategorySortField::field).collect(Collectors.joining(", "))
+		));
+	}
+
+	@FunctionalInterface
+	private interface Body {
+		void writeTo(JsonWriter aWriter) throws IOException;
+	}
+
+	private static final class RequestTooLargeException extends RuntimeException {
+
+		private RequestTooLargeException(final int maxBytes) {
+			super("Request body exceeds %d bytes".formatted(maxBytes));
+		}
+	}
+
+	private static final class LimitedInputStream extends FilterInputStream {
+
+		private final int maxBytes;
+		private long remaining;
+
+		private LimitedInputStream(final InputStream in, final int maxBytes) {
+			super(in);
+			this.maxBytes = maxBytes;
+			this.remaining = maxBytes;
+		}
+
+		@Override
+		public int read() throws IOException {
+			final var b = super.read();
+			if (b >= 0) {
+				consumed(1);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+			final var read = super.read(b, off, len);
+			if (read > 0) {
+				consumed(read);
+			}
+			return read;
+		}
+
+		private void consumed(final int bytes) {
+			this.remaining -= bytes;
+			if (this.remaining < 0) {
+				throw new RequestTooLargeException(this.maxBytes);
+			}
+		}
+	}
+}
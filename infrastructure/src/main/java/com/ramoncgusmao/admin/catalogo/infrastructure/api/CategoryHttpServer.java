@@ -0,0 +1,109 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.api;
+
+import com.ramoncgusmao.admin.catalogo.application.UseCaseExecutors;
+import com.ramoncgusmao.admin.catalogo.application.Usecase;
+import com.ramoncgusmao.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.ramoncgusmao.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.ramoncgusmao.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.ramoncgusmao.admin.catalogo.application.category.create.IdempotentCreateCategoryUseCase;
+import com.ramoncgusmao.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.ramoncgusmao.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.ramoncgusmao.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
+import com.ramoncgusmao.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
+import com.ramoncgusmao.admin.catalogo.application.idempotency.IdempotencyStore;
+import com.ramoncgusmao.admin.catalogo.application.limit.ConcurrencyLimits;
+import com.ramoncgusmao.admin.catalogo.application.metrics.UseCaseMetrics;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.validation.handler.Notification;
+import com.sun.net.httpserver.HttpServer;
+import io.vavr.control.Either;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Category HTTP API on the JDK built-in server. Each exchange runs on its own virtual thread (or a cached platform
+ * thread on runtimes without them), with at most {@link HttpServerOptions#maxConcurrentRequests()} in flight.
+ */
+public class CategoryHttpServer implements AutoCloseable {
+
+	private final HttpServer server;
+	private final ExecutorService workers;
+
+	private CategoryHttpServer(final HttpServer server, final ExecutorService workers) {
+		this.server = server;
+		this.workers = workers;
+	}
+
+	public static CategoryHttpServer start(final HttpServerOptions options, final CategoryGateway aGateway) {
+		return start(options, aGateway, UseCaseMetrics.create());
+	}
+
+	/**
+	 * Starts the server with every use case measured into {@code aMetrics}. Creations replayed from the idempotency
+	 * store never reach the measured create use case. With {@link HttpServerOptions#useCaseLimits()} set, each use
+	 * case gets its own adaptive concurrency limit and executions over it are refused before they are measured.
+	 */
+	public static CategoryHttpServer start(
+			final HttpServerOptions options,
+			final CategoryGateway aGateway,
+			final UseCaseMetrics aMetrics
+	) {
+		final var limits = options.useCaseLimits() == null ? null : ConcurrencyLimits.create(options.useCaseLimits());
+		final var deleteUseCase = aMetrics.measure(new DefaultDeleteCategoryUseCase(aGateway));
+		return start(options, new CategoryHttpHandler(
+				createUseCase(options, limit(limits, "CreateCategoryUseCase", aMetrics.measure(new DefaultCreateCategoryUseCase(aGateway)))),
+				limit(limits, "UpdateCategoryUseCase", aMetrics.measure(new DefaultUpdateCategoryUseCase(aGateway))),
+				limit(limits, "GetCategoryByIdUseCase", aMetrics.measure(new DefaultGetCategoryByIdUseCase(aGateway))),
+				limit(limits, "ListCategoriesUseCase", aMetrics.measure(new DefaultListCategoriesUseCase(aGateway))),
+				limits == null ? deleteUseCase : limits.limit("DeleteCategoryUseCase", deleteUseCase),
+				options.maxRequestBytes()
+		));
+	}
+
+	private static <IN, OUT> Usecase<IN, OUT> limit(
+			final ConcurrencyLimits limits,
+			final String aName,
+			final Usecase<IN, OUT> aUsecase
+	) {
+		return limits == null ? aUsecase : limits.limit(aName, aUsecase);
+	}
+
+	private static Usecase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> createUseCase(
+			final HttpServerOptions options,
+			final Usecase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> aCreateUseCase
+	) {
+		if (options.idempotencyKeys() == 0) {
+			return aCreateUseCase;
+		}
+		return new IdempotentCreateCategoryUseCase(
+				aCreateUseCase,
+				IdempotencyStore.create(options.idempotencyKeys(), options.idempotencyTtl())
+		);
+	}
+
+	static CategoryHttpServer start(final HttpServerOptions options, final CategoryHttpHandler aHandler) {
+		final HttpServer aServer;
+		try {
+			aServer = HttpServer.create(options.address(), options.backlog());
+		} catch (final IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		final var workers = UseCaseExecutors.newVirtualThreadPerTaskExecutor();
+		aServer.setExecutor(new BoundedExecutor(workers, options.maxConcurrentRequests()));
+		aServer.createContext(CategoryHttpHandler.PATH, aHandler);
+		aServer.start();
+		return new CategoryHttpServer(aServer, workers);
+	}
+
+	public int port() {
+		return this.server.getAddress().getPort();
+	}
+
+	@Override
+	public void close() {
+		this.server.stop(0);
+		this.workers.shutdown();
+	}
+}
@@ -0,0 +1,124 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.api;
+
+import com.ramoncgusmao.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.ramoncgusmao.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.ramoncgusmao.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.ramoncgusmao.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.Pagination;
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+import com.ramoncgusmao.admin.catalogo.infrastructure.json.JsonReader;
+import com.ramoncgusmao.admin.catalogo.infrastructure.json.JsonWriter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JSON mapping of the category commands and outputs. Field names are snake case; unknown request fields are skipped
+ * and {@code is_active} defaults to {@code true} when omitted.
+ */
+public final class CategoryJson {
+
+	private CategoryJson() {
+	}
+
+	public static CreateCategoryCommand readCreateCommand(final JsonReader aReader) throws IOException {
+		final var fields = readFields(aReader);
+		return CreateCategoryCommand.with(fields.name, fields.description, fields.active);
+	}
+
+	static UpdateCategoryCommand readUpdateCommand(final String anId, final JsonReader aReader) throws IOException {
+		final var fields = readFields(aReader);
+		return UpdateCategoryCommand.with(anId, fields.name, fields.description, fields.active);
+	}
+
+	static void writeId(final JsonWriter aWriter, final String anId) throws IOException {
+		aWriter.beginObject().name("id").value(anId).endObject();
+	}
+
+	static void writeCategory(final JsonWriter aWriter, final CategoryOutput anOutput) throws IOException {
+		aWriter.beginObject()
+				.name("id").value(anOutput.id().getValue())
+				.name("name").value(anOutput.name())
+				.name("description").value(anOutput.description())
+				.name("is_active").value(anOutput.isActive());
+		writeInstant(aWriter.name("created_at"), anOutput.createdAt());
+		writeInstant(aWriter.name("updated_at"), anOutput.updatedAt());
+		writeInstant(aWriter.name("deleted_at"), anOutput.deletedAt());
+		aWriter.endObject();
+	}
+
+	public static void writeCategory(final JsonWriter aWriter, final Category aCategory) throws IOException {
+		aWriter.beginObject()
+				.name("id").value(aCategory.getId().getValue())
+				.name("name").value(aCategory.getName())
+				.name("description").value(aCategory.getDescription())
+				.name("is_active").value(aCategory.isActive());
+		writeInstant(aWriter.name("created_at"), aCategory.getCreatedAt());
+		writeInstant(aWriter.name("updated_at"), aCategory.getUpdatedAt());
+		writeInstant(aWriter.name("deleted_at"), aCategory.getDeletedAt());
+		aWriter.endObject();
+	}
+
+	static void writePage(final JsonWriter aWriter, final Pagination<CategoryListOutput> aPage) throws IOException {
+		aWriter.beginObject()
+				.name("current_page").value(aPage.currentPage())
+				.name("per_page").value(aPage.perPage())
+				.name("total").value(aPage.total())
+				.name("items").beginArray();
+		for (final var anItem : aPage.items()) {
+			aWriter.beginObject()
+					.name("id").value(anItem.id().getValue())
+					.name("name").value(anItem.name())
+					.name("description").value(anItem.description())
+					.name("is_active").value(anItem.isActive());
+			writeInstant(aWriter.name("created_at"), anItem.createdAt());
+			writeInstant(aWriter.name("deleted_at"), anItem.deletedAt());
+			aWriter.endObject();
+		}
+		aWriter.endArray().endObject();
+	}
+
+	static void writeErrors(final JsonWriter aWriter, final List<Error> anErrors) throws IOException {
+		aWriter.beginObject()
+				.name("message").value(anErrors.isEmpty() ? "" : anErrors.get(0).message())
+				.name("errors").beginArray();
+		for (final var anError : anErrors) {
+			aWriter.beginObject().name("message").value(anError.message()).endObject();
+		}
+		aWriter.endArray().endObject();
+	}
+
+	private static void writeInstant(final JsonWriter aWriter, final Instant anInstant) throws IOException {
+		aWriter.value(anInstant == null ? null : anInstant.toString());
+	}
+
+	private static Fields readFields(final JsonReader aReader) throws IOException {
+		final var fields = new Fields();
+		aReader.beginObject();
+		while (aReader.hasNext()) {
+			final var aName = aReader.nextName();
+			if (aReader.peek() == JsonReader.Token.NULL) {
+				aReader.nextNull();
+				continue;
+			}
+			switch (aName) {
+				case "name" -> fields.name = aReader.nextString();
+				case "description" -> fields.description = aReader.nextString();
+				case "is_active" -> fields.active = aReader.nextBoolean();
+				default -> aReader.skipValue();
+			}
+		}
+		aReader.endObject();
+		// peeking past the object fails on any trailing content
+		aReader.peek();
+		return fields;
+	}
+
+	private static final class Fields {
+		private String name;
+		private String description;
+		private boolean active = true;
+	}
+}
@@ -0,0 +1,67 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.api;
+
+import com.ramoncgusmao.admin.catalogo.application.limit.ConcurrencyLimitOptions;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+public record HttpServerOptions(
+		String host,
+		int port,
+		int maxConcurrentRequests,
+		int backlog,
+		int maxRequestBytes,
+		int idempotencyKeys,
+		Duration idempotencyTtl,
+		ConcurrencyLimitOptions useCaseLimits
+) {
+
+	public HttpServerOptions {
+		if (port < 0 || port > 65535) {
+			throw new IllegalArgumentException("'port' must be between 0 and 65535");
+		}
+		if (maxConcurrentRequests < 1) {
+			throw new IllegalArgumentException("'maxConcurrentRequests' must be at least 1");
+		}
+		if (maxRequestBytes < 1) {
+			throw new IllegalArgumentException("'maxRequestBytes' must be at least 1");
+		}
+		if (idempotencyKeys < 0) {
+			throw new IllegalArgumentException("'idempotencyKeys' must not be negative");
+		}
+		if (idempotencyKeys > 0 && (idempotencyTtl == null || idempotencyTtl.isZero() || idempotencyTtl.isNegative())) {
+			throw new IllegalArgumentException("'idempotencyTtl' must be positive");
+		}
+	}
+
+	public static HttpServerOptions with(final int aPort) {
+		return new HttpServerOptions("0.0.0.0", aPort, 1024, 0, 64 * 1024, 10_000, Duration.ofHours(24), null);
+	}
+
+	public HttpServerOptions withMaxConcurrentRequests(final int aMaxConcurrentRequests) {
+		return new HttpServerOptions(host, port, aMaxConcurrentRequests, backlog, maxRequestBytes, idempotencyKeys, idempotencyTtl, useCaseLimits);
+	}
+
+	public HttpServerOptions withMaxRequestBytes(final int aMaxRequestBytes) {
+		return new HttpServerOptions(host, port, maxConcurrentRequests, backlog, aMaxRequestBytes, idempotencyKeys, idempotencyTtl, useCaseLimits);
+	}
+
+	/**
+	 * Remembers up to {@code aMaxKeys} idempotency keys of successful creations for {@code aTtl}; zero keys turns
+	 * deduplication off.
+	 */
+	public HttpServerOptions withIdempotency(final int aMaxKeys, final Duration aTtl) {
+		return new HttpServerOptions(host, port, maxConcurrentRequests, backlog, maxRequestBytes, aMaxKeys, aTtl, useCaseLimits);
+	}
+
+	/**
+	 * Gives every use case its own adaptive concurrency limit; null, the default, leaves them unlimited.
+	 */
+	public HttpServerOptions withUseCaseLimits(final ConcurrencyLimitOptions aUseCaseLimits) {
+		return new HttpServerOptions(host, port, maxConcurrentRequests, backlog, maxRequestBytes, idempotencyKeys, idempotencyTtl, aUseCaseLimits);
+	}
+
+	InetSocketAddress address() {
+		return new InetSocketAddress(host, port);
+	}
+}
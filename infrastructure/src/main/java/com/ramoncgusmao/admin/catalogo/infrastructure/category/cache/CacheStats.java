@@ -0,0 +1,15 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.cache;
+
+public record CacheStats(
+		long hits,
+		long misses,
+		long evictions,
+		long size,
+		long weight
+) {
+
+	public double hitRate() {
+		final var requests = hits + misses;
+		return requests == 0 ? 0 : (double) hits / requests;
+	}
+}
@@ -0,0 +1,114 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.cache;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategorySearchQuery;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorPagination;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorQuery;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.Pagination;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Read-through cache in front of another {@link CategoryGateway}. Only {@link #findById(CategoryID)} is served from
+ * the cache; every write goes to the delegate first and then invalidates the cached entry. Cached categories are
+ * copies and every hit returns a fresh copy.
+ */
+public class CachedCategoryGateway implements CategoryGateway {
+
+	private static final long BASE_WEIGHT = 160;
+
+	private final CategoryGateway delegate;
+	private final SegmentedLruCache<CategoryID, Category> cache;
+
+	public CachedCategoryGateway(final CategoryGateway delegate, final long maximumWeightInBytes, final Duration ttl) {
+		this(delegate, new SegmentedLruCache<>(
+				maximumWeightInBytes,
+				Runtime.getRuntime().availableProcessors() * 2,
+				CachedCategoryGateway::weigh,
+				ttl,
+				System::nanoTime
+		));
+	}
+
+	public CachedCategoryGateway(final CategoryGateway delegate, final SegmentedLruCache<CategoryID, Category> cache) {
+		this.delegate = Objects.requireNonNull(delegate);
+		this.cache = Objects.requireNonNull(cache);
+	}
+
+	@Override
+	public Category create(final Category aCategory) {
+		return this.delegate.create(aCategory);
+	}
+
+	@Override
+	public List<Category> createAll(final List<Category> aCategories) {
+		return this.delegate.createAll(aCategories);
+	}
+
+	@Override
+	public boolean deleteById(final CategoryID anId) {
+		try {
+			return this.delegate.deleteById(anId);
+		} finally {
+			this.cache.invalidate(anId);
+		}
+	}
+
+	@Override
+	public boolean deleteById(final CategoryID anId, final long anExpectedVersion) {
+		try {
+			return this.delegate.deleteById(anId, anExpectedVersion);
+		} finally {
+			this.cache.invalidate(anId);
+		}
+	}
+
+	@Override
+	public Optional<Category> findById(final CategoryID anId) {
+		final var cached = this.cache.get(anId);
+		if (cached != null) {
+			return Optional.of(cached.clone());
+		}
+
+		final var aStamp = this.cache.stamp(anId);
+		final var loaded = this.delegate.findById(anId);
+		loaded.ifPresent(aCategory -> this.cache.putIfUnchanged(anId, aCategory.clone(), aStamp));
+		return loaded;
+	}
+
+	@Override
+	public Category update(final Category aCategory) {
+		try {
+			return this.delegate.update(aCategory);
+		} finally {
+			this.cache.invalidate(aCategory.getId());
+		}
+	}
+
+	@Override
+	public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+		return this.delegate.findAll(aQuery);
+	}
+
+	@Override
+	public CursorPagination<Category> findAll(final CursorQuery aQuery) {
+		return this.delegate.findAll(aQuery);
+	}
+
+	public CacheStats stats() {
+		return this.cache.stats();
+	}
+
+	static long weigh(final Category aCategory) {
+		return BASE_WEIGHT + 2L * (length(aCategory.getName()) + length(aCategory.getDescription()));
+	}
+
+	private static int length(final String aText) {
+		return aText == null ? 0 : aText.length();
+	}
+}
@@ -0,0 +1,242 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounded, weight-aware cache with segmented LRU eviction.
+ * <p>
+ * New entries land in a probation segment and are promoted to a protected segment on their second hit, so a burst of
+ * one-off reads can only evict other one-off entries. Keys are spread over independently locked stripes, each with
+ * its share of the maximum weight. Writers that may race with an invalidation take a {@link #stamp(Object)} before
+ * loading and store with {@link #putIfUnchanged(Object, Object, long)}, which refuses values loaded before the last
+ * invalidation of the stripe.
+ */
+public class SegmentedLruCache<K, V> {
+
+	private static final double PROTECTED_RATIO = 0.8;
+
+	private final List<Stripe> stripes;
+	private final ToLongFunction<V> weigher;
+	private final long ttlNanos;
+	private final LongSupplier nanoClock;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	public SegmentedLruCache(
+			final long maximumWeight,
+			final int concurrency,
+			final ToLongFunction<V> weigher,
+			final Duration ttl,
+			final LongSupplier nanoClock
+	) {
+		if (maximumWeight <= 0) {
+			throw new IllegalArgumentException("'maximumWeight' must be positive");
+		}
+		final var stripeCount = Integer.highestOneBit(Math.max(1, Math.min(concurrency, 64)));
+		this.stripes = new ArrayList<>(stripeCount);
+		for (int i = 0; i < stripeCount; i++) {
+			this.stripes.add(new Stripe(Math.max(1, maximumWeight / stripeCount)));
+		}
+		this.weigher = Objects.requireNonNull(weigher);
+		this.ttlNanos = ttl == null || ttl.isZero() || ttl.isNegative() ? 0 : ttl.toNanos();
+		this.nanoClock = Objects.requireNonNull(nanoClock);
+	}
+
+	public V get(final K aKey) {
+		final var value = stripeOf(aKey).get(aKey);
+		if (value == null) {
+			this.misses.increment();
+		} else {
+			this.hits.increment();
+		}
+		return value;
+	}
+
+	public void put(final K aKey, final V aValue) {
+		stripeOf(aKey).put(aKey, aValue, -1);
+	}
+
+	public long stamp(final K aKey) {
+		return stripeOf(aKey).stamp();
+	}
+
+	public boolean putIfUnchanged(final K aKey, final V aValue, final long aStamp) {
+		return stripeOf(aKey).put(aKey, aValue, aStamp);
+	}
+
+	public void invalidate(final K aKey) {
+		stripeOf(aKey).invalidate(aKey);
+	}
+
+	public CacheStats stats() {
+		long size = 0;
+		long weight = 0;
+		for (final var aStripe : this.stripes) {
+			aStripe.lock.lock();
+			try {
+				size += aStripe.probation.size() + aStripe.protectedEntries.size();
+				weight += aStripe.probationWeight + aStripe.protectedWeight;
+			} finally {
+				aStripe.lock.unlock();
+			}
+		}
+		return new CacheStats(this.hits.sum(), this.misses.sum(), this.evictions.sum(), size, weight);
+	}
+
+	private Stripe stripeOf(final K aKey) {
+		final var hash = aKey.hashCode();
+		return this.stripes.get((hash ^ (hash >>> 16)) & (this.stripes.size() - 1));
+	}
+
+	private final class Stripe {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private final LinkedHashMap<K, Node<V>> probation = new LinkedHashMap<>();
+		private final LinkedHashMap<K, Node<V>> protectedEntries = new LinkedHashMap<>();
+		private final long maximumWeight;
+		private final long maximumProtectedWeight;
+		private long probationWeight;
+		private long protectedWeight;
+		private long invalidations;
+
+		private Stripe(final long maximumWeight) {
+			this.maximumWeight = maximumWeight;
+			this.maximumProtectedWeight = (long) (maximumWeight * PROTECTED_RATIO);
+		}
+
+		private V get(final K aKey) {
+			this.lock.lock();
+			try {
+				var aNode = this.protectedEntries.remove(aKey);
+				if (aNode != null) {
+					if (isExpired(aNode)) {
+						this.protectedWeight -= aNode.weight;
+						return null;
+					}
+					this.protectedEntries.put(aKey, aNode);
+					return aNode.value;
+				}
+
+				aNode = this.probation.remove(aKey);
+				if (aNode == null) {
+					return null;
+				}
+				this.probationWeight -= aNode.weight;
+				if (isExpired(aNode)) {
+					return null;
+				}
+				this.protectedEntries.put(aKey, aNode);
+				this.protectedWeight += aNode.weight;
+				demoteProtected();
+				return aNode.value;
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		private boolean put(final K aKey, final V aValue, final long aStamp) {
+			this.lock.lock();
+			try {
+				if (aStamp >= 0 && aStamp != this.invalidations) {
+					return false;
+				}
+				final var aNode = new Node<>(aValue, weigher.applyAsLong(aValue), expiresAt());
+				final var replaced = this.protectedEntries.get(aKey);
+				if (replaced != null) {
+					this.protectedEntries.put(aKey, aNode);
+					this.protectedWeight += aNode.weight - replaced.weight;
+					demoteProtected();
+				} else {
+					final var previous = this.probation.remove(aKey);
+					if (previous != null) {
+						this.probationWeight -= previous.weight;
+					}
+					this.probation.put(aKey, aNode);
+					this.probationWeight += aNode.weight;
+				}
+				evict();
+				return true;
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		private long stamp() {
+			this.lock.lock();
+			try {
+				return this.invalidations;
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		private void invalidate(final K aKey) {
+			this.lock.lock();
+			try {
+				this.invalidations++;
+				final var fromProtected = this.protectedEntries.remove(aKey);
+				if (fromProtected != null) {
+					this.protectedWeight -= fromProtected.weight;
+				}
+				final var fromProbation = this.probation.remove(aKey);
+				if (fromProbation != null) {
+					this.probationWeight -= fromProbation.weight;
+				}
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		private void demoteProtected() {
+			final var iterator = this.protectedEntries.entrySet().iterator();
+			while (this.protectedWeight > this.maximumProtectedWeight && iterator.hasNext()) {
+				final var eldest = iterator.next();
+				iterator.remove();
+				this.protectedWeight -= eldest.getValue().weight;
+				this.probation.put(eldest.getKey(), eldest.getValue());
+				this.probationWeight += eldest.getValue().weight;
+			}
+		}
+
+		private void evict() {
+			evictFrom(this.probation.entrySet().iterator(), true);
+			evictFrom(this.protectedEntries.entrySet().iterator(), false);
+		}
+
+		private void evictFrom(final Iterator<Map.Entry<K, Node<V>>> iterator, final boolean fromProbation) {
+			while (this.probationWeight + this.protectedWeight > this.maximumWeight && iterator.hasNext()) {
+				final var eldest = iterator.next().getValue();
+				iterator.remove();
+				if (fromProbation) {
+					this.probationWeight -= eldest.weight;
+				} else {
+					this.protectedWeight -= eldest.weight;
+				}
+				evictions.increment();
+			}
+		}
+
+		private long expiresAt() {
+			return ttlNanos == 0 ? 0 : nanoClock.getAsLong() + ttlNanos;
+		}
+
+		private boolean isExpired(final Node<V> aNode) {
+			return aNode.expiresAt != 0 && nanoClock.getAsLong() - aNode.expiresAt >= 0;
+		}
+	}
+
+	private record Node<V>(V value, long weight, long expiresAt) {
+	}
+}
@@ -0,0 +1,93 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.event;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryDeleted;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategorySearchQuery;
+import com.ramoncgusmao.admin.catalogo.domain.event.DomainEvent;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorPagination;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorQuery;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.Pagination;
+import com.ramoncgusmao.admin.catalogo.infrastructure.event.DomainEventStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Publishes the events recorded on a category to a {@link DomainEventStream} once another {@link CategoryGateway}
+ * has stored the change. A write that fails publishes nothing and leaves the events on the category, and a delete
+ * only publishes {@link CategoryDeleted} when the delegate actually removed the category.
+ * <p>
+ * Concurrent writes to different categories are published in any order; consumers that need a per-category order
+ * compare {@link DomainEvent#aggregateVersion()}.
+ */
+public class PublishingCategoryGateway implements CategoryGateway {
+
+	private final CategoryGateway delegate;
+	private final DomainEventStream stream;
+
+	public PublishingCategoryGateway(final CategoryGateway delegate, final DomainEventStream stream) {
+		this.delegate = Objects.requireNonNull(delegate);
+		this.stream = Objects.requireNonNull(stream);
+	}
+
+	@Override
+	public Category create(final Category aCategory) {
+		final var created = this.delegate.create(aCategory);
+		this.stream.publish(aCategory.pullEvents());
+		return created;
+	}
+
+	@Override
+	public List<Category> createAll(final List<Category> aCategories) {
+		final var created = this.delegate.createAll(aCategories);
+		final var events = new ArrayList<DomainEvent>(aCategories.size());
+		for (final var aCategory : aCategories) {
+			events.addAll(aCategory.pullEvents());
+		}
+		this.stream.publish(events);
+		return created;
+	}
+
+	@Override
+	public boolean deleteById(final CategoryID anId) {
+		return published(anId, this.delegate.deleteById(anId));
+	}
+
+	@Override
+	public boolean deleteById(final CategoryID anId, final long anExpectedVersion) {
+		return published(anId, this.delegate.deleteById(anId, anExpectedVersion));
+	}
+
+	@Override
+	public Optional<Category> findById(final CategoryID anId) {
+		return this.delegate.findById(anId);
+	}
+
+	@Override
+	public Category update(final Category aCategory) {
+		final var updated = this.delegate.update(aCategory);
+		this.stream.publish(aCategory.pullEvents());
+		return updated;
+	}
+
+	@Override
+	public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+		return this.delegate.findAll(aQuery);
+	}
+
+	@Override
+	public CursorPagination<Category> findAll(final CursorQuery aQuery) {
+		return this.delegate.findAll(aQuery);
+	}
+
+	private boolean published(final CategoryID anId, final boolean removed) {
+		if (removed) {
+			this.stream.publish(List.of(CategoryDeleted.of(anId)));
+		}
+		return removed;
+	}
+}
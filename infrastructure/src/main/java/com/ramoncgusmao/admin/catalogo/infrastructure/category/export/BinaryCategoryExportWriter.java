@@ -0,0 +1,70 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.export;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.infrastructure.codec.BinaryReader;
+import com.ramoncgusmao.admin.catalogo.infrastructure.codec.BinaryWriter;
+import com.ramoncgusmao.admin.catalogo.infrastructure.codec.CategoryCodecs;
+import com.ramoncgusmao.admin.catalogo.infrastructure.codec.CodecException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Compact binary dump: {@code [magic:int][version:byte]}, then every category as a record marker followed by its
+ * {@link CategoryCodecs#CATEGORY} encoding, then an end marker and the number of categories as a varint so a
+ * truncated file is detected.
+ */
+final class BinaryCategoryExportWriter implements CategoryExportWriter {
+
+	static final int MAGIC = 0x43455850;
+	static final byte FORMAT_VERSION = 1;
+
+	private static final byte RECORD = 1;
+	private static final byte END = 0;
+
+	private final ChannelSink sink;
+	private final BinaryWriter scratch = new BinaryWriter();
+	private long count;
+
+	BinaryCategoryExportWriter(final ChannelSink aSink) throws IOException {
+		this.sink = aSink;
+		aSink.reserve(Integer.BYTES + 1).putInt(MAGIC).put(FORMAT_VERSION);
+	}
+
+	@Override
+	public void write(final Category aCategory) throws IOException {
+		final var encoded = CategoryCodecs.CATEGORY.encode(aCategory, this.scratch);
+		this.sink.write(RECORD);
+		this.sink.write(encoded.array(), encoded.arrayOffset(), encoded.remaining());
+		this.count++;
+	}
+
+	@Override
+	public void finish() throws IOException {
+		final var trailer = this.scratch.reset().writeByte(END).writeVarLong(this.count).buffer();
+		this.sink.write(trailer.array(), trailer.arrayOffset(), trailer.remaining());
+		this.sink.flush();
+	}
+
+	/**
+	 * Decodes a whole dump, handing every category to the consumer.
+	 *
+	 * @return the number of categories read
+	 */
+	static long read(final ByteBuffer aBuffer, final Consumer<Category> aConsumer) {
+		if (aBuffer.getInt() != MAGIC || aBuffer.get() != FORMAT_VERSION) {
+			throw new CodecException("Not a category export");
+		}
+		final var aReader = new BinaryReader(aBuffer);
+		long count = 0;
+		while (aReader.readByte() == RECORD) {
+			aConsumer.accept(CategoryCodecs.CATEGORY.read(aReader));
+			count++;
+		}
+		if (aReader.readVarLong() != count) {
+			throw new CodecException("Truncated category export");
+		}
+		return count;
+	}
+}
@@ -0,0 +1,18 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.export;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+
+import java.io.IOException;
+
+/**
+ * Encodes categories, one at a time, into a {@link ChannelSink}.
+ */
+interface CategoryExportWriter {
+
+	void write(Category aCategory) throws IOException;
+
+	/**
+	 * Writes whatever trails the last category and pushes everything to the sink.
+	 */
+	void finish() throws IOException;
+}
@@ -0,0 +1,85 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.export;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorQuery;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Dumps the whole catalog without ever holding more than one page of it.
+ * <p>
+ * The gateway is walked with its keyset cursor in creation order, {@code pageSize} categories at a time, and each
+ * category is encoded straight into a pooled direct buffer that is drained to the channel when full. Categories
+ * created while the export runs are included when their creation time is after the cursor; updates to categories
+ * already written are not.
+ */
+public class CategoryExporter {
+
+	private static final String ORDER = "createdAt";
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+
+	private final CategoryGateway categoryGateway;
+	private final DirectBufferPool bufferPool;
+	private final int pageSize;
+
+	public CategoryExporter(final CategoryGateway categoryGateway, final DirectBufferPool bufferPool, final int pageSize) {
+		if (pageSize < 1) {
+			throw new IllegalArgumentException("'pageSize' must be at least 1");
+		}
+		this.categoryGateway = Objects.requireNonNull(categoryGateway);
+		this.bufferPool = Objects.requireNonNull(bufferPool);
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * Writes the export next to {@code aFile}, forces it to disk and renames it into place, so readers never see a
+	 * partial dump.
+	 */
+	public ExportSummary exportTo(final Path aFile, final ExportFormat aFormat) throws IOException {
+		final var temporary = aFile.resolveSibling(aFile.getFileName() + TEMPORARY_SUFFIX);
+		try {
+			final ExportSummary aSummary;
+			try (final var aChannel = FileChannel.open(
+					temporary,
+					StandardOpenOption.CREATE,
+					StandardOpenOption.TRUNCATE_EXISTING,
+					StandardOpenOption.WRITE
+			)) {
+				aSummary = export(aChannel, aFormat);
+				aChannel.force(false);
+			}
+			Files.move(temporary, aFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			return aSummary;
+		} finally {
+			Files.deleteIfExists(temporary);
+		}
+	}
+
+	/**
+	 * Streams the export into the channel, which is left open.
+	 */
+	public ExportSummary export(final WritableByteChannel aChannel, final ExportFormat aFormat) throws IOException {
+		try (final var aSink = new ChannelSink(aChannel, this.bufferPool)) {
+			final var aWriter = aFormat.open(aSink);
+			long categories = 0;
+			String cursor = null;
+			do {
+				final var aPage = this.categoryGateway.findAll(new CursorQuery(cursor, this.pageSize, null, ORDER, "asc"));
+				for (final var aCategory : aPage.items()) {
+					aWriter.write(aCategory);
+					categories++;
+				}
+				cursor = aPage.nextCursor();
+			} while (cursor != null);
+			aWriter.finish();
+			return new ExportSummary(categories, aSink.written());
+		}
+	}
+}
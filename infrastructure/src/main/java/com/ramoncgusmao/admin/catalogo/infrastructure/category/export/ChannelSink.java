@@ -0,0 +1,88 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Accumulates an export in a pooled direct buffer and drains it to the channel whenever it fills up, so the channel
+ * always receives large writes straight from direct memory. Encoders either write through the stream methods or
+ * {@link #reserve(int)} room and put into the buffer themselves. Closing returns the buffer to the pool but leaves
+ * the channel open.
+ */
+final class ChannelSink extends OutputStream {
+
+	private final WritableByteChannel channel;
+	private final DirectBufferPool pool;
+	private ByteBuffer buffer;
+	private long written;
+
+	ChannelSink(final WritableByteChannel channel, final DirectBufferPool pool) {
+		this.channel = channel;
+		this.pool = pool;
+		this.buffer = pool.acquire();
+	}
+
+	/**
+	 * Makes sure at least {@code bytes} can be put into the returned buffer, which is only valid until the next call.
+	 */
+	ByteBuffer reserve(final int bytes) throws IOException {
+		if (bytes > this.buffer.capacity()) {
+			throw new IllegalArgumentException("Cannot reserve %d bytes in a %d bytes buffer".formatted(bytes, this.buffer.capacity()));
+		}
+		if (this.buffer.remaining() < bytes) {
+			drain();
+		}
+		return this.buffer;
+	}
+
+	@Override
+	public void write(final int b) throws IOException {
+		reserve(1).put((byte) b);
+	}
+
+	@Override
+	public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+		var position = offset;
+		final var end = offset + length;
+		while (position < end) {
+			if (!this.buffer.hasRemaining()) {
+				drain();
+			}
+			final var chunk = Math.min(this.buffer.remaining(), end - position);
+			this.buffer.put(bytes, position, chunk);
+			position += chunk;
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		drain();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (this.buffer == null) {
+			return;
+		}
+		try {
+			drain();
+		} finally {
+			this.pool.release(this.buffer);
+			this.buffer = null;
+		}
+	}
+
+	long written() {
+		return this.written + (this.buffer == null ? 0 : this.buffer.position());
+	}
+
+	private void drain() throws IOException {
+		this.buffer.flip();
+		while (this.buffer.hasRemaining()) {
+			this.written += this.channel.write(this.buffer);
+		}
+		this.buffer.clear();
+	}
+}
@@ -0,0 +1,45 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.export;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Keeps released direct buffers for reuse. Direct memory is slow to allocate and only returned to the system when
+ * the buffer is collected, so exports borrow their buffers here instead of allocating one per call. Buffers beyond
+ * {@code maxPooled} are simply dropped on release.
+ */
+public class DirectBufferPool {
+
+	private final int bufferBytes;
+	private final ArrayBlockingQueue<ByteBuffer> free;
+
+	public DirectBufferPool(final int bufferBytes, final int maxPooled) {
+		if (bufferBytes < 64) {
+			throw new IllegalArgumentException("'bufferBytes' must be at least 64");
+		}
+		if (maxPooled < 1) {
+			throw new IllegalArgumentException("'maxPooled' must be at least 1");
+		}
+		this.bufferBytes = bufferBytes;
+		this.free = new ArrayBlockingQueue<>(maxPooled);
+	}
+
+	public ByteBuffer acquire() {
+		final var aBuffer = this.free.poll();
+		return aBuffer == null ? ByteBuffer.allocateDirect(this.bufferBytes) : aBuffer;
+	}
+
+	public void release(final ByteBuffer aBuffer) {
+		if (aBuffer.isDirect() && aBuffer.capacity() == this.bufferBytes) {
+			this.free.offer(aBuffer.clear());
+		}
+	}
+
+	public int bufferBytes() {
+		return this.bufferBytes;
+	}
+
+	public int pooled() {
+		return this.free.size();
+	}
+}
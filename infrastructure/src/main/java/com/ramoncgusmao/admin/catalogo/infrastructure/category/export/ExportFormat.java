@@ -0,0 +1,21 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.export;
+
+import java.io.IOException;
+
+public enum ExportFormat {
+
+	NDJSON {
+		@Override
+		CategoryExportWriter open(final ChannelSink aSink) {
+			return new NdjsonCategoryExportWriter(aSink);
+		}
+	},
+	BINARY {
+		@Override
+		CategoryExportWriter open(final ChannelSink aSink) throws IOException {
+			return new BinaryCategoryExportWriter(aSink);
+		}
+	};
+
+	abstract CategoryExportWriter open(ChannelSink aSink) throws IOException;
+}
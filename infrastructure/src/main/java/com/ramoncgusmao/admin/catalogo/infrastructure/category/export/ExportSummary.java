@@ -0,0 +1,4 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.export;
+
+public record ExportSummary(long categories, long bytes) {
+}
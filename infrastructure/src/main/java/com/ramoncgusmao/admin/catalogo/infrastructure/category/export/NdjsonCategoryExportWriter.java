@@ -0,0 +1,30 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.export;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.infrastructure.api.CategoryJson;
+import com.ramoncgusmao.admin.catalogo.infrastructure.json.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * One JSON object per line, with the same fields the HTTP API returns for a single category.
+ */
+final class NdjsonCategoryExportWriter implements CategoryExportWriter {
+
+	private final JsonWriter writer;
+
+	NdjsonCategoryExportWriter(final ChannelSink aSink) {
+		this.writer = new JsonWriter(aSink);
+	}
+
+	@Override
+	public void write(final Category aCategory) throws IOException {
+		CategoryJson.writeCategory(this.writer, aCategory);
+		this.writer.lineBreak();
+	}
+
+	@Override
+	public void finish() throws IOException {
+		this.writer.flush();
+	}
+}
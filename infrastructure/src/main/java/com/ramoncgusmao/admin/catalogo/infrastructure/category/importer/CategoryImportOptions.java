@@ -0,0 +1,25 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.importer;
+
+/**
+ * Tuning of a {@link CategoryImporter}. At most {@code maxInFlightBatches} batches of {@code batchSize} rows are held
+ * in memory at once, whatever the size of the file.
+ */
+public record CategoryImportOptions(int batchSize, int parallelism, int maxInFlightBatches) {
+
+	public CategoryImportOptions {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("'batchSize' must be at least 1");
+		}
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("'parallelism' must be at least 1");
+		}
+		if (maxInFlightBatches < parallelism) {
+			throw new IllegalArgumentException("'maxInFlightBatches' must be at least 'parallelism'");
+		}
+	}
+
+	public static CategoryImportOptions defaults() {
+		final var parallelism = Runtime.getRuntime().availableProcessors();
+		return new CategoryImportOptions(500, parallelism, parallelism * 2);
+	}
+}
@@ -0,0 +1,157 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.importer;
+
+import com.ramoncgusmao.admin.catalogo.application.category.create.CreateCategoriesBatchUseCase;
+import com.ramoncgusmao.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Streams an import file into the catalog.
+ * <p>
+ * The calling thread parses rows and groups them into batches; workers run each batch through the
+ * {@link CreateCategoriesBatchUseCase}, which validates every row and stores the valid ones with a single
+ * {@code createAll}. A semaphore caps the batches in flight, so parsing waits for the workers instead of buffering
+ * the file. Malformed and invalid rows go to the rejected-rows report with their line number; batches may complete out
+ * of order, so the report is not sorted.
+ */
+public class CategoryImporter {
+
+	private final CreateCategoriesBatchUseCase createCategoriesBatchUseCase;
+	private final CategoryImportOptions options;
+
+	public CategoryImporter(final CreateCategoriesBatchUseCase createCategoriesBatchUseCase, final CategoryImportOptions options) {
+		this.createCategoriesBatchUseCase = Objects.requireNonNull(createCategoriesBatchUseCase);
+		this.options = Objects.requireNonNull(options);
+	}
+
+	public ImportSummary importFile(final Path aFile, final Path aReport) throws IOException, InterruptedException {
+		try (
+				final var aReader = ImportFormat.of(aFile).open(Files.newBufferedReader(aFile, StandardCharsets.UTF_8));
+				final var aReportWriter = Files.newBufferedWriter(aReport, StandardCharsets.UTF_8)
+		) {
+			return importRows(aReader, aReportWriter);
+		}
+	}
+
+	public ImportSummary importRows(final CategoryRowReader aReader, final Writer aReport) throws IOException, InterruptedException {
+		final var report = new RejectedRowsReport(aReport);
+		final var imported = new AtomicLong();
+		final var failure = new AtomicReference<Throwable>();
+		final var inFlight = new Semaphore(this.options.maxInFlightBatches());
+		final var workers = newWorkers();
+		long rows = 0;
+		try {
+			var batch = new ArrayList<ImportRow>(this.options.batchSize());
+			ImportRow aRow;
+			while (failure.get() == null && (aRow = aReader.next()) != null) {
+				rows++;
+				if (aRow.isMalformed()) {
+					report.reject(aRow.line(), aRow.error());
+					continue;
+				}
+				batch.add(aRow);
+				if (batch.size() == this.options.batchSize()) {
+					submit(batch, workers, inFlight, report, imported, failure);
+					batch = new ArrayList<>(this.options.batchSize());
+				}
+			}
+			if (!batch.isEmpty() && failure.get() == null) {
+				submit(batch, workers, inFlight, report, imported, failure);
+			}
+			inFlight.acquire(this.options.maxInFlightBatches());
+		} finally {
+			workers.shutdown();
+		}
+
+		rethrow(failure.get());
+		report.flush();
+		return new ImportSummary(rows, imported.get(), report.rejected());
+	}
+
+	private void submit(
+			final List<ImportRow> aBatch,
+			final ExecutorService workers,
+			final Semaphore inFlight,
+			final RejectedRowsReport report,
+			final AtomicLong imported,
+			final AtomicReference<Throwable> failure
+	) throws InterruptedException {
+		inFlight.acquire();
+		try {
+			workers.execute(() -> {
+				try {
+					importBatch(aBatch, report, imported);
+				} catch (final Throwable ex) {
+					failure.compareAndSet(null, ex);
+				} finally {
+					inFlight.release();
+				}
+			});
+		} catch (final RuntimeException ex) {
+			inFlight.release();
+			throw ex;
+		}
+	}
+
+	private void importBatch(final List<ImportRow> aBatch, final RejectedRowsReport report, final AtomicLong imported) {
+		final var commands = new ArrayList<CreateCategoryCommand>(aBatch.size());
+		for (final var aRow : aBatch) {
+			commands.add(aRow.command());
+		}
+
+		final var results = this.createCategoriesBatchUseCase.execute(commands).items();
+		for (int i = 0; i < results.size(); i++) {
+			final var aResult = results.get(i);
+			if (aResult.isRight()) {
+				imported.incrementAndGet();
+			} else {
+				report.reject(aBatch.get(i).line(), messageOf(aResult.getLeft().getErrors()));
+			}
+		}
+	}
+
+	private ExecutorService newWorkers() {
+		final var counter = new AtomicInteger();
+		return Executors.newFixedThreadPool(this.options.parallelism(), aTask -> {
+			final var aThread = new Thread(aTask, "category-import-" + counter.incrementAndGet());
+			aThread.setDaemon(true);
+			return aThread;
+		});
+	}
+
+	private static String messageOf(final List<Error> anErrors) {
+		return anErrors.stream().map(Error::message).collect(Collectors.joining("; "));
+	}
+
+	private static void rethrow(final Throwable aFailure) throws IOException {
+		if (aFailure == null) {
+			return;
+		}
+		if (aFailure instanceof UncheckedIOException anIOFailure) {
+			throw anIOFailure.getCause();
+		}
+		if (aFailure instanceof RuntimeException aRuntimeFailure) {
+			throw aRuntimeFailure;
+		}
+		if (aFailure instanceof java.lang.Error anError) {
+			throw anError;
+		}
+		throw new IllegalStateException(aFailure);
+	}
+}
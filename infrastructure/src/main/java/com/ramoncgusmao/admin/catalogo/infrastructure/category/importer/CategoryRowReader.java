@@ -0,0 +1,15 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Streams the rows of an import file, holding no more than the row being parsed.
+ */
+public interface CategoryRowReader extends Closeable {
+
+	/**
+	 * Returns the next row, or {@code null} once the input is exhausted.
+	 */
+	ImportRow next() throws IOException;
+}
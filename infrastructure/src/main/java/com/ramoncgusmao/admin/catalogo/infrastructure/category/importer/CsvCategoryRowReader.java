@@ -0,0 +1,213 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.importer;
+
+import com.ramoncgusmao.admin.catalogo.application.category.create.CreateCategoryCommand;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads RFC 4180 CSV: comma separated, fields optionally enclosed in double quotes, quotes escaped by doubling them
+ * and line breaks allowed inside quoted fields. The first record is a header naming the columns {@code name},
+ * {@code description} and {@code is_active} in any order; other columns are ignored, a missing description is null
+ * and a missing or empty {@code is_active} means {@code true}.
+ */
+public class CsvCategoryRowReader implements CategoryRowReader {
+
+	private static final int END = -1;
+
+	private final Reader in;
+	private final char[] buffer = new char[8192];
+	private int position;
+	private int limit;
+
+	private final StringBuilder field = new StringBuilder();
+	private final List<String> fields = new ArrayList<>();
+	private long line = 1;
+	private long recordLine;
+	private int nameColumn = -1;
+	private int descriptionColumn = -1;
+	private int activeColumn = -1;
+	private boolean headerRead;
+
+	public CsvCategoryRowReader(final Reader in) {
+		this.in = in;
+	}
+
+	@Override
+	public ImportRow next() throws IOException {
+		if (!this.headerRead) {
+			readHeader();
+		}
+		while (true) {
+			try {
+				if (!readRecord()) {
+					return null;
+				}
+				if (!isBlankRecord()) {
+					return ImportRow.parsed(this.recordLine, toCommand());
+				}
+			} catch (final MalformedRecordException ex) {
+				return ImportRow.malformed(this.recordLine, ex.getMessage());
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.in.close();
+	}
+
+	private void readHeader() throws IOException {
+		this.headerRead = true;
+		try {
+			if (!readRecord()) {
+				throw new IOException("The CSV file is empty");
+			}
+		} catch (final MalformedRecordException ex) {
+			throw new IOException("Malformed CSV header: " + ex.getMessage());
+		}
+		for (int i = 0; i < this.fields.size(); i++) {
+			switch (this.fields.get(i).trim().toLowerCase(Locale.ROOT)) {
+				case "name" -> this.nameColumn = i;
+				case "description" -> this.descriptionColumn = i;
+				case "is_active" -> this.activeColumn = i;
+				default -> {
+				}
+			}
+		}
+		if (this.nameColumn < 0) {
+			throw new IOException("The CSV header has no 'name' column");
+		}
+	}
+
+	private CreateCategoryCommand toCommand() {
+		final var aName = column(this.nameColumn);
+		final var aDescription = column(this.descriptionColumn);
+		final var anActive = column(this.activeColumn);
+		return CreateCategoryCommand.with(aName, aDescription, parseActive(anActive));
+	}
+
+	private String column(final int anIndex) {
+		if (anIndex < 0 || anIndex >= this.fields.size()) {
+			return null;
+		}
+		final var aValue = this.fields.get(anIndex);
+		return aValue.isEmpty() ? null : aValue;
+	}
+
+	private static boolean parseActive(final String aValue) {
+		if (aValue == null || aValue.equalsIgnoreCase("true")) {
+			return true;
+		}
+		if (aValue.equalsIgnoreCase("false")) {
+			return false;
+		}
+		throw new MalformedRecordException("'is_active' must be true or false but was '%s'".formatted(aValue));
+	}
+
+	private boolean isBlankRecord() {
+		return this.fields.size() == 1 && this.fields.get(0).isBlank();
+	}
+
+	/**
+	 * Reads the next record into {@link #fields}. A malformed record is consumed up to its end before failing, so
+	 * the next call starts on the following record.
+	 */
+	private boolean readRecord() throws IOException {
+		this.fields.clear();
+		this.field.setLength(0);
+		this.recordLine = this.line;
+		var c = read();
+		if (c == END) {
+			return false;
+		}
+
+		String anError = null;
+		var quoted = false;
+		var afterQuote = false;
+		while (true) {
+			if (quoted) {
+				if (c == END) {
+					throw new MalformedRecordException("Unterminated quoted field");
+				}
+				if (c == '"') {
+					if (peek() == '"') {
+						read();
+						this.field.append('"');
+					} else {
+						quoted = false;
+						afterQuote = true;
+					}
+				} else {
+					if (c == '\n') {
+						this.line++;
+					}
+					this.field.append((char) c);
+				}
+			} else if (c == ',') {
+				endField();
+				afterQuote = false;
+			} else if (c == '\n' || c == '\r' || c == END) {
+				if (c == '\r' && peek() == '\n') {
+					read();
+				}
+				if (c != END) {
+					this.line++;
+				}
+				endField();
+				if (anError != null) {
+					throw new MalformedRecordException(anError);
+				}
+				return true;
+			} else if (c == '"' && this.field.isEmpty() && !afterQuote) {
+				quoted = true;
+			} else if (afterQuote) {
+				if (anError == null) {
+					anError = "Unexpected character '%s' after a quoted field".formatted((char) c);
+				}
+			} else {
+				this.field.append((char) c);
+			}
+			c = read();
+		}
+	}
+
+	private void endField() {
+		this.fields.add(this.field.toString());
+		this.field.setLength(0);
+	}
+
+	private int read() throws IOException {
+		if (this.position == this.limit && !fill()) {
+			return END;
+		}
+		return this.buffer[this.position++];
+	}
+
+	private int peek() throws IOException {
+		if (this.position == this.limit && !fill()) {
+			return END;
+		}
+		return this.buffer[this.position];
+	}
+
+	private boolean fill() throws IOException {
+		final var read = this.in.read(this.buffer, 0, this.buffer.length);
+		if (read <= 0) {
+			return false;
+		}
+		this.position = 0;
+		this.limit = read;
+		return true;
+	}
+
+	private static final class MalformedRecordException extends RuntimeException {
+
+		private MalformedRecordException(final String message) {
+			super(message, null, false, false);
+		}
+	}
+}
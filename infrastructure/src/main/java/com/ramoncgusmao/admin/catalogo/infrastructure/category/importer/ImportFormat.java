@@ -0,0 +1,36 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.importer;
+
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.function.Function;
+
+public enum ImportFormat {
+
+	CSV(CsvCategoryRowReader::new),
+	NDJSON(NdjsonCategoryRowReader::new);
+
+	private final Function<Reader, CategoryRowReader> factory;
+
+	ImportFormat(final Function<Reader, CategoryRowReader> factory) {
+		this.factory = factory;
+	}
+
+	public CategoryRowReader open(final Reader in) {
+		return factory.apply(in);
+	}
+
+	/**
+	 * Picks the format from the file extension: {@code .csv}, or {@code .ndjson}/{@code .jsonl}.
+	 */
+	public static ImportFormat of(final Path aFile) {
+		final var aName = aFile.getFileName().toString().toLowerCase(Locale.ROOT);
+		if (aName.endsWith(".csv")) {
+			return CSV;
+		}
+		if (aName.endsWith(".ndjson") || aName.endsWith(".jsonl")) {
+			return NDJSON;
+		}
+		throw new IllegalArgumentException("Unknown import format for '%s'".formatted(aFile.getFileName()));
+	}
+}
@@ -0,0 +1,22 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.importer;
+
+import com.ramoncgusmao.admin.catalogo.application.category.create.CreateCategoryCommand;
+
+/**
+ * One row of an import file, identified by the line it starts on. A row that could not be parsed has no command and
+ * carries the reason instead.
+ */
+public record ImportRow(long line, CreateCategoryCommand command, String error) {
+
+	public static ImportRow parsed(final long aLine, final CreateCategoryCommand aCommand) {
+		return new ImportRow(aLine, aCommand, null);
+	}
+
+	public static ImportRow malformed(final long aLine, final String anError) {
+		return new ImportRow(aLine, null, anError);
+	}
+
+	public boolean isMalformed() {
+		return command == null;
+	}
+}
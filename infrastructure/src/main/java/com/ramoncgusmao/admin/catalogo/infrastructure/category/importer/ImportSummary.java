@@ -0,0 +1,4 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.importer;
+
+public record ImportSummary(long rows, long imported, long rejected) {
+}
@@ -0,0 +1,47 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.importer;
+
+import com.ramoncgusmao.admin.catalogo.infrastructure.api.CategoryJson;
+import com.ramoncgusmao.admin.catalogo.infrastructure.json.JsonException;
+import com.ramoncgusmao.admin.catalogo.infrastructure.json.JsonReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+/**
+ * Reads one JSON object per line with the same fields as the HTTP API. Blank lines are skipped and a line that is not
+ * a valid object becomes a malformed row without affecting the others.
+ */
+public class NdjsonCategoryRowReader implements CategoryRowReader {
+
+	private final BufferedReader in;
+	private long line;
+
+	public NdjsonCategoryRowReader(final Reader in) {
+		this.in = in instanceof BufferedReader aBuffered ? aBuffered : new BufferedReader(in);
+	}
+
+	@Override
+	public ImportRow next() throws IOException {
+		String aLine;
+		do {
+			aLine = this.in.readLine();
+			this.line++;
+			if (aLine == null) {
+				return null;
+			}
+		} while (aLine.isBlank());
+
+		try {
+			return ImportRow.parsed(this.line, CategoryJson.readCreateCommand(new JsonReader(new StringReader(aLine))));
+		} catch (final JsonException | IllegalArgumentException ex) {
+			return ImportRow.malformed(this.line, ex.getMessage());
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.in.close();
+	}
+}
@@ -0,0 +1,50 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.importer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CSV report of the rows an import left out, one {@code line,error} record per row. Safe to share between the
+ * import workers.
+ */
+class RejectedRowsReport {
+
+	private final Writer out;
+	private final AtomicLong rejected = new AtomicLong();
+
+	RejectedRowsReport(final Writer out) throws IOException {
+		this.out = out;
+		this.out.write("line,error\n");
+	}
+
+	void reject(final long aLine, final String anError) {
+		this.rejected.incrementAndGet();
+		synchronized (this.out) {
+			try {
+				this.out.write(Long.toString(aLine));
+				this.out.write(',');
+				this.out.write(quote(anError));
+				this.out.write('\n');
+			} catch (final IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+	}
+
+	long rejected() {
+		return this.rejected.get();
+	}
+
+	void flush() throws IOException {
+		synchronized (this.out) {
+			this.out.flush();
+		}
+	}
+
+	private static String quote(final String aValue) {
+		final var aText = aValue == null ? "" : aValue;
+		return '"' + aText.replace("\"", "\"\"") + '"';
+	}
+}
@@ -0,0 +1,51 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one {@link com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway} call.
+ * Query fields are only set by the {@code findAll} operations.
+ */
+@Name("catalogo.CategoryGateway")
+@Label("Category Gateway")
+@Description("Call to the category gateway")
+@Category({"Catalogo", "Infrastructure"})
+@StackTrace(false)
+public class CategoryGatewayEvent extends Event {
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Category Id")
+	String categoryId;
+
+	@Label("Count")
+	@Description("Categories written or returned")
+	int count;
+
+	@Label("Page")
+	int page;
+
+	@Label("Per Page")
+	int perPage;
+
+	@Label("Terms")
+	String terms;
+
+	@Label("Sort")
+	String sort;
+
+	@Label("Direction")
+	String direction;
+
+	@Label("Cursor")
+	String cursor;
+
+	@Label("Exception")
+	String exception;
+}
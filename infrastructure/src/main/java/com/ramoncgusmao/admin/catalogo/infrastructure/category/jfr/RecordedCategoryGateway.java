@@ -0,0 +1,175 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.jfr;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategorySearchQuery;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorPagination;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorQuery;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Commits a {@link CategoryGatewayEvent} around every call to another {@link CategoryGateway}. Event fields are only
+ * filled in when Flight Recorder keeps the event, so with the event disabled a call costs an enabled check.
+ */
+public class RecordedCategoryGateway implements CategoryGateway {
+
+	private final CategoryGateway delegate;
+
+	public RecordedCategoryGateway(final CategoryGateway delegate) {
+		this.delegate = Objects.requireNonNull(delegate);
+	}
+
+	@Override
+	public Category create(final Category aCategory) {
+		final var anEvent = begin();
+		try {
+			return this.delegate.create(aCategory);
+		} catch (final RuntimeException ex) {
+			failed(anEvent, ex);
+			throw ex;
+		} finally {
+			commit(anEvent, "create", aCategory.getId(), 1);
+		}
+	}
+
+	@Override
+	public List<Category> createAll(final List<Category> aCategories) {
+		final var anEvent = begin();
+		try {
+			return this.delegate.createAll(aCategories);
+		} catch (final RuntimeException ex) {
+			failed(anEvent, ex);
+			throw ex;
+		} finally {
+			commit(anEvent, "createAll", null, aCategories.size());
+		}
+	}
+
+	@Override
+	public boolean deleteById(final CategoryID anId) {
+		final var anEvent = begin();
+		try {
+			return this.delegate.deleteById(anId);
+		} catch (final RuntimeException ex) {
+			failed(anEvent, ex);
+			throw ex;
+		} finally {
+			commit(anEvent, "deleteById", anId, 1);
+		}
+	}
+
+	@Override
+	public boolean deleteById(final CategoryID anId, final long anExpectedVersion) {
+		final var anEvent = begin();
+		try {
+			return this.delegate.deleteById(anId, anExpectedVersion);
+		} catch (final RuntimeException ex) {
+			failed(anEvent, ex);
+			throw ex;
+		} finally {
+			commit(anEvent, "deleteById", anId, 1);
+		}
+	}
+
+	@Override
+	public Optional<Category> findById(final CategoryID anId) {
+		final var anEvent = begin();
+		var found = 0;
+		try {
+			final var aCategory = this.delegate.findById(anId);
+			found = aCategory.isPresent() ? 1 : 0;
+			return aCategory;
+		} catch (final RuntimeException ex) {
+			failed(anEvent, ex);
+			throw ex;
+		} finally {
+			commit(anEvent, "findById", anId, found);
+		}
+	}
+
+	@Override
+	public Category update(final Category aCategory) {
+		final var anEvent = begin();
+		try {
+			return this.delegate.update(aCategory);
+		} catch (final RuntimeException ex) {
+			failed(anEvent, ex);
+			throw ex;
+		} finally {
+			commit(anEvent, "update", aCategory.getId(), 1);
+		}
+	}
+
+	@Override
+	public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+		final var anEvent = begin();
+		var found = 0;
+		try {
+			final var aPage = this.delegate.findAll(aQuery);
+			found = aPage.items().size();
+			return aPage;
+		} catch (final RuntimeException ex) {
+			failed(anEvent, ex);
+			throw ex;
+		} finally {
+			if (anEvent.isEnabled()) {
+				anEvent.page = aQuery.page();
+				anEvent.perPage = aQuery.perPage();
+				anEvent.terms = aQuery.terms();
+				anEvent.sort = aQuery.sort();
+				anEvent.direction = aQuery.direction();
+			}
+			commit(anEvent, "findAll", null, found);
+		}
+	}
+
+	@Override
+	public CursorPagination<Category> findAll(final CursorQuery aQuery) {
+		final var anEvent = begin();
+		var found = 0;
+		try {
+			final var aPage = this.delegate.findAll(aQuery);
+			found = aPage.items().size();
+			return aPage;
+		} catch (final RuntimeException ex) {
+			failed(anEvent, ex);
+			throw ex;
+		} finally {
+			if (anEvent.isEnabled()) {
+				anEvent.cursor = aQuery.cursor();
+				anEvent.perPage = aQuery.perPage();
+				anEvent.terms = aQuery.terms();
+				anEvent.sort = aQuery.sort();
+				anEvent.direction = aQuery.direction();
+			}
+			commit(anEvent, "findAllByCursor", null, found);
+		}
+	}
+
+	private static CategoryGatewayEvent begin() {
+		final var anEvent = new CategoryGatewayEvent();
+		anEvent.begin();
+		return anEvent;
+	}
+
+	private static void failed(final CategoryGatewayEvent anEvent, final RuntimeException anError) {
+		if (anEvent.isEnabled()) {
+			anEvent.exception = anError.getClass().getName();
+		}
+	}
+
+	private static void commit(final CategoryGatewayEvent anEvent, final String anOperation, final CategoryID anId, final int aCount) {
+		anEvent.end();
+		if (anEvent.shouldCommit()) {
+			anEvent.operation = anOperation;
+			anEvent.categoryId = anId == null ? null : anId.getValue();
+			anEvent.count = aCount;
+			anEvent.commit();
+		}
+	}
+}
@@ -0,0 +1,323 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategorySearchQuery;
+import com.ramoncgusmao.admin.catalogo.domain.exception.DomainException;
+import com.ramoncgusmao.admin.catalogo.domain.exception.NotFoundException;
+import com.ramoncgusmao.admin.catalogo.domain.exception.VersionConflictException;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.Cursor;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorPagination;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorQuery;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.Pagination;
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe {@link CategoryGateway} kept entirely in memory.
+ * <p>
+ * Categories live in a concurrent primary map and every sortable field has its own sorted index, maintained on each
+ * write while holding the map bin of the changed id. {@link #findAll(CategorySearchQuery)} walks the requested index
+ * in order instead of sorting the whole catalog. Searches with terms only load the categories returned by the text
+ * index and keep the ones up to the requested page with a {@link TopKSelector}, instead of sorting every match.
+ * Keyset queries seek straight to the entry after the cursor, so every page costs the same regardless of depth.
+ * Stored categories are copies, so callers can keep mutating the instances they pass in or receive. Updates are a
+ * compare-and-set on the category version, checked and bumped while holding the map bin.
+ */
+public class CategoryInMemoryGateway implements CategoryGateway {
+
+	private final ConcurrentMap<CategoryID, Category> categories = new ConcurrentHashMap<>();
+	private final Map<CategorySortField, CategorySortIndex> indexes = new EnumMap<>(CategorySortField.class);
+	private final CategoryTextIndex textIndex = new CategoryTextIndex();
+
+	public CategoryInMemoryGateway() {
+		for (final var aField : CategorySortField.values()) {
+			this.indexes.put(aField, new CategorySortIndex(aField));
+		}
+	}
+
+	@Override
+	public Category create(final Category aCategory) {
+		final var aCopy = aCategory.clone();
+		insert(aCopy);
+		return aCopy.clone();
+	}
+
+	/**
+	 * Rejects the whole batch when any id is already stored or repeated, before anything is written. An id taken by a
+	 * concurrent writer after that check rolls back the categories this call already inserted, so either every
+	 * category is stored or none is.
+	 */
+	@Override
+	public List<Category> createAll(final List<Category> aCategories) {
+		final var ids = new HashSet<CategoryID>();
+		for (final var aCategory : aCategories) {
+			if (this.categories.containsKey(aCategory.getId()) || !ids.add(aCategory.getId())) {
+				throw alreadyExists(aCategory.getId());
+			}
+		}
+
+		final var inserted = new ArrayList<Category>(aCategories.size());
+		try {
+			for (final var aCategory : aCategories) {
+				final var aCopy = aCategory.clone();
+				insert(aCopy);
+				inserted.add(aCopy);
+			}
+		} catch (final RuntimeException ex) {
+			inserted.forEach(this::rollback);
+			throw ex;
+		}
+		return inserted.stream().map(Category::clone).toList();
+	}
+
+	@Override
+	public boolean deleteById(final CategoryID anId) {
+		final var removed = new boolean[1];
+		this.categories.computeIfPresent(anId, (id, current) -> {
+			unindex(current);
+			removed[0] = true;
+			return null;
+		});
+		return removed[0];
+	}
+
+	@Override
+	public boolean deleteById(final CategoryID anId, final long anExpectedVersion) {
+		final var removed = new boolean[1];
+		this.categories.computeIfPresent(anId, (id, current) -> {
+			if (current.getVersion() != anExpectedVersion) {
+				throw versionConflict(id, anExpectedVersion, current.getVersion());
+			}
+			unindex(current);
+			removed[0] = true;
+			return null;
+		});
+		return removed[0];
+	}
+
+	@Override
+	public Optional<Category> findById(final CategoryID anId) {
+		return Optional.ofNullable(this.categories.get(anId)).map(Category::clone);
+	}
+
+	@Override
+	public Category update(final Category aCategory) {
+		final var aCopy = aCategory.clone();
+		this.categories.compute(aCopy.getId(), (anId, current) -> {
+			if (current == null) {
+				throw notFound(anId);
+			}
+			if (current.getVersion() != aCopy.getVersion()) {
+				throw versionConflict(anId, aCopy.getVersion(), current.getVersion());
+			}
+			aCopy.incrementVersion();
+			reindex(current, aCopy);
+			return aCopy;
+		});
+		return aCopy.clone();
+	}
+
+	@Override
+	public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+		final var aField = CategorySortField.from(aQuery.sort());
+		final var ascending = isAscending(aQuery.direction());
+		final var perPage = Math.max(aQuery.perPage(), 0);
+		final var offset = (long) Math.max(aQuery.page(), 0) * perPage;
+
+		return aQuery.terms() == null || aQuery.terms().isBlank()
+				? walkIndex(aQuery, this.indexes.get(aField), ascending, offset, perPage)
+				: searchTerms(aQuery, aField, ascending, offset, perPage);
+	}
+
+	@Override
+	public CursorPagination<Category> findAll(final CursorQuery aQuery) {
+		final var aField = CategorySortField.from(aQuery.sort());
+		final var anIndex = this.indexes.get(aField);
+		final var ascending = isAscending(aQuery.direction());
+		final var perPage = Math.max(aQuery.perPage(), 0);
+		final var after = aQuery.cursor() == null || aQuery.cursor().isBlank()
+				? null
+				: toEntry(aField, Cursor.decode(aQuery.cursor()));
+
+		final var items = aQuery.terms() == null || aQuery.terms().isBlank()
+				? seekIndex(anIndex, ascending, after, perPage + 1)
+				: seekTerms(aQuery.terms(), aField, ascending, after, perPage + 1);
+
+		if (items.size() <= perPage) {
+			return new CursorPagination<>(aQuery.perPage(), null, List.copyOf(items));
+		}
+		final var page = List.copyOf(items.subList(0, perPage));
+		final var nextCursor = perPage == 0 ? aQuery.cursor() : toCursor(aField, page.get(perPage - 1)).encode();
+		return new CursorPagination<>(aQuery.perPage(), nextCursor, page);
+	}
+
+	private List<Category> seekIndex(
+			final CategorySortIndex anIndex,
+			final boolean ascending,
+			final CategorySortIndex.Entry after,
+			final int limit
+	) {
+		final var entries = after == null
+				? anIndex.entries(ascending)
+				: anIndex.entries(ascending).tailSet(after, false);
+
+		final var items = new ArrayList<Category>(Math.min(limit, 64));
+		for (final var anEntry : entries) {
+			if (items.size() >= limit) {
+				break;
+			}
+			final var aCategory = this.categories.get(anEntry.id());
+			if (aCategory != null && anIndex.isCurrent(anEntry, aCategory)) {
+				items.add(aCategory.clone());
+			}
+		}
+		return items;
+	}
+
+	private List<Category> seekTerms(
+			final String terms,
+			final CategorySortField aField,
+			final boolean ascending,
+			final CategorySortIndex.Entry after,
+			final int limit
+	) {
+		final var order = directed(CategorySortIndex.categoryOrder(aField), ascending);
+		final var afterOrder = directed(CategorySortIndex.comparator(aField), ascending);
+		final var anIndex = this.indexes.get(aField);
+
+		final var aSelection = TopKSelector.<CategoryID, Category>select(new ArrayList<>(this.textIndex.search(terms)), anId -> {
+			final var aCategory = this.categories.get(anId);
+			return aCategory != null && (after == null || afterOrder.compare(anIndex.entryOf(aCategory), after) > 0)
+					? aCategory
+					: null;
+		}, limit, order);
+		return aSelection.top().stream().map(Category::clone).toList();
+	}
+
+	private static CategorySortIndex.Entry toEntry(final CategorySortField aField, final Cursor aCursor) {
+		return new CategorySortIndex.Entry(aField.parseKey(aCursor.key()), CategoryID.from(aCursor.id()));
+	}
+
+	private static Cursor toCursor(final CategorySortField aField, final Category aCategory) {
+		return Cursor.of(aField.formatKey(aField.keyOf(aCategory)), aCategory.getId().getValue());
+	}
+
+	private Pagination<Category> walkIndex(
+			final CategorySearchQuery aQuery,
+			final CategorySortIndex anIndex,
+			final boolean ascending,
+			final long offset,
+			final int perPage
+	) {
+		final var items = new ArrayList<Category>(Math.min(perPage, 64));
+		long skipped = 0;
+		for (final var anEntry : anIndex.entries(ascending)) {
+			if (items.size() >= perPage) {
+				break;
+			}
+			final var aCategory = this.categories.get(anEntry.id());
+			if (aCategory == null || !anIndex.isCurrent(anEntry, aCategory)) {
+				continue;
+			}
+			if (skipped < offset) {
+				skipped++;
+				continue;
+			}
+			items.add(aCategory.clone());
+		}
+		return new Pagination<>(aQuery.page(), aQuery.perPage(), this.categories.size(), List.copyOf(items));
+	}
+
+	private Pagination<Category> searchTerms(
+			final CategorySearchQuery aQuery,
+			final CategorySortField aField,
+			final boolean ascending,
+			final long offset,
+			final int perPage
+	) {
+		final var order = directed(CategorySortIndex.categoryOrder(aField), ascending);
+		final var limit = (int) Math.min(offset + perPage, Integer.MAX_VALUE);
+
+		final var aSelection = TopKSelector.<CategoryID, Category>select(
+				new ArrayList<>(this.textIndex.search(aQuery.terms())),
+				this.categories::get,
+				limit,
+				order
+		);
+
+		final var top = aSelection.top();
+		final var items = top.subList((int) Math.min(offset, top.size()), top.size()).stream().map(Category::clone).toList();
+		return new Pagination<>(aQuery.page(), aQuery.perPage(), aSelection.matched(), items);
+	}
+
+	private void insert(final Category aCopy) {
+		this.categories.compute(aCopy.getId(), (anId, current) -> {
+			if (current != null) {
+				throw alreadyExists(anId);
+			}
+			index(aCopy);
+			return aCopy;
+		});
+	}
+
+	private void rollback(final Category aCopy) {
+		this.categories.computeIfPresent(aCopy.getId(), (anId, current) -> {
+			if (current != aCopy) {
+				return current;
+			}
+			unindex(current);
+			return null;
+		});
+	}
+
+	private void index(final Category aCategory) {
+		this.indexes.values().forEach(anIndex -> anIndex.add(aCategory));
+		this.textIndex.add(aCategory);
+	}
+
+	private void reindex(final Category current, final Category aCategory) {
+		this.indexes.values().forEach(anIndex -> {
+			anIndex.remove(current);
+			anIndex.add(aCategory);
+		});
+		this.textIndex.add(aCategory);
+	}
+
+	private void unindex(final Category aCategory) {
+		this.indexes.values().forEach(anIndex -> anIndex.remove(aCategory));
+		this.textIndex.remove(aCategory);
+	}
+
+	private static <T> Comparator<T> directed(final Comparator<T> anOrder, final boolean ascending) {
+		return ascending ? anOrder : anOrder.reversed();
+	}
+
+	private static boolean isAscending(final String aDirection) {
+		return aDirection == null || !aDirection.trim().equalsIgnoreCase("desc");
+	}
+
+	private static VersionConflictException versionConflict(final CategoryID anId, final long expected, final long actual) {
+		return VersionConflictException.with(new Error(
+				"Category with %s was modified concurrently: expected version %d but was %d".formatted(anId.getValue(), expected, actual)
+		));
+	}
+
+	private static DomainException alreadyExists(final CategoryID anId) {
+		return DomainException.with(new Error("Category with %s already exists".formatted(anId.getValue())));
+	}
+
+	private static NotFoundException notFound(final CategoryID anId) {
+		return NotFoundException.with(new Error("Category with %s was not found".formatted(anId.getValue())));
+	}
+}
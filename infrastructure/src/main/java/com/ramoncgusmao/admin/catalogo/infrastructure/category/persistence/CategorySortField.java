@@ -0,0 +1,69 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.exception.DomainException;
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.function.Function;
+
+public enum CategorySortField {
+
+	NAME("name", Category::getName, Function.identity()),
+	CREATED_AT("createdAt", Category::getCreatedAt, Instant::parse),
+	UPDATED_AT("updatedAt", Category::getUpdatedAt, Instant::parse);
+
+	private static final Comparator<Comparable<Object>> KEY_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+	private final String field;
+	private final Function<Category, ? extends Comparable<?>> extractor;
+	private final Function<String, ? extends Comparable<?>> parser;
+
+	CategorySortField(
+			final String field,
+			final Function<Category, ? extends Comparable<?>> extractor,
+			final Function<String, ? extends Comparable<?>> parser
+	) {
+		this.field = field;
+		this.extractor = extractor;
+		this.parser = parser;
+	}
+
+	public static CategorySortField from(final String aSort) {
+		if (aSort == null || aSort.isBlank()) {
+			return NAME;
+		}
+		for (final var aField : values()) {
+			if (aField.field.equalsIgnoreCase(aSort.trim())) {
+				return aField;
+			}
+		}
+		throw DomainException.with(new Error("Invalid sort field '%s'".formatted(aSort)));
+	}
+
+	public String field() {
+		return field;
+	}
+
+	public Comparable<?> keyOf(final Category aCategory) {
+		return extractor.apply(aCategory);
+	}
+
+	public String formatKey(final Comparable<?> aKey) {
+		return aKey == null ? null : aKey.toString();
+	}
+
+	public Comparable<?> parseKey(final String aKey) {
+		try {
+			return aKey == null ? null : parser.apply(aKey);
+		} catch (final RuntimeException ex) {
+			throw DomainException.with(new Error("Invalid cursor key '%s' for sort field '%s'".formatted(aKey, field)));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public int compareKeys(final Comparable<?> aKey, final Comparable<?> anotherKey) {
+		return KEY_ORDER.compare((Comparable<Object>) aKey, (Comparable<Object>) anotherKey);
+	}
+}
@@ -0,0 +1,60 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Sorted secondary index over a single {@link CategorySortField}. Entries are ordered by the field value and then by
+ * the category id, so the descending view gives the opposite direction without a second structure.
+ */
+class CategorySortIndex {
+
+	private final CategorySortField field;
+	private final NavigableSet<Entry> entries;
+
+	CategorySortIndex(final CategorySortField aField) {
+		this.field = aField;
+		this.entries = new ConcurrentSkipListSet<>(comparator(aField));
+	}
+
+	void add(final Category aCategory) {
+		this.entries.add(entryOf(aCategory));
+	}
+
+	void remove(final Category aCategory) {
+		this.entries.remove(entryOf(aCategory));
+	}
+
+	NavigableSet<Entry> entries(final boolean ascending) {
+		return ascending ? this.entries : this.entries.descendingSet();
+	}
+
+	Entry entryOf(final Category aCategory) {
+		return new Entry(this.field.keyOf(aCategory), aCategory.getId());
+	}
+
+	boolean isCurrent(final Entry anEntry, final Category aCategory) {
+		return this.field.compareKeys(anEntry.key(), this.field.keyOf(aCategory)) == 0;
+	}
+
+	static Comparator<Entry> comparator(final CategorySortField aField) {
+		return Comparator.<Entry, Comparable<?>>comparing(Entry::key, aField::compareKeys)
+				.thenComparing(Entry::id);
+	}
+
+	/**
+	 * Same order as {@link #comparator(CategorySortField)}, read straight from the categories without building
+	 * entries.
+	 */
+	static Comparator<Category> categoryOrder(final CategorySortField aField) {
+		return Comparator.<Category, Comparable<?>>comparing(aField::keyOf, aField::compareKeys)
+				.thenComparing(Category::getId);
+	}
+
+	record Entry(Comparable<?> key, CategoryID id) {
+	}
+}
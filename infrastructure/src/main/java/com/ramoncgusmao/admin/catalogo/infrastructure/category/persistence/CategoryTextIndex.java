@@ -0,0 +1,209 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over the name and description tokens of each category.
+ * <p>
+ * Tokens are lower-cased and stripped of diacritics, and every token of the query must match. A query token of three
+ * or more characters matches anywhere inside a token: every token is split into trigrams, and such a query token
+ * takes its candidates from its smallest trigram posting list. A shorter query token has no trigram of its own and
+ * matches the start of a token instead, looked up as a range of the sorted token dictionary. Either way a search
+ * touches roughly as many ids as it returns. Posting lists are only changed inside their map entry, so concurrent
+ * updates of categories sharing a token never drop an id.
+ */
+class CategoryTextIndex {
+
+	private static final int GRAM_SIZE = 3;
+	private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+	private final ConcurrentMap<String, Set<CategoryID>> tokens = new ConcurrentHashMap<>();
+	private final NavigableSet<String> dictionary = new ConcurrentSkipListSet<>();
+	private final ConcurrentMap<String, Set<CategoryID>> grams = new ConcurrentHashMap<>();
+	private final ConcurrentMap<CategoryID, String[]> documents = new ConcurrentHashMap<>();
+
+	void add(final Category aCategory) {
+		final var anId = aCategory.getId();
+		final var newTokens = tokenize(aCategory.getName(), aCategory.getDescription());
+		final var oldTokens = this.documents.put(anId, newTokens);
+		final var previous = oldTokens == null ? Set.<String>of() : Set.of(oldTokens);
+		final var current = Set.of(newTokens);
+
+		for (final var aToken : previous) {
+			if (!current.contains(aToken)) {
+				unlink(aToken, anId);
+			}
+		}
+		for (final var aToken : current) {
+			if (!previous.contains(aToken)) {
+				link(aToken, anId);
+			}
+		}
+	}
+
+	void remove(final Category aCategory) {
+		final var anId = aCategory.getId();
+		final var oldTokens = this.documents.remove(anId);
+		if (oldTokens != null) {
+			for (final var aToken : oldTokens) {
+				unlink(aToken, anId);
+			}
+		}
+	}
+
+	Set<CategoryID> search(final String terms) {
+		final var queryTokens = tokenize(terms);
+		if (queryTokens.length == 0) {
+			return Set.of();
+		}
+
+		final var candidates = new ArrayList<Candidates>(queryTokens.length);
+		for (final var aToken : queryTokens) {
+			candidates.add(candidatesOf(aToken));
+		}
+		candidates.sort(Comparator.comparingInt(Candidates::estimatedSize));
+
+		final var result = new LinkedHashSet<CategoryID>();
+		for (final var anId : candidates.get(0).ids()) {
+			final var documentTokens = this.documents.get(anId);
+			if (documentTokens != null && containsAll(documentTokens, queryTokens)) {
+				result.add(anId);
+			}
+		}
+		return result;
+	}
+
+	private Candidates candidatesOf(final String aQueryToken) {
+		if (aQueryToken.length() < GRAM_SIZE) {
+			final var prefixed = new HashSet<CategoryID>();
+			for (final var aToken : this.dictionary.subSet(aQueryToken, aQueryToken + Character.MAX_VALUE)) {
+				final var ids = this.tokens.get(aToken);
+				if (ids != null) {
+					prefixed.addAll(ids);
+				}
+			}
+			return new Candidates(prefixed, prefixed.size());
+		}
+
+		final var postings = new ArrayList<Set<CategoryID>>();
+		for (final var aGram : gramsOf(aQueryToken)) {
+			final var aPosting = this.grams.get(aGram);
+			if (aPosting == null) {
+				return new Candidates(Set.of(), 0);
+			}
+			postings.add(aPosting);
+		}
+		final var smallest = postings.stream().min(Comparator.comparingInt(Set::size)).orElseThrow();
+		return new Candidates(smallest, smallest.size());
+	}
+
+	private void link(final String aToken, final CategoryID anId) {
+		this.tokens.compute(aToken, (key, ids) -> {
+			if (ids == null) {
+				this.dictionary.add(key);
+			}
+			return withId(ids, anId);
+		});
+		for (final var aGram : gramsOf(aToken)) {
+			this.grams.compute(aGram, (key, ids) -> withId(ids, anId));
+		}
+	}
+
+	private void unlink(final String aToken, final CategoryID anId) {
+		this.tokens.computeIfPresent(aToken, (key, ids) -> {
+			final var remaining = withoutId(ids, anId);
+			if (remaining == null) {
+				this.dictionary.remove(key);
+			}
+			return remaining;
+		});
+		for (final var aGram : gramsOf(aToken)) {
+			if (!stillHasGram(anId, aGram)) {
+				this.grams.computeIfPresent(aGram, (key, ids) -> withoutId(ids, anId));
+			}
+		}
+	}
+
+	private static Set<CategoryID> withId(final Set<CategoryID> ids, final CategoryID anId) {
+		final var aPosting = ids == null ? ConcurrentHashMap.<CategoryID>newKeySet() : ids;
+		aPosting.add(anId);
+		return aPosting;
+	}
+
+	private static Set<CategoryID> withoutId(final Set<CategoryID> ids, final CategoryID anId) {
+		return ids.remove(anId) && ids.isEmpty() ? null : ids;
+	}
+
+	private boolean stillHasGram(final CategoryID anId, final String aGram) {
+		final var documentTokens = this.documents.get(anId);
+		return documentTokens != null && Arrays.stream(documentTokens).anyMatch(aToken -> aToken.contains(aGram));
+	}
+
+	private static boolean containsAll(final String[] documentTokens, final String[] queryTokens) {
+		for (final var aQueryToken : queryTokens) {
+			var found = false;
+			for (final var aToken : documentTokens) {
+				if (matches(aToken, aQueryToken)) {
+					found = true;
+					break;
+				}
+			}
+			if (!found) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean matches(final String aToken, final String aQueryToken) {
+		return aQueryToken.length() < GRAM_SIZE ? aToken.startsWith(aQueryToken) : aToken.contains(aQueryToken);
+	}
+
+	private static List<String> gramsOf(final String aToken) {
+		if (aToken.length() < GRAM_SIZE) {
+			return List.of();
+		}
+		final var result = new ArrayList<String>(aToken.length() - GRAM_SIZE + 1);
+		for (int i = 0; i + GRAM_SIZE <= aToken.length(); i++) {
+			result.add(aToken.substring(i, i + GRAM_SIZE));
+		}
+		return result;
+	}
+
+	static String[] tokenize(final String... texts) {
+		final var result = new LinkedHashSet<String>();
+		for (final var aText : texts) {
+			if (aText == null || aText.isBlank()) {
+				continue;
+			}
+			final var normalized = DIACRITICS.matcher(Normalizer.normalize(aText, Normalizer.Form.NFD))
+					.replaceAll("")
+					.toLowerCase(Locale.ROOT);
+			for (final var aToken : normalized.split("[^\\p{L}\\p{N}]+")) {
+				if (!aToken.isEmpty()) {
+					result.add(aToken);
+				}
+			}
+		}
+		return result.toArray(String[]::new);
+	}
+
+	private record Candidates(Set<CategoryID> ids, int estimatedSize) {
+	}
+}
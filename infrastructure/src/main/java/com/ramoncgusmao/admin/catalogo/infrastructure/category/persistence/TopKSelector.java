@@ -0,0 +1,125 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Picks the first {@code k} candidates in a given order without sorting all of them.
+ * <p>
+ * Each candidate is mapped first; a null result drops it. The survivors go through a bounded max-heap that keeps the
+ * best {@code k} seen so far, which costs O(n log k) time and O(k) memory instead of O(n log n) and a copy of every
+ * match. Above {@value #SEQUENTIAL_THRESHOLD} candidates the range is split in halves on the common fork-join pool
+ * and the sorted partial results are merged, again keeping only {@code k}.
+ */
+final class TopKSelector {
+
+	static final int SEQUENTIAL_THRESHOLD = 4096;
+
+	private TopKSelector() {
+	}
+
+	static <S, T> Selection<T> select(
+			final List<S> candidates,
+			final Function<? super S, ? extends T> mapper,
+			final int k,
+			final Comparator<? super T> order
+	) {
+		if (k < 0) {
+			throw new IllegalArgumentException("'k' must not be negative");
+		}
+		final var aTask = new SelectTask<S, T>(candidates, mapper, k, order, 0, candidates.size());
+		return candidates.size() > SEQUENTIAL_THRESHOLD ? aTask.invoke() : aTask.compute();
+	}
+
+	/**
+	 * The first {@code k} mapped candidates in order, and how many candidates were mapped to a value in total.
+	 */
+	record Selection<T>(List<T> top, long matched) {
+	}
+
+	private static final class SelectTask<S, T> extends RecursiveTask<Selection<T>> {
+
+		private final List<S> candidates;
+		private final Function<? super S, ? extends T> mapper;
+		private final int k;
+		private final Comparator<? super T> order;
+		private final int from;
+		private final int to;
+
+		private SelectTask(
+				final List<S> candidates,
+				final Function<? super S, ? extends T> mapper,
+				final int k,
+				final Comparator<? super T> order,
+				final int from,
+				final int to
+		) {
+			this.candidates = candidates;
+			this.mapper = mapper;
+			this.k = k;
+			this.order = order;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Selection<T> compute() {
+			if (this.to - this.from <= SEQUENTIAL_THRESHOLD) {
+				return selectSequentially();
+			}
+			final var middle = (this.from + this.to) >>> 1;
+			final var left = new SelectTask<S, T>(this.candidates, this.mapper, this.k, this.order, this.from, middle);
+			final var right = new SelectTask<S, T>(this.candidates, this.mapper, this.k, this.order, middle, this.to);
+			left.fork();
+			final var rightSelection = right.compute();
+			final var leftSelection = left.join();
+			return new Selection<>(
+					merge(leftSelection.top(), rightSelection.top()),
+					leftSelection.matched() + rightSelection.matched()
+			);
+		}
+
+		private Selection<T> selectSequentially() {
+			final var capacity = Math.min(this.k, this.to - this.from) + 1;
+			final var heap = new PriorityQueue<T>(capacity, Collections.reverseOrder(this.order));
+			long matched = 0;
+			for (int i = this.from; i < this.to; i++) {
+				final T aValue = this.mapper.apply(this.candidates.get(i));
+				if (aValue == null) {
+					continue;
+				}
+				matched++;
+				if (heap.size() < this.k) {
+					heap.add(aValue);
+				} else if (this.k > 0 && this.order.compare(aValue, heap.peek()) < 0) {
+					heap.poll();
+					heap.add(aValue);
+				}
+			}
+			@SuppressWarnings("unchecked")
+			final var top = (T[]) heap.toArray();
+			Arrays.sort(top, this.order);
+			return new Selection<>(Arrays.asList(top), matched);
+		}
+
+		private List<T> merge(final List<T> left, final List<T> right) {
+			final var merged = new ArrayList<T>(Math.min(this.k, left.size() + right.size()));
+			var l = 0;
+			var r = 0;
+			while (merged.size() < this.k && (l < left.size() || r < right.size())) {
+				if (r == right.size() || l < left.size() && this.order.compare(left.get(l), right.get(r)) <= 0) {
+					merged.add(left.get(l++));
+				} else {
+					merged.add(right.get(r++));
+				}
+			}
+			return merged;
+		}
+	}
+}
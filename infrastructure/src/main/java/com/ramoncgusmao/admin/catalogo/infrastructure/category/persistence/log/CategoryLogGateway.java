@@ -0,0 +1,502 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryGateway;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategorySearchQuery;
+import com.ramoncgusmao.admin.catalogo.domain.exception.DomainException;
+import com.ramoncgusmao.admin.catalogo.domain.exception.NotFoundException;
+import com.ramoncgusmao.admin.catalogo.domain.exception.VersionConflictException;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorPagination;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorQuery;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.Pagination;
+import com.ramoncgusmao.admin.catalogo.domain.validation.Error;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.CategoryInMemoryGateway;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Durable {@link CategoryGateway} backed by an append-only, segmented log on the local file system.
+ * <p>
+ * Every write is encoded as one checksummed record and appended to the active segment, so the disk only ever sees
+ * sequential writes; reads never touch the log and are served by a {@link CategoryInMemoryGateway} rebuilt on
+ * startup from the latest {@link CategorySnapshot} plus the segments written after it. A torn record at the end of the
+ * last segment is cut off during that replay. When enough segments have been sealed, a background task rewrites the
+ * oldest ones into a single segment holding only the latest record of every live category, and snapshots periodically
+ * replace the whole history before them.
+ * <p>
+ * With {@link FsyncPolicy#GROUP} a write is appended and applied under the write lock as usual, but its caller waits
+ * for durability after releasing it, so concurrent writers queue up behind one {@link GroupCommitter} force instead of
+ * each paying their own.
+ */
+public class CategoryLogGateway implements CategoryGateway, AutoCloseable {
+
+	private static final int SNAPSHOT_PAGE_SIZE = 1024;
+	private static final LogLocation SNAPSHOT_LOCATION = new LogLocation(-1, -1);
+
+	private final CategoryLogOptions options;
+	private final CategoryInMemoryGateway index = new CategoryInMemoryGateway();
+	private final ConcurrentMap<CategoryID, LogLocation> locations = new ConcurrentHashMap<>();
+	private final ReentrantLock writeLock = new ReentrantLock();
+	private final ReentrantLock compactionLock = new ReentrantLock();
+	private final SegmentedLog log;
+	private final GroupCommitter committer;
+	private final ScheduledExecutorService scheduler;
+	private volatile IOException syncFailure;
+	private volatile long snapshotBoundary;
+
+	public CategoryLogGateway(final CategoryLogOptions options) {
+		this.options = options;
+		try {
+			final var aSnapshot = CategorySnapshot.latest(options.directory());
+			if (aSnapshot.isPresent()) {
+				this.snapshotBoundary = CategorySnapshot.load(aSnapshot.get(), this::restore);
+			}
+			this.log = SegmentedLog.open(options.directory(), options.maxSegmentBytes(), this.snapshotBoundary, this::replay);
+		} catch (final IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+
+		this.committer = options.fsyncPolicy() == FsyncPolicy.GROUP
+				? new GroupCommitter(this.log::force, options.groupCommitMaxBatch(), options.groupCommitMaxLinger())
+				: null;
+
+		this.scheduler = Executors.newScheduledThreadPool(2, aTask -> {
+			final var aThread = new Thread(aTask, "category-log-" + options.directory().getFileName());
+			aThread.setDaemon(true);
+			return aThread;
+		});
+		if (options.fsyncPolicy() == FsyncPolicy.INTERVAL) {
+			final var interval = options.fsyncInterval().toNanos();
+			this.scheduler.scheduleWithFixedDelay(this::forceQuietly, interval, interval, TimeUnit.NANOSECONDS);
+		}
+		final var compactionInterval = options.compactionInterval().toNanos();
+		if (compactionInterval > 0) {
+			this.scheduler.scheduleWithFixedDelay(this::compactQuietly, compactionInterval, compactionInterval, TimeUnit.NANOSECONDS);
+		}
+		final var snapshotInterval = options.snapshotInterval().toNanos();
+		if (snapshotInterval > 0) {
+			this.scheduler.scheduleWithFixedDelay(this::snapshotQuietly, snapshotInterval, snapshotInterval, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public Category create(final Category aCategory) {
+		final Category created;
+		final long aTicket;
+		this.writeLock.lock();
+		try {
+			if (this.locations.containsKey(aCategory.getId())) {
+				throw alreadyExists(aCategory.getId());
+			}
+			final var aLocation = append(List.of(CategoryLogRecord.put(aCategory))).get(0);
+			aTicket = ticket();
+			created = this.index.create(aCategory);
+			this.locations.put(created.getId(), aLocation);
+		} finally {
+			this.writeLock.unlock();
+		}
+		awaitDurable(aTicket);
+		return created;
+	}
+
+	@Override
+	public List<Category> createAll(final List<Category> aCategories) {
+		final List<Category> created;
+		final long aTicket;
+		this.writeLock.lock();
+		try {
+			final var ids = new HashSet<CategoryID>();
+			final var records = new ArrayList<CategoryLogRecord>(aCategories.size());
+			for (final var aCategory : aCategories) {
+				if (this.locations.containsKey(aCategory.getId()) || !ids.add(aCategory.getId())) {
+					throw alreadyExists(aCategory.getId());
+				}
+				records.add(CategoryLogRecord.put(aCategory));
+			}
+
+			final var appended = append(records);
+			aTicket = ticket();
+			created = new ArrayList<>(aCategories.size());
+			for (int i = 0; i < aCategories.size(); i++) {
+				created.add(this.index.create(aCategories.get(i)));
+				this.locations.put(aCategories.get(i).getId(), appended.get(i));
+			}
+		} finally {
+			this.writeLock.unlock();
+		}
+		awaitDurable(aTicket);
+		return created;
+	}
+
+	@Override
+	public boolean deleteById(final CategoryID anId) {
+		final long aTicket;
+		this.writeLock.lock();
+		try {
+			if (!this.locations.containsKey(anId)) {
+				return false;
+			}
+			append(List.of(CategoryLogRecord.delete(anId)));
+			aTicket = ticket();
+			this.index.deleteById(anId);
+			this.locations.remove(anId);
+		} finally {
+			this.writeLock.unlock();
+		}
+		awaitDurable(aTicket);
+		return true;
+	}
+
+	@Override
+	public boolean deleteById(final CategoryID anId, final long anExpectedVersion) {
+		final long aTicket;
+		this.writeLock.lock();
+		try {
+			final var current = this.index.findById(anId);
+			if (current.isEmpty()) {
+				return false;
+			}
+			if (current.get().getVersion() != anExpectedVersion) {
+				throw versionConflict(anId, anExpectedVersion, current.get().getVersion());
+			}
+			append(List.of(CategoryLogRecord.delete(anId)));
+			aTicket = ticket();
+			this.index.deleteById(anId);
+			this.locations.remove(anId);
+		} finally {
+			this.writeLock.unlock();
+		}
+		awaitDurable(aTicket);
+		return true;
+	}
+
+	@Override
+	public Optional<Category> findById(final CategoryID anId) {
+		return this.index.findById(anId);
+	}
+
+	@Override
+	public Category update(final Category aCategory) {
+		final Category updated;
+		final long aTicket;
+		this.writeLock.lock();
+		try {
+			final var anId = aCategory.getId();
+			final var current = this.index.findById(anId).orElseThrow(() -> NotFoundException.with(
+					new Error("Category with %s was not found".formatted(anId.getValue()))
+			));
+			if (current.getVersion() != aCategory.getVersion()) {
+				throw versionConflict(anId, aCategory.getVersion(), current.getVersion());
+			}
+			final var stored = aCategory.clone();
+			stored.incrementVersion();
+			final var aLocation = append(List.of(CategoryLogRecord.put(stored))).get(0);
+			aTicket = ticket();
+			updated = this.index.update(aCategory);
+			this.locations.put(updated.getId(), aLocation);
+		} finally {
+			this.writeLock.unlock();
+		}
+		awaitDurable(aTicket);
+		return updated;
+	}
+
+	@Override
+	public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+		return this.index.findAll(aQuery);
+	}
+
+	@Override
+	public CursorPagination<Category> findAll(final CursorQuery aQuery) {
+		return this.index.findAll(aQuery);
+	}
+
+	/**
+	 * Rewrites the oldest sealed segments into one, keeping only records that are still the latest for their id.
+	 * Runs on the background scheduler; exposed so callers can trigger it on demand.
+	 */
+	public void compact() {
+		this.compactionLock.lock();
+		try {
+			final List<LogSegment> prefix;
+			this.writeLock.lock();
+			try {
+				prefix = this.log.sealed();
+			} finally {
+				this.writeLock.unlock();
+			}
+			if (prefix.size() < this.options.compactionMinSegments()) {
+				return;
+			}
+
+			final var target = prefix.get(prefix.size() - 1);
+			final var moved = new HashMap<CategoryID, LogLocation[]>();
+			final var compacted = this.log.startCompaction(target.id());
+			try {
+				copyLiveRecords(prefix, target, compacted, moved);
+
+				this.writeLock.lock();
+				try {
+					this.log.install(prefix, compacted);
+					moved.forEach((anId, relocation) -> this.locations.replace(anId, relocation[0], relocation[1]));
+				} finally {
+					this.writeLock.unlock();
+				}
+			} catch (final IOException | RuntimeException ex) {
+				compacted.delete();
+				throw ex;
+			}
+		} catch (final IOException ex) {
+			throw new UncheckedIOException(ex);
+		} finally {
+			this.compactionLock.unlock();
+		}
+	}
+
+	/**
+	 * Writes a snapshot of the current state and drops the segments and snapshots it supersedes.
+	 * <p>
+	 * The active segment is sealed first, so every older record is covered by the snapshot. Categories are copied
+	 * without blocking writers: a change made while copying is also in a segment after the boundary and is replayed on
+	 * top of whatever version the snapshot captured.
+	 */
+	public void snapshot() {
+		this.compactionLock.lock();
+		try {
+			final long boundary;
+			this.writeLock.lock();
+			try {
+				boundary = this.log.seal();
+			} finally {
+				this.writeLock.unlock();
+			}
+
+			try (final var aSnapshot = CategorySnapshot.create(this.options.directory(), boundary)) {
+				String cursor = null;
+				do {
+					final var aPage = this.index.findAll(new CursorQuery(cursor, SNAPSHOT_PAGE_SIZE, null, "createdAt", "asc"));
+					for (final var aCategory : aPage.items()) {
+						aSnapshot.append(aCategory);
+					}
+					cursor = aPage.nextCursor();
+				} while (cursor != null);
+				aSnapshot.commit();
+			}
+
+			this.writeLock.lock();
+			try {
+				this.snapshotBoundary = boundary;
+				this.log.deleteBefore(boundary);
+			} finally {
+				this.writeLock.unlock();
+			}
+			CategorySnapshot.deleteOlderThan(this.options.directory(), boundary);
+		} catch (final IOException ex) {
+			throw new UncheckedIOException(ex);
+		} finally {
+			this.compactionLock.unlock();
+		}
+	}
+
+	public int segmentCount() {
+		return this.log.segmentCount();
+	}
+
+	@Override
+	public void close() {
+		// no shutdownNow: interrupting a thread blocked on a FileChannel closes the channel
+		this.scheduler.shutdown();
+		this.compactionLock.lock();
+		this.writeLock.lock();
+		try {
+			if (this.options.fsyncPolicy() != FsyncPolicy.NEVER) {
+				this.log.force();
+			}
+			this.log.close();
+			closeCommitter(null);
+		} catch (final IOException ex) {
+			closeCommitter(ex);
+			throw new UncheckedIOException(ex);
+		} finally {
+			this.writeLock.unlock();
+			this.compactionLock.unlock();
+		}
+	}
+
+	/**
+	 * Copies the records of the prefix that are still current. Deletes are dropped, except when the newest record
+	 * of an id is a delete inside the target segment: until the older segments are gone, replay would otherwise
+	 * bring back a put from one of them. Once a snapshot exists, the newest delete of every id is kept, since the
+	 * snapshot may still hold the category; the next snapshot drops them.
+	 */
+	private void copyLiveRecords(
+			final List<LogSegment> prefix,
+			final LogSegment target,
+			final LogSegment compacted,
+			final Map<CategoryID, LogLocation[]> moved
+	) throws IOException {
+		final var tombstones = new LinkedHashSet<CategoryID>();
+		final var live = new ArrayList<LiveRecord>();
+		final var keepTombstones = this.snapshotBoundary > 0;
+		for (final var aSegment : prefix) {
+			aSegment.scan(false, (aRecord, offset) -> {
+				final var aLocation = new LogLocation(aSegment.id(), offset);
+				if (aSegment == target || keepTombstones) {
+					if (aRecord.type() == CategoryLogRecord.Type.DELETE) {
+						tombstones.add(aRecord.id());
+					} else {
+						tombstones.remove(aRecord.id());
+					}
+				}
+				if (aRecord.type() == CategoryLogRecord.Type.PUT && aLocation.equals(this.locations.get(aRecord.id()))) {
+					live.add(new LiveRecord(aRecord.id(), aLocation, CategoryLogRecordCodec.encode(aRecord)));
+				}
+			});
+			copy(compacted, live, moved);
+		}
+		final var frames = new ArrayList<ByteBuffer>(tombstones.size());
+		for (final var anId : tombstones) {
+			frames.add(CategoryLogRecordCodec.encode(CategoryLogRecord.delete(anId)));
+		}
+		if (!frames.isEmpty()) {
+			compacted.append(frames.toArray(ByteBuffer[]::new));
+		}
+	}
+
+	private static void copy(
+			final LogSegment compacted,
+			final List<LiveRecord> live,
+			final Map<CategoryID, LogLocation[]> moved
+	) throws IOException {
+		if (live.isEmpty()) {
+			return;
+		}
+		final var frames = new ByteBuffer[live.size()];
+		var offset = compacted.size();
+		for (int i = 0; i < frames.length; i++) {
+			final var aRecord = live.get(i);
+			frames[i] = aRecord.frame();
+			moved.put(aRecord.id(), new LogLocation[]{aRecord.from(), new LogLocation(compacted.id(), offset)});
+			offset += frames[i].remaining();
+		}
+		compacted.append(frames);
+		live.clear();
+	}
+
+	private List<LogLocation> append(final List<CategoryLogRecord> records) {
+		final var frames = new ArrayList<ByteBuffer>(records.size());
+		for (final var aRecord : records) {
+			frames.add(CategoryLogRecordCodec.encode(aRecord));
+		}
+		final var aFailure = this.syncFailure;
+		if (aFailure != null) {
+			throw new UncheckedIOException("A background fsync failed; writes are no longer durable", aFailure);
+		}
+		try {
+			final var appended = this.log.append(frames);
+			if (this.options.fsyncPolicy() == FsyncPolicy.ALWAYS) {
+				this.log.force();
+			}
+			return appended;
+		} catch (final IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private long ticket() {
+		return this.committer == null ? 0 : this.committer.register();
+	}
+
+	private void awaitDurable(final long aTicket) {
+		if (this.committer == null) {
+			return;
+		}
+		try {
+			this.committer.awaitDurable(aTicket);
+		} catch (final IOException ex) {
+			this.syncFailure = ex;
+			throw new UncheckedIOException("A group fsync failed; writes are no longer durable", ex);
+		}
+	}
+
+	private void closeCommitter(final IOException aFailure) {
+		if (this.committer != null) {
+			this.committer.close(aFailure);
+		}
+	}
+
+	private void restore(final Category aCategory) {
+		this.index.create(aCategory);
+		this.locations.put(aCategory.getId(), SNAPSHOT_LOCATION);
+	}
+
+	private void replay(final CategoryLogRecord aRecord, final LogLocation aLocation) {
+		final var anId = aRecord.id();
+		if (aRecord.type() == CategoryLogRecord.Type.DELETE) {
+			this.index.deleteById(anId);
+			this.locations.remove(anId);
+		} else {
+			if (this.locations.put(anId, aLocation) != null) {
+				this.index.deleteById(anId);
+			}
+			this.index.create(aRecord.category());
+		}
+	}
+
+	private void forceQuietly() {
+		try {
+			this.log.force();
+		} catch (final ClosedChannelException ex) {
+			// the segment was rolled and closed by compaction in the meantime
+		} catch (final IOException ex) {
+			this.syncFailure = ex;
+		}
+	}
+
+	private void snapshotQuietly() {
+		try {
+			snapshot();
+		} catch (final RuntimeException ex) {
+			// the previous snapshot and the log are untouched, the next run starts over
+		}
+	}
+
+	private void compactQuietly() {
+		try {
+			compact();
+		} catch (final RuntimeException ex) {
+			// keep the schedule alive; the next run retries with the same segments
+		}
+	}
+
+	private static VersionConflictException versionConflict(final CategoryID anId, final long anExpected, final long anActual) {
+		return VersionConflictException.with(new Error(
+				"Category with %s was modified concurrently: expected version %d but was %d"
+						.formatted(anId.getValue(), anExpected, anActual)
+		));
+	}
+
+	private static DomainException alreadyExists(final CategoryID anId) {
+		return DomainException.with(new Error("Category with %s already exists".formatted(anId.getValue())));
+	}
+
+	private record LiveRecord(CategoryID id, LogLocation from, ByteBuffer frame) {
+	}
+}
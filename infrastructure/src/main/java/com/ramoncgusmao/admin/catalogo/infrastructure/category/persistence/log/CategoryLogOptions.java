@@ -0,0 +1,80 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+public record CategoryLogOptions(
+		Path directory,
+		long maxSegmentBytes,
+		FsyncPolicy fsyncPolicy,
+		Duration fsyncInterval,
+		Duration compactionInterval,
+		int compactionMinSegments,
+		Duration snapshotInterval,
+		int groupCommitMaxBatch,
+		Duration groupCommitMaxLinger
+) {
+
+	public CategoryLogOptions {
+		Objects.requireNonNull(directory, "'directory' should not be null");
+		Objects.requireNonNull(fsyncPolicy, "'fsyncPolicy' should not be null");
+		Objects.requireNonNull(fsyncInterval, "'fsyncInterval' should not be null");
+		Objects.requireNonNull(compactionInterval, "'compactionInterval' should not be null");
+		Objects.requireNonNull(snapshotInterval, "'snapshotInterval' should not be null");
+		Objects.requireNonNull(groupCommitMaxLinger, "'groupCommitMaxLinger' should not be null");
+		if (maxSegmentBytes <= 0) {
+			throw new IllegalArgumentException("'maxSegmentBytes' must be positive");
+		}
+		if (fsyncPolicy == FsyncPolicy.INTERVAL && (fsyncInterval.isZero() || fsyncInterval.isNegative())) {
+			throw new IllegalArgumentException("'fsyncInterval' must be positive for the INTERVAL policy");
+		}
+		if (groupCommitMaxBatch < 1) {
+			throw new IllegalArgumentException("'groupCommitMaxBatch' must be at least 1");
+		}
+		if (groupCommitMaxLinger.isNegative()) {
+			throw new IllegalArgumentException("'groupCommitMaxLinger' must not be negative");
+		}
+		if (compactionMinSegments < 1) {
+			throw new IllegalArgumentException("'compactionMinSegments' must be at least 1");
+		}
+	}
+
+	public static CategoryLogOptions with(final Path aDirectory) {
+		return new CategoryLogOptions(
+				aDirectory,
+				64L * 1024 * 1024,
+				FsyncPolicy.INTERVAL,
+				Duration.ofMillis(200),
+				Duration.ofMinutes(1),
+				4,
+				Duration.ofMinutes(10),
+				64,
+				Duration.ofMillis(2)
+		);
+	}
+
+	public CategoryLogOptions withMaxSegmentBytes(final long aMaxSegmentBytes) {
+		return new CategoryLogOptions(directory, aMaxSegmentBytes, fsyncPolicy, fsyncInterval, compactionInterval, compactionMinSegments, snapshotInterval, groupCommitMaxBatch, groupCommitMaxLinger);
+	}
+
+	public CategoryLogOptions withFsync(final FsyncPolicy aPolicy, final Duration anInterval) {
+		return new CategoryLogOptions(directory, maxSegmentBytes, aPolicy, anInterval, compactionInterval, compactionMinSegments, snapshotInterval, groupCommitMaxBatch, groupCommitMaxLinger);
+	}
+
+	public CategoryLogOptions withCompaction(final Duration anInterval, final int aMinSegments) {
+		return new CategoryLogOptions(directory, maxSegmentBytes, fsyncPolicy, fsyncInterval, anInterval, aMinSegments, snapshotInterval, groupCommitMaxBatch, groupCommitMaxLinger);
+	}
+
+	public CategoryLogOptions withSnapshotInterval(final Duration anInterval) {
+		return new CategoryLogOptions(directory, maxSegmentBytes, fsyncPolicy, fsyncInterval, compactionInterval, compactionMinSegments, anInterval, groupCommitMaxBatch, groupCommitMaxLinger);
+	}
+
+	/**
+	 * Switches to {@link FsyncPolicy#GROUP}: a force is issued once {@code aMaxBatch} writes are waiting or the first
+	 * of them has waited {@code aMaxLinger}.
+	 */
+	public CategoryLogOptions withGroupCommit(final int aMaxBatch, final Duration aMaxLinger) {
+		return new CategoryLogOptions(directory, maxSegmentBytes, FsyncPolicy.GROUP, fsyncInterval, compactionInterval, compactionMinSegments, snapshotInterval, aMaxBatch, aMaxLinger);
+	}
+}
@@ -0,0 +1,35 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+
+record CategoryLogRecord(Type type, CategoryID id, Category category) {
+
+	static CategoryLogRecord put(final Category aCategory) {
+		return new CategoryLogRecord(Type.PUT, aCategory.getId(), aCategory);
+	}
+
+	static CategoryLogRecord delete(final CategoryID anId) {
+		return new CategoryLogRecord(Type.DELETE, anId, null);
+	}
+
+	enum Type {
+		PUT((byte) 1),
+		DELETE((byte) 2);
+
+		final byte code;
+
+		Type(final byte code) {
+			this.code = code;
+		}
+
+		static Type of(final byte aCode) {
+			for (final var aType : values()) {
+				if (aType.code == aCode) {
+					return aType;
+				}
+			}
+			throw new IllegalStateException("Unknown log record type %d".formatted(aCode));
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary layout of a log record: {@code [payload length:int][crc32c:int][payload]}, where the payload starts with
+ * a format version and the record type, followed by the id and, for puts, every field of the category ending with
+ * its version.
+ */
+final class CategoryLogRecordCodec {
+
+	static final int HEADER_BYTES = Integer.BYTES * 2;
+	static final int MAX_PAYLOAD_BYTES = 16 * 1024 * 1024;
+
+	private static final byte FORMAT_VERSION = 1;
+	private static final long NULL_INSTANT = Long.MIN_VALUE;
+
+	private CategoryLogRecordCodec() {
+	}
+
+	static ByteBuffer encode(final CategoryLogRecord aRecord) {
+		final var id = bytesOf(aRecord.id().getValue());
+		final var category = aRecord.category();
+		final var name = category == null ? null : bytesOf(category.getName());
+		final var description = category == null ? null : bytesOf(category.getDescription());
+
+		var payloadBytes = 2 + sizeOf(id);
+		if (aRecord.type() == CategoryLogRecord.Type.PUT) {
+			payloadBytes += sizeOf(name) + sizeOf(description) + 1 + 3 * (Long.BYTES + Integer.BYTES) + Long.BYTES;
+		}
+
+		final var buffer = ByteBuffer.allocate(HEADER_BYTES + payloadBytes);
+		buffer.position(HEADER_BYTES);
+		buffer.put(FORMAT_VERSION);
+		buffer.put(aRecord.type().code);
+		putBytes(buffer, id);
+		if (aRecord.type() == CategoryLogRecord.Type.PUT) {
+			putBytes(buffer, name);
+			putBytes(buffer, description);
+			buffer.put((byte) (category.isActive() ? 1 : 0));
+			putInstant(buffer, category.getCreatedAt());
+			putInstant(buffer, category.getUpdatedAt());
+			putInstant(buffer, category.getDeletedAt());
+			buffer.putLong(category.getVersion());
+		}
+
+		buffer.putInt(0, payloadBytes);
+		buffer.putInt(Integer.BYTES, checksum(buffer, HEADER_BYTES, payloadBytes));
+		return buffer.flip();
+	}
+
+	static CategoryLogRecord decode(final ByteBuffer aPayload) {
+		final var version = aPayload.get();
+		if (version != FORMAT_VERSION) {
+			throw new IllegalStateException("Unsupported log record version %d".formatted(version));
+		}
+		final var type = CategoryLogRecord.Type.of(aPayload.get());
+		final var id = CategoryID.from(getString(aPayload));
+		if (type == CategoryLogRecord.Type.DELETE) {
+			return CategoryLogRecord.delete(id);
+		}
+		return CategoryLogRecord.put(Category.with(
+				id,
+				getString(aPayload),
+				getString(aPayload),
+				aPayload.get() == 1,
+				getInstant(aPayload),
+				getInstant(aPayload),
+				getInstant(aPayload),
+				aPayload.getLong()
+		));
+	}
+
+	static int checksum(final ByteBuffer aBuffer, final int offset, final int length) {
+		final var crc = new CRC32C();
+		crc.update(aBuffer.duplicate().limit(offset + length).position(offset));
+		return (int) crc.getValue();
+	}
+
+	private static byte[] bytesOf(final String aText) {
+		return aText == null ? null : aText.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static int sizeOf(final byte[] bytes) {
+		return Integer.BYTES + (bytes == null ? 0 : bytes.length);
+	}
+
+	private static void putBytes(final ByteBuffer aBuffer, final byte[] bytes) {
+		if (bytes == null) {
+			aBuffer.putInt(-1);
+		} else {
+			aBuffer.putInt(bytes.length).put(bytes);
+		}
+	}
+
+	private static String getString(final ByteBuffer aBuffer) {
+		final var length = aBuffer.getInt();
+		if (length < 0) {
+			return null;
+		}
+		final var bytes = new byte[length];
+		aBuffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void putInstant(final ByteBuffer aBuffer, final Instant anInstant) {
+		if (anInstant == null) {
+			aBuffer.putLong(NULL_INSTANT).putInt(0);
+		} else {
+			aBuffer.putLong(anInstant.getEpochSecond()).putInt(anInstant.getNano());
+		}
+	}
+
+	private static Instant getInstant(final ByteBuffer aBuffer) {
+		final var seconds = aBuffer.getLong();
+		final var nanos = aBuffer.getInt();
+		return seconds == NULL_INSTANT ? null : Instant.ofEpochSecond(seconds, nanos);
+	}
+}
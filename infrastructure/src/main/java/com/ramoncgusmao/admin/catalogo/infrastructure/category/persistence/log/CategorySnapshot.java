@@ -0,0 +1,301 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Point-in-time copy of every category, named after the first log segment that is not covered by it.
+ * <p>
+ * Layout: {@code [magic:int][version:byte][boundary segment:long]}, the categories, then
+ * {@code [count:int][crc32c:int]} where the checksum covers every byte before it. Each category starts with a flags
+ * byte that marks which optional fields follow; ids backed by a UUID take 16 bytes and instants are stored as epoch
+ * seconds plus nanoseconds, or left out when null. Every category ends with its version. Snapshots are written to a
+ * temporary file and renamed into place, and they are read back through a memory-mapped buffer.
+ */
+final class CategorySnapshot implements Closeable {
+
+	static final int MAGIC = 0x43534E50;
+	static final byte FORMAT_VERSION = 1;
+
+	private static final String PREFIX = "snapshot-";
+	private static final String SUFFIX = ".snap";
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+	private static final int BUFFER_BYTES = 64 * 1024;
+	private static final int TRAILER_BYTES = Integer.BYTES * 2;
+
+	private static final int ACTIVE = 1;
+	private static final int UUID_ID = 1 << 1;
+	private static final int HAS_DESCRIPTION = 1 << 2;
+	private static final int HAS_DELETED_AT = 1 << 3;
+	private static final int HAS_CREATED_AT = 1 << 4;
+	private static final int HAS_UPDATED_AT = 1 << 5;
+
+	private final Path directory;
+	private final long boundary;
+	private final Path temporary;
+	private final FileChannel channel;
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+	private final CRC32C crc = new CRC32C();
+	private int count;
+	private boolean committed;
+
+	private CategorySnapshot(final Path directory, final long boundary) throws IOException {
+		this.directory = directory;
+		this.boundary = boundary;
+		this.temporary = directory.resolve(pathOf(directory, boundary).getFileName() + TEMPORARY_SUFFIX);
+		this.channel = FileChannel.open(
+				this.temporary,
+				StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.WRITE
+		);
+		this.buffer.putInt(MAGIC).put(FORMAT_VERSION).putLong(boundary);
+	}
+
+	/**
+	 * Starts a snapshot whose log replay resumes at segment {@code aBoundary}.
+	 */
+	static CategorySnapshot create(final Path aDirectory, final long aBoundary) throws IOException {
+		return new CategorySnapshot(aDirectory, aBoundary);
+	}
+
+	static Path pathOf(final Path aDirectory, final long aBoundary) {
+		return aDirectory.resolve(PREFIX + "%016d".formatted(aBoundary) + SUFFIX);
+	}
+
+	static long idOf(final Path aFile) {
+		final var aName = aFile.getFileName().toString();
+		if (!aName.startsWith(PREFIX) || !aName.endsWith(SUFFIX)) {
+			return -1;
+		}
+		try {
+			return Long.parseLong(aName, PREFIX.length(), aName.length() - SUFFIX.length(), 10);
+		} catch (final NumberFormatException ex) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Finds the newest snapshot in the directory, removing temporary files left by an interrupted writer.
+	 */
+	static Optional<Path> latest(final Path aDirectory) throws IOException {
+		if (!Files.isDirectory(aDirectory)) {
+			return Optional.empty();
+		}
+		Path latest = null;
+		try (final var files = Files.list(aDirectory)) {
+			for (final var aFile : (Iterable<Path>) files::iterator) {
+				if (aFile.getFileName().toString().endsWith(SUFFIX + TEMPORARY_SUFFIX)) {
+					Files.delete(aFile);
+				} else if (idOf(aFile) >= 0 && (latest == null || idOf(aFile) > idOf(latest))) {
+					latest = aFile;
+				}
+			}
+		}
+		return Optional.ofNullable(latest);
+	}
+
+	static void deleteOlderThan(final Path aDirectory, final long aBoundary) throws IOException {
+		final var stale = new ArrayList<Path>();
+		try (final var files = Files.list(aDirectory)) {
+			files.filter(aFile -> idOf(aFile) >= 0 && idOf(aFile) < aBoundary).forEach(stale::add);
+		}
+		for (final var aFile : stale) {
+			Files.deleteIfExists(aFile);
+		}
+	}
+
+	/**
+	 * Maps the snapshot, checks its checksum and hands every category to the consumer.
+	 *
+	 * @return the first log segment that must be replayed on top of the snapshot
+	 */
+	static long load(final Path aFile, final Consumer<Category> aConsumer) throws IOException {
+		try (final var aChannel = FileChannel.open(aFile, StandardOpenOption.READ)) {
+			final var size = aChannel.size();
+			if (size > Integer.MAX_VALUE) {
+				throw new IllegalStateException("Snapshot %s is too large to be mapped".formatted(aFile));
+			}
+			final var mapped = aChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			final var headerBytes = Integer.BYTES + 1 + Long.BYTES;
+			if (size < headerBytes + TRAILER_BYTES || mapped.getInt(0) != MAGIC) {
+				throw corrupted(aFile);
+			}
+			final var version = mapped.get(Integer.BYTES);
+			if (version != FORMAT_VERSION) {
+				throw new IllegalStateException("Unsupported snapshot version %d in %s".formatted(version, aFile));
+			}
+
+			final var crc = new CRC32C();
+			crc.update(mapped.duplicate().limit((int) size - Integer.BYTES));
+			if ((int) crc.getValue() != mapped.getInt((int) size - Integer.BYTES)) {
+				throw corrupted(aFile);
+			}
+
+			final var aBoundary = mapped.getLong(Integer.BYTES + 1);
+			final var count = mapped.getInt((int) size - TRAILER_BYTES);
+			final var records = mapped.duplicate().position(headerBytes).limit((int) size - TRAILER_BYTES);
+			for (int i = 0; i < count; i++) {
+				aConsumer.accept(readCategory(records));
+			}
+			if (records.hasRemaining()) {
+				throw corrupted(aFile);
+			}
+			return aBoundary;
+		}
+	}
+
+	void append(final Category aCategory) throws IOException {
+		final var id = aCategory.getId().toUUID();
+		final var rawId = id.isPresent() ? null : bytesOf(aCategory.getId().getValue());
+		final var name = bytesOf(aCategory.getName());
+		final var description = bytesOf(aCategory.getDescription());
+
+		var flags = aCategory.isActive() ? ACTIVE : 0;
+		flags |= id.isPresent() ? UUID_ID : 0;
+		flags |= description != null ? HAS_DESCRIPTION : 0;
+		flags |= aCategory.getDeletedAt() != null ? HAS_DELETED_AT : 0;
+		flags |= aCategory.getCreatedAt() != null ? HAS_CREATED_AT : 0;
+		flags |= aCategory.getUpdatedAt() != null ? HAS_UPDATED_AT : 0;
+
+		ensureRemaining(1 + 2 * Long.BYTES);
+		this.buffer.put((byte) flags);
+		if (id.isPresent()) {
+			this.buffer.putLong(id.get().getMostSignificantBits()).putLong(id.get().getLeastSignificantBits());
+		} else {
+			putBytes(rawId);
+		}
+		putBytes(name);
+		if (description != null) {
+			putBytes(description);
+		}
+		if (aCategory.getCreatedAt() != null) {
+			putInstant(aCategory.getCreatedAt());
+		}
+		if (aCategory.getUpdatedAt() != null) {
+			putInstant(aCategory.getUpdatedAt());
+		}
+		if (aCategory.getDeletedAt() != null) {
+			putInstant(aCategory.getDeletedAt());
+		}
+		ensureRemaining(Long.BYTES);
+		this.buffer.putLong(aCategory.getVersion());
+		this.count++;
+	}
+
+	/**
+	 * Seals the snapshot, forces it to disk and atomically publishes it under its final name.
+	 */
+	Path commit() throws IOException {
+		ensureRemaining(TRAILER_BYTES);
+		this.buffer.putInt(this.count);
+		flushBuffer();
+		this.buffer.putInt((int) this.crc.getValue());
+		flushBuffer();
+		this.channel.force(true);
+		this.channel.close();
+
+		final var target = pathOf(this.directory, this.boundary);
+		Files.move(this.temporary, target, StandardCopyOption.ATOMIC_MOVE);
+		SegmentedLog.syncDirectory(this.directory);
+		this.committed = true;
+		return target;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!this.committed) {
+			this.channel.close();
+			Files.deleteIfExists(this.temporary);
+		}
+	}
+
+	private void putBytes(final byte[] bytes) throws IOException {
+		if (bytes == null) {
+			ensureRemaining(Integer.BYTES);
+			this.buffer.putInt(-1);
+			return;
+		}
+		ensureRemaining(Integer.BYTES);
+		this.buffer.putInt(bytes.length);
+		var offset = 0;
+		while (offset < bytes.length) {
+			ensureRemaining(1);
+			final var length = Math.min(this.buffer.remaining(), bytes.length - offset);
+			this.buffer.put(bytes, offset, length);
+			offset += length;
+		}
+	}
+
+	private void putInstant(final Instant anInstant) throws IOException {
+		ensureRemaining(Long.BYTES + Integer.BYTES);
+		this.buffer.putLong(anInstant.getEpochSecond()).putInt(anInstant.getNano());
+	}
+
+	private void ensureRemaining(final int bytes) throws IOException {
+		if (this.buffer.remaining() < bytes) {
+			flushBuffer();
+		}
+	}
+
+	private void flushBuffer() throws IOException {
+		this.buffer.flip();
+		this.crc.update(this.buffer.duplicate());
+		while (this.buffer.hasRemaining()) {
+			this.channel.write(this.buffer);
+		}
+		this.buffer.clear();
+	}
+
+	private static Category readCategory(final ByteBuffer aBuffer) {
+		final var flags = aBuffer.get();
+		final var anId = (flags & UUID_ID) != 0
+				? CategoryID.from(new UUID(aBuffer.getLong(), aBuffer.getLong()))
+				: CategoryID.from(getString(aBuffer));
+		final var name = getString(aBuffer);
+		final var description = (flags & HAS_DESCRIPTION) != 0 ? getString(aBuffer) : null;
+		final var createdAt = (flags & HAS_CREATED_AT) != 0 ? getInstant(aBuffer) : null;
+		final var updatedAt = (flags & HAS_UPDATED_AT) != 0 ? getInstant(aBuffer) : null;
+		final var deletedAt = (flags & HAS_DELETED_AT) != 0 ? getInstant(aBuffer) : null;
+		final var version = aBuffer.getLong();
+		return Category.with(anId, name, description, (flags & ACTIVE) != 0, createdAt, updatedAt, deletedAt, version);
+	}
+
+	private static String getString(final ByteBuffer aBuffer) {
+		final var length = aBuffer.getInt();
+		if (length < 0) {
+			return null;
+		}
+		final var bytes = new byte[length];
+		aBuffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static Instant getInstant(final ByteBuffer aBuffer) {
+		return Instant.ofEpochSecond(aBuffer.getLong(), aBuffer.getInt());
+	}
+
+	private static byte[] bytesOf(final String aText) {
+		return aText == null ? null : aText.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static IllegalStateException corrupted(final Path aFile) {
+		return new IllegalStateException("Corrupted snapshot %s".formatted(aFile));
+	}
+}
@@ -0,0 +1,19 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log;
+
+public enum FsyncPolicy {
+
+	/** Forces the segment to disk before every write returns. */
+	ALWAYS,
+
+	/**
+	 * Forces once for a group of concurrent writes, each returning only when its own records are on disk. See
+	 * {@link CategoryLogOptions#groupCommitMaxBatch()} and {@link CategoryLogOptions#groupCommitMaxLinger()}.
+	 */
+	GROUP,
+
+	/** Forces the active segment in the background every {@link CategoryLogOptions#fsyncInterval()}. */
+	INTERVAL,
+
+	/** Leaves flushing to the operating system. */
+	NEVER
+}
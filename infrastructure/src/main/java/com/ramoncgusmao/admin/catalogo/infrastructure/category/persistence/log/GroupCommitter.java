@@ -0,0 +1,135 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Shares one fsync between concurrent writers.
+ * <p>
+ * A writer appends its records, takes a ticket with {@link #register()} and blocks in {@link #awaitDurable(long)}.
+ * The first waiter becomes the leader: it lingers until {@code maxBatchSize} tickets are pending or
+ * {@code maxLinger} has passed, forces the log once and releases every writer whose ticket was issued before the
+ * force started. Writers arriving meanwhile wait for the next leader. There is no dedicated thread, so an idle log
+ * costs nothing and a lone writer pays at most one linger.
+ * <p>
+ * A failed force is sticky: the page cache may have dropped the dirty pages, so no later force can prove those
+ * records durable and every waiter, current or future, gets the failure.
+ */
+class GroupCommitter {
+
+	private final Force force;
+	private final int maxBatchSize;
+	private final long maxLingerNanos;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition batchFull = this.lock.newCondition();
+	private final Condition flushed = this.lock.newCondition();
+	private long issued;
+	private long durable;
+	private boolean flushing;
+	private boolean closed;
+	private IOException failure;
+
+	GroupCommitter(final Force force, final int maxBatchSize, final Duration maxLinger) {
+		this.force = force;
+		this.maxBatchSize = maxBatchSize;
+		this.maxLingerNanos = maxLinger.toNanos();
+	}
+
+	/**
+	 * Issues the ticket of records already written to the log. Must be called after the write, in log order.
+	 */
+	long register() {
+		this.lock.lock();
+		try {
+			this.issued++;
+			if (this.issued - this.durable >= this.maxBatchSize) {
+				this.batchFull.signal();
+			}
+			return this.issued;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	void awaitDurable(final long aTicket) throws IOException {
+		this.lock.lock();
+		try {
+			while (this.durable < aTicket) {
+				if (this.failure != null) {
+					throw this.failure;
+				}
+				if (this.flushing) {
+					this.flushed.awaitUninterruptibly();
+				} else {
+					lead();
+				}
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Releases every waiter once the owner has closed the log, with {@code aFailure} if its final force failed.
+	 */
+	void close(final IOException aFailure) {
+		this.lock.lock();
+		try {
+			this.closed = true;
+			if (this.failure == null && aFailure != null) {
+				this.failure = aFailure;
+			} else if (this.failure == null) {
+				this.durable = this.issued;
+			}
+			this.flushed.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void lead() {
+		this.flushing = true;
+		var interrupted = false;
+		var remaining = this.maxLingerNanos;
+		while (remaining > 0 && this.issued - this.durable < this.maxBatchSize && !this.closed) {
+			try {
+				remaining = this.batchFull.awaitNanos(remaining);
+			} catch (final InterruptedException ex) {
+				// re-interrupted after the force, an interrupted thread would close the FileChannel
+				interrupted = true;
+				break;
+			}
+		}
+
+		final var target = this.issued;
+		IOException error = null;
+		this.lock.unlock();
+		try {
+			this.force.run();
+		} catch (final IOException ex) {
+			error = ex;
+		} finally {
+			this.lock.lock();
+		}
+
+		this.flushing = false;
+		if (error == null) {
+			this.durable = Math.max(this.durable, target);
+		} else if (!this.closed && this.failure == null) {
+			// a force racing with close() fails on the closed channel, close() has forced everything already
+			this.failure = error;
+		}
+		this.flushed.signalAll();
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@FunctionalInterface
+	interface Force {
+		void run() throws IOException;
+	}
+}
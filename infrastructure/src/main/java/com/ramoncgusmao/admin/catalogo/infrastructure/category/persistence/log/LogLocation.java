@@ -0,0 +1,4 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log;
+
+record LogLocation(long segmentId, long offset) {
+}
@@ -0,0 +1,170 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * A single append-only log file. Only the active segment of a {@link SegmentedLog} is written to; once rolled it is
+ * never modified again, except by compaction replacing it as a whole.
+ */
+final class LogSegment implements Closeable {
+
+	static final String COMPACTING_SUFFIX = ".compacting";
+
+	private static final String PREFIX = "segment-";
+	private static final String SUFFIX = ".log";
+
+	private final long id;
+	private final Path path;
+	private final FileChannel channel;
+	private long size;
+
+	private LogSegment(final long id, final Path path, final FileChannel channel, final long size) {
+		this.id = id;
+		this.path = path;
+		this.channel = channel;
+		this.size = size;
+	}
+
+	static LogSegment open(final Path aDirectory, final long anId) throws IOException {
+		final var aPath = pathOf(aDirectory, anId);
+		final var aChannel = FileChannel.open(aPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		return new LogSegment(anId, aPath, aChannel, aChannel.size());
+	}
+
+	static LogSegment openCompacting(final Path aDirectory, final long anId) throws IOException {
+		final var aPath = aDirectory.resolve(pathOf(aDirectory, anId).getFileName() + COMPACTING_SUFFIX);
+		final var aChannel = FileChannel.open(
+				aPath,
+				StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ,
+				StandardOpenOption.WRITE
+		);
+		return new LogSegment(anId, aPath, aChannel, 0);
+	}
+
+	static Path pathOf(final Path aDirectory, final long anId) {
+		return aDirectory.resolve(PREFIX + "%016d".formatted(anId) + SUFFIX);
+	}
+
+	static long idOf(final Path aFile) {
+		final var aName = aFile.getFileName().toString();
+		if (!aName.startsWith(PREFIX) || !aName.endsWith(SUFFIX)) {
+			return -1;
+		}
+		try {
+			return Long.parseLong(aName, PREFIX.length(), aName.length() - SUFFIX.length(), 10);
+		} catch (final NumberFormatException ex) {
+			return -1;
+		}
+	}
+
+	long id() {
+		return id;
+	}
+
+	Path path() {
+		return path;
+	}
+
+	long size() {
+		return size;
+	}
+
+	/**
+	 * Writes every frame with a single gathering write and returns the offset of the first one.
+	 */
+	long append(final ByteBuffer... frames) throws IOException {
+		final var offset = this.size;
+		long remaining = 0;
+		for (final var aFrame : frames) {
+			remaining += aFrame.remaining();
+		}
+		this.channel.position(offset);
+		while (remaining > 0) {
+			remaining -= this.channel.write(frames);
+		}
+		this.size = this.channel.position();
+		return offset;
+	}
+
+	void force() throws IOException {
+		this.channel.force(false);
+	}
+
+	/**
+	 * Reads every record in order. A frame that is incomplete or fails its checksum is a torn write: the tail from
+	 * that frame on is cut off when {@code repairTail} is set, otherwise the segment is reported as corrupted.
+	 */
+	void scan(final boolean repairTail, final ObjLongConsumer<CategoryLogRecord> visitor) throws IOException {
+		final var fileSize = this.channel.size();
+		final var header = ByteBuffer.allocate(CategoryLogRecordCodec.HEADER_BYTES);
+		long offset = 0;
+		while (offset < fileSize) {
+			final var payload = readFrame(header, offset, fileSize);
+			if (payload == null) {
+				if (!repairTail) {
+					throw new IllegalStateException("Corrupted log segment %s at offset %d".formatted(this.path, offset));
+				}
+				this.channel.truncate(offset);
+				this.channel.force(true);
+				break;
+			}
+			visitor.accept(CategoryLogRecordCodec.decode(payload), offset);
+			offset += CategoryLogRecordCodec.HEADER_BYTES + payload.capacity();
+		}
+		this.size = offset;
+	}
+
+	void delete() throws IOException {
+		close();
+		Files.deleteIfExists(this.path);
+	}
+
+	LogSegment moveTo(final Path aTarget) throws IOException {
+		Files.move(this.path, aTarget, StandardCopyOption.ATOMIC_MOVE);
+		return new LogSegment(this.id, aTarget, this.channel, this.size);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.channel.close();
+	}
+
+	private ByteBuffer readFrame(final ByteBuffer header, final long offset, final long fileSize) throws IOException {
+		final var payloadOffset = offset + CategoryLogRecordCodec.HEADER_BYTES;
+		if (payloadOffset > fileSize || !readFully(header.clear(), offset)) {
+			return null;
+		}
+		final var length = header.getInt(0);
+		if (length <= 0 || length > CategoryLogRecordCodec.MAX_PAYLOAD_BYTES || payloadOffset + length > fileSize) {
+			return null;
+		}
+		final var payload = ByteBuffer.allocate(length);
+		if (!readFully(payload, payloadOffset)
+				|| CategoryLogRecordCodec.checksum(payload, 0, length) != header.getInt(Integer.BYTES)) {
+			return null;
+		}
+		return payload.flip();
+	}
+
+	private boolean readFully(final ByteBuffer aBuffer, final long aPosition) throws IOException {
+		var position = aPosition;
+		while (aBuffer.hasRemaining()) {
+			final var read = this.channel.read(aBuffer, position);
+			if (read < 0) {
+				return false;
+			}
+			position += read;
+		}
+		return true;
+	}
+}
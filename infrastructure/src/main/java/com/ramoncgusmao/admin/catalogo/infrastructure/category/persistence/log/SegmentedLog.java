@@ -0,0 +1,194 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Ordered sequence of {@link LogSegment}s in one directory. Writes always go to the last (active) segment, which is
+ * rolled once it reaches the configured size. Not thread-safe for writers; callers serialize appends, rolls and
+ * compaction installs.
+ */
+final class SegmentedLog implements Closeable {
+
+	private final Path directory;
+	private final long maxSegmentBytes;
+	private final NavigableMap<Long, LogSegment> segments = new ConcurrentSkipListMap<>();
+	private volatile LogSegment active;
+
+	private SegmentedLog(final Path directory, final long maxSegmentBytes) {
+		this.directory = directory;
+		this.maxSegmentBytes = maxSegmentBytes;
+	}
+
+	/**
+	 * Opens the segments from {@code firstSegmentId} on and replays them in order; older segments are already covered
+	 * by a snapshot and are deleted. Leftovers of an interrupted compaction are discarded and only the last segment
+	 * may have its torn tail cut off.
+	 */
+	static SegmentedLog open(
+			final Path aDirectory,
+			final long maxSegmentBytes,
+			final long firstSegmentId,
+			final BiConsumer<CategoryLogRecord, LogLocation> visitor
+	) throws IOException {
+		Files.createDirectories(aDirectory);
+		final var log = new SegmentedLog(aDirectory, maxSegmentBytes);
+		final var ids = new ArrayList<Long>();
+		try (final var files = Files.list(aDirectory)) {
+			for (final var aFile : (Iterable<Path>) files::iterator) {
+				if (aFile.getFileName().toString().endsWith(LogSegment.COMPACTING_SUFFIX)) {
+					Files.delete(aFile);
+				} else if (LogSegment.idOf(aFile) >= 0 && LogSegment.idOf(aFile) < firstSegmentId) {
+					Files.delete(aFile);
+				} else if (LogSegment.idOf(aFile) >= 0) {
+					ids.add(LogSegment.idOf(aFile));
+				}
+			}
+		}
+		ids.sort(null);
+
+		try {
+			for (int i = 0; i < ids.size(); i++) {
+				final var aSegment = LogSegment.open(aDirectory, ids.get(i));
+				log.segments.put(aSegment.id(), aSegment);
+				aSegment.scan(i == ids.size() - 1, (aRecord, offset) -> visitor.accept(aRecord, new LogLocation(aSegment.id(), offset)));
+			}
+			if (log.segments.isEmpty()) {
+				final var aSegment = LogSegment.open(aDirectory, Math.max(1, firstSegmentId));
+				log.segments.put(aSegment.id(), aSegment);
+				syncDirectory(aDirectory);
+			}
+		} catch (final IOException | RuntimeException ex) {
+			log.close();
+			throw ex;
+		}
+		log.active = log.segments.lastEntry().getValue();
+		return log;
+	}
+
+	/**
+	 * Appends the frames as one write, rolling first when they would overflow a non-empty active segment. A batch
+	 * larger than a whole segment is still kept together.
+	 */
+	List<LogLocation> append(final List<ByteBuffer> frames) throws IOException {
+		long batchBytes = 0;
+		for (final var aFrame : frames) {
+			batchBytes += aFrame.remaining();
+		}
+		if (this.active.size() > 0 && this.active.size() + batchBytes > this.maxSegmentBytes) {
+			roll();
+		}
+
+		final var aSegment = this.active;
+		final var locations = new ArrayList<LogLocation>(frames.size());
+		var offset = aSegment.size();
+		for (final var aFrame : frames) {
+			locations.add(new LogLocation(aSegment.id(), offset));
+			offset += aFrame.remaining();
+		}
+		aSegment.append(frames.toArray(ByteBuffer[]::new));
+		return locations;
+	}
+
+	void force() throws IOException {
+		this.active.force();
+	}
+
+	/**
+	 * Seals the active segment and starts a new one. The sealed segment is forced first so compaction only ever reads
+	 * data that is already on disk.
+	 */
+	void roll() throws IOException {
+		this.active.force();
+		final var next = LogSegment.open(this.directory, this.active.id() + 1);
+		this.segments.put(next.id(), next);
+		this.active = next;
+		syncDirectory(this.directory);
+	}
+
+	/**
+	 * Rolls the active segment unless it is still empty and returns the id of the new active segment: every record
+	 * appended before the call lives in a lower segment.
+	 */
+	long seal() throws IOException {
+		if (this.active.size() > 0) {
+			roll();
+		}
+		return this.active.id();
+	}
+
+	void deleteBefore(final long aSegmentId) throws IOException {
+		for (final var aSegment : List.copyOf(this.segments.headMap(aSegmentId, false).values())) {
+			this.segments.remove(aSegment.id());
+			aSegment.delete();
+		}
+		syncDirectory(this.directory);
+	}
+
+	List<LogSegment> sealed() {
+		return List.copyOf(this.segments.headMap(this.active.id(), false).values());
+	}
+
+	LogSegment startCompaction(final long aTargetId) throws IOException {
+		return LogSegment.openCompacting(this.directory, aTargetId);
+	}
+
+	/**
+	 * Replaces a prefix of sealed segments with the compacted copy. The copy takes the id of the newest segment of
+	 * the prefix through an atomic rename, then the older segments are deleted oldest first, so a crash at any point
+	 * leaves a directory that replays to the same state.
+	 */
+	void install(final List<LogSegment> aPrefix, final LogSegment aCompacted) throws IOException {
+		aCompacted.force();
+		final var replaced = this.segments.get(aCompacted.id());
+		final var installed = aCompacted.moveTo(replaced.path());
+		syncDirectory(this.directory);
+		this.segments.put(installed.id(), installed);
+		replaced.close();
+
+		for (final var aSegment : aPrefix) {
+			if (aSegment.id() != installed.id()) {
+				this.segments.remove(aSegment.id());
+				aSegment.delete();
+			}
+		}
+		syncDirectory(this.directory);
+	}
+
+	int segmentCount() {
+		return this.segments.size();
+	}
+
+	@Override
+	public void close() throws IOException {
+		IOException failure = null;
+		for (final var aSegment : this.segments.values()) {
+			try {
+				aSegment.close();
+			} catch (final IOException ex) {
+				failure = ex;
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	static void syncDirectory(final Path aDirectory) {
+		try (final var aChannel = FileChannel.open(aDirectory, StandardOpenOption.READ)) {
+			aChannel.force(true);
+		} catch (final IOException ex) {
+			// some platforms cannot open directories; the rename itself is still atomic there
+		}
+	}
+}
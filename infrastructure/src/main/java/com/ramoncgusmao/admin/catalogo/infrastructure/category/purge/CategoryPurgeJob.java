@@ -0,0 +1,180 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.purge;
+
+import com.ramoncgusmao.admin.catalogo.application.Usecase;
+import com.ramoncgusmao.admin.catalogo.application.category.purge.PurgeDeletedCategoriesCommand;
+import com.ramoncgusmao.admin.catalogo.application.category.purge.PurgeDeletedCategoriesOutput;
+import com.ramoncgusmao.admin.catalogo.application.category.purge.PurgeDeletedCategoriesUseCase;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Removes categories that were deleted longer ago than the retention, in the background.
+ * <p>
+ * Each run is one {@link PurgeDeletedCategoriesUseCase} batch of a few categories on a single daemon thread, followed
+ * by a pause, so the purge competes with foreground calls for one gateway call at a time and never holds anything
+ * between batches. The cursor carries the sweep from one batch to the next; once it reaches the end of the catalog
+ * the job waits for the sweep interval and starts over. A failed batch is counted and retried from the same cursor.
+ */
+public class CategoryPurgeJob implements CategoryPurgeJobMXBean, AutoCloseable {
+
+	public static final String OBJECT_NAME = "com.ramoncgusmao.admin.catalogo:type=CategoryPurgeJob";
+
+	private final Usecase<PurgeDeletedCategoriesCommand, PurgeDeletedCategoriesOutput> purgeUseCase;
+	private final CategoryPurgeOptions options;
+	private final Clock clock;
+	private final ScheduledThreadPoolExecutor scheduler;
+
+	private final AtomicLong sweeps = new AtomicLong();
+	private final AtomicLong batches = new AtomicLong();
+	private final AtomicLong scanned = new AtomicLong();
+	private final AtomicLong purged = new AtomicLong();
+	private final AtomicLong conflicts = new AtomicLong();
+	private final AtomicLong failures = new AtomicLong();
+	private volatile long lastBatchNanos;
+	private volatile Instant lastSweepCompletedAt;
+	private String cursor;
+
+	public CategoryPurgeJob(
+			final Usecase<PurgeDeletedCategoriesCommand, PurgeDeletedCategoriesOutput> purgeUseCase,
+			final CategoryPurgeOptions options,
+			final Clock clock
+	) {
+		this.purgeUseCase = Objects.requireNonNull(purgeUseCase);
+		this.options = Objects.requireNonNull(options);
+		this.clock = Objects.requireNonNull(clock);
+		this.scheduler = new ScheduledThreadPoolExecutor(1, aTask -> {
+			final var aThread = new Thread(aTask, "category-purge");
+			aThread.setDaemon(true);
+			return aThread;
+		});
+		this.scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+	}
+
+	/**
+	 * Schedules the first batch after {@code anInitialDelay}; every later one is scheduled by the batch before it.
+	 */
+	public CategoryPurgeJob start(final Duration anInitialDelay) {
+		schedule(anInitialDelay.toNanos());
+		return this;
+	}
+
+	public CategoryPurgeJob registerWith(final MBeanServer aServer) {
+		try {
+			final var aName = new ObjectName(OBJECT_NAME);
+			if (aServer.isRegistered(aName)) {
+				aServer.unregisterMBean(aName);
+			}
+			aServer.registerMBean(this, aName);
+			return this;
+		} catch (final JMException ex) {
+			throw new IllegalStateException("Could not register the purge job metrics", ex);
+		}
+	}
+
+	/**
+	 * Runs the next batch of the current sweep on the calling thread.
+	 */
+	public synchronized PurgeDeletedCategoriesOutput runBatch() {
+		final var started = System.nanoTime();
+		final var deletedBefore = this.clock.instant().minus(this.options.retention());
+		final var anOutput = this.purgeUseCase.execute(
+				PurgeDeletedCategoriesCommand.with(this.cursor, this.options.batchSize(), deletedBefore)
+		);
+		this.lastBatchNanos = System.nanoTime() - started;
+		this.batches.incrementAndGet();
+		this.scanned.addAndGet(anOutput.scanned());
+		this.purged.addAndGet(anOutput.purged());
+		this.conflicts.addAndGet(anOutput.conflicts());
+		this.cursor = anOutput.nextCursor();
+		if (anOutput.isSweepComplete()) {
+			this.sweeps.incrementAndGet();
+			this.lastSweepCompletedAt = this.clock.instant();
+		}
+		return anOutput;
+	}
+
+	/**
+	 * Drops the pending batch and waits for a running one; no shutdownNow, an interrupt could close the channel of a
+	 * log-structured gateway in the middle of a write.
+	 */
+	@Override
+	public void close() {
+		this.scheduler.shutdown();
+		try {
+			this.scheduler.awaitTermination(10, TimeUnit.SECONDS);
+		} catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public long getSweeps() {
+		return this.sweeps.get();
+	}
+
+	@Override
+	public long getBatches() {
+		return this.batches.get();
+	}
+
+	@Override
+	public long getScanned() {
+		return this.scanned.get();
+	}
+
+	@Override
+	public long getPurged() {
+		return this.purged.get();
+	}
+
+	@Override
+	public long getConflicts() {
+		return this.conflicts.get();
+	}
+
+	@Override
+	public long getFailures() {
+		return this.failures.get();
+	}
+
+	@Override
+	public long getLastBatchNanos() {
+		return this.lastBatchNanos;
+	}
+
+	@Override
+	public String getLastSweepCompletedAt() {
+		final var anInstant = this.lastSweepCompletedAt;
+		return anInstant == null ? null : anInstant.toString();
+	}
+
+	private void runScheduled() {
+		var delay = this.options.batchInterval();
+		try {
+			if (runBatch().isSweepComplete()) {
+				delay = this.options.sweepInterval();
+			}
+		} catch (final RuntimeException ex) {
+			this.failures.incrementAndGet();
+		}
+		schedule(delay.toNanos());
+	}
+
+	private void schedule(final long aDelayNanos) {
+		try {
+			this.scheduler.schedule(this::runScheduled, aDelayNanos, TimeUnit.NANOSECONDS);
+		} catch (final RejectedExecutionException ex) {
+			// closed while a batch was running
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.purge;
+
+/**
+ * JMX view of the purge job. Counters are cumulative since the job started.
+ */
+public interface CategoryPurgeJobMXBean {
+
+	long getSweeps();
+
+	long getBatches();
+
+	long getScanned();
+
+	long getPurged();
+
+	long getConflicts();
+
+	long getFailures();
+
+	long getLastBatchNanos();
+
+	/**
+	 * ISO-8601 instant at which the last complete sweep ended, or null before the first one.
+	 */
+	String getLastSweepCompletedAt();
+}
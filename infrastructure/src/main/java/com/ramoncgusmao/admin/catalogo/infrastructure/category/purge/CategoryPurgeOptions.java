@@ -0,0 +1,45 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.purge;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Tuning of a {@link CategoryPurgeJob}. Categories deleted more than {@code retention} ago are removed, at most
+ * {@code batchSize} categories are examined per batch, batches are {@code batchInterval} apart and a new sweep of the
+ * catalog starts {@code sweepInterval} after the previous one ended. Together they cap the work done per second,
+ * whatever the size of the catalog.
+ */
+public record CategoryPurgeOptions(
+		Duration retention,
+		int batchSize,
+		Duration batchInterval,
+		Duration sweepInterval
+) {
+
+	public CategoryPurgeOptions {
+		Objects.requireNonNull(retention, "'retention' should not be null");
+		Objects.requireNonNull(batchInterval, "'batchInterval' should not be null");
+		Objects.requireNonNull(sweepInterval, "'sweepInterval' should not be null");
+		if (retention.isNegative()) {
+			throw new IllegalArgumentException("'retention' must not be negative");
+		}
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("'batchSize' must be at least 1");
+		}
+		if (batchInterval.isNegative() || sweepInterval.isNegative()) {
+			throw new IllegalArgumentException("'batchInterval' and 'sweepInterval' must not be negative");
+		}
+	}
+
+	public static CategoryPurgeOptions with(final Duration aRetention) {
+		return new CategoryPurgeOptions(aRetention, 100, Duration.ofMillis(200), Duration.ofHours(1));
+	}
+
+	public CategoryPurgeOptions withBatches(final int aBatchSize, final Duration aBatchInterval) {
+		return new CategoryPurgeOptions(retention, aBatchSize, aBatchInterval, sweepInterval);
+	}
+
+	public CategoryPurgeOptions withSweepInterval(final Duration aSweepInterval) {
+		return new CategoryPurgeOptions(retention, batchSize, batchInterval, aSweepInterval);
+	}
+}
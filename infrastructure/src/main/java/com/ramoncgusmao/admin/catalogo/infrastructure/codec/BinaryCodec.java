@@ -0,0 +1,26 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Hand-written binary encoding of one type. Codecs are stateless and compose: a codec for a container writes its
+ * items with the codec of the item type.
+ */
+public interface BinaryCodec<T> {
+
+	void write(BinaryWriter aWriter, T aValue);
+
+	T read(BinaryReader aReader);
+
+	/**
+	 * Resets the writer, encodes the value into it and returns the encoded bytes, backed by the writer's array.
+	 */
+	default ByteBuffer encode(final T aValue, final BinaryWriter aWriter) {
+		write(aWriter.reset(), aValue);
+		return aWriter.buffer();
+	}
+
+	default T decode(final ByteBuffer aBuffer) {
+		return read(new BinaryReader(aBuffer));
+	}
+}
@@ -0,0 +1,105 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Reads what a {@link BinaryWriter} wrote, advancing the position of the underlying buffer. Strings in a heap buffer
+ * are decoded in place; truncated or malformed input raises {@link CodecException}.
+ */
+public final class BinaryReader {
+
+	private final ByteBuffer buffer;
+
+	public BinaryReader(final ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	public boolean hasRemaining() {
+		return this.buffer.hasRemaining();
+	}
+
+	public byte readByte() {
+		try {
+			return this.buffer.get();
+		} catch (final BufferUnderflowException ex) {
+			throw truncated();
+		}
+	}
+
+	public boolean readBoolean() {
+		return readByte() != 0;
+	}
+
+	public long readFixedLong() {
+		try {
+			return this.buffer.getLong();
+		} catch (final BufferUnderflowException ex) {
+			throw truncated();
+		}
+	}
+
+	public int readVarInt() {
+		var value = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			final var b = readByte();
+			value |= (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new CodecException("Malformed varint");
+	}
+
+	public long readVarLong() {
+		var value = 0L;
+		for (int shift = 0; shift < 70; shift += 7) {
+			final var b = readByte();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new CodecException("Malformed varlong");
+	}
+
+	public long readZigZagLong() {
+		final var value = readVarLong();
+		return value >>> 1 ^ -(value & 1);
+	}
+
+	public String readString() {
+		final var tag = readVarInt();
+		if (tag == 0) {
+			return null;
+		}
+		final var length = tag - 1;
+		if (length < 0 || length > this.buffer.remaining()) {
+			throw truncated();
+		}
+		final String aValue;
+		if (this.buffer.hasArray()) {
+			aValue = new String(this.buffer.array(), this.buffer.arrayOffset() + this.buffer.position(), length, StandardCharsets.UTF_8);
+			this.buffer.position(this.buffer.position() + length);
+		} else {
+			final var bytes = new byte[length];
+			this.buffer.get(bytes);
+			aValue = new String(bytes, StandardCharsets.UTF_8);
+		}
+		return aValue;
+	}
+
+	public Instant readInstant() {
+		final var nanos = readVarInt();
+		if (nanos == 0) {
+			return null;
+		}
+		return Instant.ofEpochSecond(readZigZagLong(), nanos - 1);
+	}
+
+	private static CodecException truncated() {
+		return new CodecException("Unexpected end of input");
+	}
+}
@@ -0,0 +1,189 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.codec;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Growable, reusable encoding buffer. Integers are written as unsigned LEB128 varints (signed ones zig-zag encoded
+ * first), strings as a varint of their UTF-8 length plus one followed by the bytes, with {@code 0} meaning null, and
+ * instants as a varint of the nanoseconds plus one, {@code 0} meaning null, followed by the zig-zag epoch seconds.
+ * <p>
+ * Bytes go straight into a heap array; the leading ASCII chars of a string are copied one by one and only the rest
+ * goes through the UTF-8 encoder.
+ * Call {@link #reset()} to reuse the writer for the next value.
+ */
+public final class BinaryWriter {
+
+	private static final int MAX_VARINT_BYTES = 5;
+	private static final int MAX_VARLONG_BYTES = 10;
+
+	private byte[] bytes;
+	private int position;
+
+	public BinaryWriter() {
+		this(256);
+	}
+
+	public BinaryWriter(final int initialCapacity) {
+		this.bytes = new byte[Math.max(initialCapacity, 16)];
+	}
+
+	public BinaryWriter reset() {
+		this.position = 0;
+		return this;
+	}
+
+	public int size() {
+		return this.position;
+	}
+
+	/**
+	 * Returns the bytes written since the last {@link #reset()}, without copying them. The buffer shares the writer's
+	 * array and is only valid until the next write.
+	 */
+	public ByteBuffer buffer() {
+		return ByteBuffer.wrap(this.bytes, 0, this.position);
+	}
+
+	public byte[] toByteArray() {
+		return Arrays.copyOf(this.bytes, this.position);
+	}
+
+	public BinaryWriter writeByte(final int aValue) {
+		ensure(1);
+		this.bytes[this.position++] = (byte) aValue;
+		return this;
+	}
+
+	public BinaryWriter writeBoolean(final boolean aValue) {
+		return writeByte(aValue ? 1 : 0);
+	}
+
+	public BinaryWriter writeFixedLong(final long aValue) {
+		ensure(Long.BYTES);
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			this.bytes[this.position++] = (byte) (aValue >>> shift);
+		}
+		return this;
+	}
+
+	public BinaryWriter writeVarInt(final int aValue) {
+		ensure(MAX_VARINT_BYTES);
+		var value = aValue;
+		while ((value & ~0x7F) != 0) {
+			this.bytes[this.position++] = (byte) (value & 0x7F | 0x80);
+			value >>>= 7;
+		}
+		this.bytes[this.position++] = (byte) value;
+		return this;
+	}
+
+	public BinaryWriter writeVarLong(final long aValue) {
+		ensure(MAX_VARLONG_BYTES);
+		var value = aValue;
+		while ((value & ~0x7FL) != 0) {
+			this.bytes[this.position++] = (byte) (value & 0x7F | 0x80);
+			value >>>= 7;
+		}
+		this.bytes[this.position++] = (byte) value;
+		return this;
+	}
+
+	public BinaryWriter writeZigZagLong(final long aValue) {
+		return writeVarLong(aValue << 1 ^ aValue >> 63);
+	}
+
+	public BinaryWriter writeString(final String aValue) {
+		if (aValue == null) {
+			return writeVarInt(0);
+		}
+		final var asciiLength = asciiLength(aValue);
+		final var encodedLength = asciiLength + encodedLength(aValue, asciiLength);
+		writeVarInt(encodedLength + 1);
+		ensure(encodedLength);
+		for (int i = 0; i < asciiLength; i++) {
+			this.bytes[this.position++] = (byte) aValue.charAt(i);
+		}
+		encode(aValue, asciiLength);
+		return this;
+	}
+
+	public BinaryWriter writeInstant(final Instant aValue) {
+		if (aValue == null) {
+			return writeVarInt(0);
+		}
+		return writeVarInt(aValue.getNano() + 1).writeZigZagLong(aValue.getEpochSecond());
+	}
+
+	private void encode(final String aValue, final int from) {
+		final var length = aValue.length();
+		for (int i = from; i < length; i++) {
+			final var c = aValue.charAt(i);
+			if (c < 0x80) {
+				this.bytes[this.position++] = (byte) c;
+			} else if (c < 0x800) {
+				this.bytes[this.position++] = (byte) (0xC0 | c >> 6);
+				this.bytes[this.position++] = (byte) (0x80 | c & 0x3F);
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(aValue.charAt(i + 1))) {
+				final var codePoint = Character.toCodePoint(c, aValue.charAt(++i));
+				this.bytes[this.position++] = (byte) (0xF0 | codePoint >> 18);
+				this.bytes[this.position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+				this.bytes[this.position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+				this.bytes[this.position++] = (byte) (0x80 | codePoint & 0x3F);
+			} else if (Character.isSurrogate(c)) {
+				this.bytes[this.position++] = '?';
+			} else {
+				this.bytes[this.position++] = (byte) (0xE0 | c >> 12);
+				this.bytes[this.position++] = (byte) (0x80 | c >> 6 & 0x3F);
+				this.bytes[this.position++] = (byte) (0x80 | c & 0x3F);
+			}
+		}
+	}
+
+	/**
+	 * Number of leading chars below {@code 0x80}, which are written as they are.
+	 */
+	private static int asciiLength(final String aValue) {
+		final var length = aValue.length();
+		var i = 0;
+		while (i < length && aValue.charAt(i) < 0x80) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * UTF-8 length of the string from {@code from} on, with unpaired surrogates replaced by {@code '?'} as
+	 * {@link #encode(String, int)} does.
+	 */
+	private static int encodedLength(final String aValue, final int from) {
+		final var length = aValue.length();
+		var encoded = length - from;
+		for (int i = from; i < length; i++) {
+			final var c = aValue.charAt(i);
+			if (c < 0x80) {
+				continue;
+			}
+			if (c < 0x800) {
+				encoded += 1;
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(aValue.charAt(i + 1))) {
+				encoded += 2;
+				i++;
+			} else if (!Character.isSurrogate(c)) {
+				encoded += 2;
+			}
+		}
+		return encoded;
+	}
+
+	private void ensure(final int aLength) {
+		if (this.bytes.length - this.position < aLength) {
+			final var required = (long) this.position + aLength;
+			if (required > Integer.MAX_VALUE - 8) {
+				throw new CodecException("Encoded value exceeds %d bytes".formatted(Integer.MAX_VALUE - 8));
+			}
+			this.bytes = Arrays.copyOf(this.bytes, (int) Math.max(required, Math.min(this.bytes.length * 2L, Integer.MAX_VALUE - 8)));
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.codec;
+
+import com.ramoncgusmao.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.ramoncgusmao.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+/**
+ * Binary codecs of the category types. Every record starts with its own format version byte, so each type can evolve
+ * on its own; readers reject versions they do not know. Ids backed by a UUID are written as two fixed longs, any
+ * other id as a string.
+ */
+public final class CategoryCodecs {
+
+	private static final byte FORMAT_VERSION = 1;
+	private static final byte RAW_ID = 0;
+	private static final byte UUID_ID = 1;
+
+	public static final BinaryCodec<CategoryID> CATEGORY_ID = new BinaryCodec<>() {
+		@Override
+		public void write(final BinaryWriter aWriter, final CategoryID anId) {
+			final var uuid = anId.toUUID();
+			if (uuid.isPresent()) {
+				aWriter.writeByte(UUID_ID)
+						.writeFixedLong(uuid.get().getMostSignificantBits())
+						.writeFixedLong(uuid.get().getLeastSignificantBits());
+			} else {
+				aWriter.writeByte(RAW_ID).writeString(anId.getValue());
+			}
+		}
+
+		@Override
+		public CategoryID read(final BinaryReader aReader) {
+			final var kind = aReader.readByte();
+			return switch (kind) {
+				case UUID_ID -> CategoryID.from(new UUID(aReader.readFixedLong(), aReader.readFixedLong()));
+				case RAW_ID -> CategoryID.from(aReader.readString());
+				default -> throw new CodecException("Unknown category id kind %d".formatted(kind));
+			};
+		}
+	};
+
+	public static final BinaryCodec<Category> CATEGORY = new BinaryCodec<>() {
+		@Override
+		public void write(final BinaryWriter aWriter, final Category aCategory) {
+			aWriter.writeByte(FORMAT_VERSION);
+			CATEGORY_ID.write(aWriter, aCategory.getId());
+			aWriter.writeString(aCategory.getName())
+					.writeString(aCategory.getDescription())
+					.writeBoolean(aCategory.isActive())
+					.writeInstant(aCategory.getCreatedAt())
+					.writeInstant(aCategory.getUpdatedAt())
+					.writeInstant(aCategory.getDeletedAt())
+					.writeVarLong(aCategory.getVersion());
+		}
+
+		@Override
+		public Category read(final BinaryReader aReader) {
+			checkVersion(aReader, "category");
+			return Category.with(
+					CATEGORY_ID.read(aReader),
+					aReader.readString(),
+					aReader.readString(),
+					aReader.readBoolean(),
+					aReader.readInstant(),
+					aReader.readInstant(),
+					aReader.readInstant(),
+					aReader.readVarLong()
+			);
+		}
+	};
+
+	public static final BinaryCodec<CreateCategoryCommand> CREATE_CATEGORY_COMMAND = new BinaryCodec<>() {
+		@Override
+		public void write(final BinaryWriter aWriter, final CreateCategoryCommand aCommand) {
+			aWriter.writeByte(FORMAT_VERSION)
+					.writeString(aCommand.name())
+					.writeString(aCommand.description())
+					.writeBoolean(aCommand.isActive())
+					.writeString(aCommand.idempotencyKey());
+		}
+
+		@Override
+		public CreateCategoryCommand read(final BinaryReader aReader) {
+			checkVersion(aReader, "create command");
+			return CreateCategoryCommand.with(aReader.readString(), aReader.readString(), aReader.readBoolean(), aReader.readString());
+		}
+	};
+
+	public static final BinaryCodec<UpdateCategoryCommand> UPDATE_CATEGORY_COMMAND = new BinaryCodec<>() {
+		@Override
+		public void write(final BinaryWriter aWriter, final UpdateCategoryCommand aCommand) {
+			aWriter.writeByte(FORMAT_VERSION)
+					.writeString(aCommand.id())
+					.writeString(aCommand.name())
+					.writeString(aCommand.description())
+					.writeBoolean(aCommand.isActive());
+		}
+
+		@Override
+		public UpdateCategoryCommand read(final BinaryReader aReader) {
+			checkVersion(aReader, "update command");
+			return UpdateCategoryCommand.with(aReader.readString(), aReader.readString(), aReader.readString(), aReader.readBoolean());
+		}
+	};
+
+	private CategoryCodecs() {
+	}
+
+	public static <T> BinaryCodec<Pagination<T>> pagination(final BinaryCodec<T> anItemCodec) {
+		return new BinaryCodec<>() {
+			@Override
+			public void write(final BinaryWriter aWriter, final Pagination<T> aPage) {
+				aWriter.writeByte(FORMAT_VERSION)
+						.writeVarInt(aPage.currentPage())
+						.writeVarInt(aPage.perPage())
+						.writeVarLong(aPage.total())
+						.writeVarInt(aPage.items().size());
+				for (final var anItem : aPage.items()) {
+					anItemCodec.write(aWriter, anItem);
+				}
+			}
+
+			@Override
+			public Pagination<T> read(final BinaryReader aReader) {
+				checkVersion(aReader, "page");
+				final var currentPage = aReader.readVarInt();
+				final var perPage = aReader.readVarInt();
+				final var total = aReader.readVarLong();
+				final var size = aReader.readVarInt();
+				if (size < 0) {
+					throw new CodecException("Negative page size %d".formatted(size));
+				}
+				final var items = new ArrayList<T>(Math.min(size, 1024));
+				for (int i = 0; i < size; i++) {
+					items.add(anItemCodec.read(aReader));
+				}
+				return new Pagination<>(currentPage, perPage, total, items);
+			}
+		};
+	}
+
+	private static void checkVersion(final BinaryReader aReader, final String aType) {
+		final var version = aReader.readByte();
+		if (version != FORMAT_VERSION) {
+			throw new CodecException("Unsupported %s format version %d".formatted(aType, version));
+		}
+	}
+}
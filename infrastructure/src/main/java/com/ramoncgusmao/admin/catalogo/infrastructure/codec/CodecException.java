@@ -0,0 +1,8 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.codec;
+
+public class CodecException extends RuntimeException {
+
+	public CodecException(final String message) {
+		super(message);
+	}
+}
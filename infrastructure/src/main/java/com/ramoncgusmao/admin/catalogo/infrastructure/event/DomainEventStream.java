@@ -0,0 +1,58 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.event;
+
+import com.ramoncgusmao.admin.catalogo.domain.event.DomainEvent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process stream of {@link DomainEvent}s. Writers hand over the events of a stored change with
+ * {@link #publish(List)}; a lock turns them into the single producer of the {@link RingBuffer}, and the events of one
+ * call are published back to back. Subscribers see events from the moment they subscribe.
+ */
+public class DomainEventStream implements AutoCloseable {
+
+	private final RingBuffer<DomainEvent> ring;
+	private final ReentrantLock producerLock = new ReentrantLock();
+	private final List<Subscription<DomainEvent>> subscriptions = new CopyOnWriteArrayList<>();
+
+	public DomainEventStream(final int aCapacity) {
+		this.ring = new RingBuffer<>(aCapacity);
+	}
+
+	public void publish(final List<? extends DomainEvent> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+		this.producerLock.lock();
+		try {
+			for (final var anEvent : events) {
+				this.ring.publish(anEvent);
+			}
+		} finally {
+			this.producerLock.unlock();
+		}
+	}
+
+	public Subscription<DomainEvent> subscribe(
+			final String aName,
+			final EventHandler<? super DomainEvent> aHandler,
+			final int aMaxBatchSize
+	) {
+		this.producerLock.lock();
+		try {
+			final var aSubscription = new Subscription<>("domain-events-" + aName, this.ring, aHandler, aMaxBatchSize);
+			this.subscriptions.add(aSubscription);
+			return aSubscription;
+		} finally {
+			this.producerLock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		this.subscriptions.forEach(Subscription::close);
+		this.subscriptions.clear();
+	}
+}
@@ -0,0 +1,13 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.event;
+
+/**
+ * Consumer side of a {@link RingBuffer}. Events arrive in publication order, in batches of whatever was published
+ * since the previous batch; {@code endOfBatch} marks the last one, which is where a handler should flush work it
+ * accumulated. The producer cannot overwrite an event before the handler has returned from it, so a slow handler
+ * pushes back on the write path.
+ */
+@FunctionalInterface
+public interface EventHandler<E> {
+
+	void onEvent(E anEvent, long aSequence, boolean endOfBatch) throws Exception;
+}
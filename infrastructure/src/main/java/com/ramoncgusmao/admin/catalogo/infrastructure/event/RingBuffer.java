@@ -0,0 +1,101 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.event;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded, pre-allocated ring of events for one producer and any number of consumers, in the style of the LMAX
+ * Disruptor.
+ * <p>
+ * The producer writes the slot of the next sequence and then advances the {@link #cursor()} with a release store;
+ * consumers read every slot up to the cursor without locks and advance their own {@link Sequence}. A slot is only
+ * reused once every gating consumer has moved past it, so a full ring blocks {@link #publish(Object)} or fails
+ * {@link #tryPublish(Object)}. Publishing is not thread-safe: callers serialize it.
+ */
+public class RingBuffer<E> {
+
+	private static final Sequence[] NO_GATES = new Sequence[0];
+
+	private final Object[] entries;
+	private final int mask;
+	private final Sequence cursor = new Sequence(-1);
+	private volatile Sequence[] gates = NO_GATES;
+	private long next = -1;
+	private long cachedGate = -1;
+
+	public RingBuffer(final int aCapacity) {
+		if (aCapacity < 1 || Integer.bitCount(aCapacity) != 1) {
+			throw new IllegalArgumentException("'capacity' must be a power of two");
+		}
+		this.entries = new Object[aCapacity];
+		this.mask = aCapacity - 1;
+	}
+
+	public int capacity() {
+		return this.entries.length;
+	}
+
+	/**
+	 * Publishes the event, parking while the slowest consumer is a whole ring behind.
+	 */
+	public long publish(final E anEvent) {
+		final var aSequence = this.next + 1;
+		while (!hasCapacity(aSequence)) {
+			LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+		}
+		return store(aSequence, anEvent);
+	}
+
+	/**
+	 * Publishes the event unless the ring is full, returning its sequence or {@code -1}.
+	 */
+	public long tryPublish(final E anEvent) {
+		final var aSequence = this.next + 1;
+		return hasCapacity(aSequence) ? store(aSequence, anEvent) : -1;
+	}
+
+	Sequence cursor() {
+		return this.cursor;
+	}
+
+	@SuppressWarnings("unchecked")
+	E get(final long aSequence) {
+		return (E) this.entries[(int) aSequence & this.mask];
+	}
+
+	/**
+	 * Adds a consumer position the producer may not lap. Must be serialized with publishing, like it.
+	 */
+	synchronized void addGate(final Sequence aSequence) {
+		final var current = this.gates;
+		final var updated = Arrays.copyOf(current, current.length + 1);
+		updated[current.length] = aSequence;
+		this.gates = updated;
+		this.cachedGate = -1;
+	}
+
+	synchronized void removeGate(final Sequence aSequence) {
+		this.gates = Arrays.stream(this.gates).filter(aGate -> aGate != aSequence).toArray(Sequence[]::new);
+	}
+
+	private long store(final long aSequence, final E anEvent) {
+		this.entries[(int) aSequence & this.mask] = anEvent;
+		this.next = aSequence;
+		this.cursor.set(aSequence);
+		return aSequence;
+	}
+
+	private boolean hasCapacity(final long aSequence) {
+		final var wrapPoint = aSequence - this.entries.length;
+		if (wrapPoint <= this.cachedGate) {
+			return true;
+		}
+		var minimum = aSequence - 1;
+		for (final var aGate : this.gates) {
+			minimum = Math.min(minimum, aGate.get());
+		}
+		this.cachedGate = minimum;
+		return wrapPoint <= minimum;
+	}
+}
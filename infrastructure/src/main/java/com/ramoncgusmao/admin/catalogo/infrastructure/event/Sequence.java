@@ -0,0 +1,41 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.event;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Cache-line padded counter, so the producer cursor and each consumer position never share a line.
+ */
+class Sequence {
+
+	private static final VarHandle VALUE;
+
+	static {
+		try {
+			VALUE = MethodHandles.lookup().findVarHandle(Sequence.class, "value", long.class);
+		} catch (final ReflectiveOperationException ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
+	}
+
+	@SuppressWarnings("unused")
+	private long p1, p2, p3, p4, p5, p6, p7;
+	private volatile long value;
+	@SuppressWarnings("unused")
+	private long p9, p10, p11, p12, p13, p14, p15;
+
+	Sequence(final long initialValue) {
+		this.value = initialValue;
+	}
+
+	long get() {
+		return this.value;
+	}
+
+	/**
+	 * Release store: everything written before it is visible to a thread that reads the new value.
+	 */
+	void set(final long aValue) {
+		VALUE.setRelease(this, aValue);
+	}
+}
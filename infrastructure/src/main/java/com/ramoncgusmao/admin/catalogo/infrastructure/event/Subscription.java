@@ -0,0 +1,95 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.event;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * One consumer of a {@link RingBuffer}, running its {@link EventHandler} on a dedicated daemon thread.
+ * <p>
+ * The thread spins briefly when it catches up with the producer and then parks in short intervals, so an idle
+ * subscription costs a wake-up every {@value #IDLE_PARK_MICROS} microseconds. Batches are capped at
+ * {@code maxBatchSize}, which bounds how long the producer may wait for the handler to release slots. A handler that
+ * throws does not stop the subscription; the failure is counted and the event skipped.
+ */
+public class Subscription<E> implements AutoCloseable {
+
+	private static final int SPINS = 100;
+	private static final long IDLE_PARK_MICROS = 100;
+
+	private final RingBuffer<E> ring;
+	private final EventHandler<? super E> handler;
+	private final int maxBatchSize;
+	private final Sequence sequence;
+	private final Thread thread;
+	private volatile boolean running = true;
+	private volatile long failures;
+
+	Subscription(final String aName, final RingBuffer<E> aRing, final EventHandler<? super E> aHandler, final int aMaxBatchSize) {
+		if (aMaxBatchSize < 1) {
+			throw new IllegalArgumentException("'maxBatchSize' must be at least 1");
+		}
+		this.ring = aRing;
+		this.handler = aHandler;
+		this.maxBatchSize = aMaxBatchSize;
+		this.sequence = new Sequence(aRing.cursor().get());
+		aRing.addGate(this.sequence);
+		this.thread = new Thread(this::run, aName);
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	/**
+	 * Sequence of the last event the handler has returned from.
+	 */
+	public long position() {
+		return this.sequence.get();
+	}
+
+	public long failures() {
+		return this.failures;
+	}
+
+	/**
+	 * Stops after the batch in progress and releases the producer from waiting on this subscription.
+	 */
+	@Override
+	public void close() {
+		this.running = false;
+		LockSupport.unpark(this.thread);
+		try {
+			this.thread.join(TimeUnit.SECONDS.toMillis(5));
+		} catch (final InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		} finally {
+			this.ring.removeGate(this.sequence);
+		}
+	}
+
+	private void run() {
+		var idle = 0;
+		while (this.running) {
+			final var available = this.ring.cursor().get();
+			var current = this.sequence.get();
+			if (available <= current) {
+				if (++idle > SPINS) {
+					LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(IDLE_PARK_MICROS));
+				} else {
+					Thread.onSpinWait();
+				}
+				continue;
+			}
+
+			idle = 0;
+			final var last = Math.min(available, current + this.maxBatchSize);
+			while (current < last) {
+				current++;
+				try {
+					this.handler.onEvent(this.ring.get(current), current, current == last);
+				} catch (final Exception ex) {
+					this.failures++;
+				}
+			}
+			this.sequence.set(last);
+		}
+	}
+}
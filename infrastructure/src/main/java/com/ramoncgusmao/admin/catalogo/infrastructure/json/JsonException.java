@@ -0,0 +1,8 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.json;
+
+public class JsonException extends RuntimeException {
+
+	public JsonException(final String message) {
+		super(message);
+	}
+}
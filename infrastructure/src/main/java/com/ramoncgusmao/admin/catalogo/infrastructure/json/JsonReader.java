@@ -0,0 +1,368 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Pull parser that reads one token at a time from a stream, so a request body is decoded straight into the fields of
+ * a command without materializing a document tree. Only a single top-level value is accepted.
+ */
+public final class JsonReader implements Closeable {
+
+	public enum Token {
+		BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+	}
+
+	private static final int EMPTY_DOCUMENT = 0;
+	private static final int NONEMPTY_DOCUMENT = 1;
+	private static final int EMPTY_OBJECT = 2;
+	private static final int DANGLING_NAME = 3;
+	private static final int NONEMPTY_OBJECT = 4;
+	private static final int EMPTY_ARRAY = 5;
+	private static final int NONEMPTY_ARRAY = 6;
+
+	private final Reader in;
+	private final char[] buffer = new char[4096];
+	private int position;
+	private int limit;
+
+	private int[] scopes = new int[16];
+	private int depth = 1;
+
+	private Token peeked;
+	private String peekedLiteral;
+	private final StringBuilder text = new StringBuilder();
+
+	public JsonReader(final InputStream in) {
+		this(new InputStreamReader(in, StandardCharsets.UTF_8));
+	}
+
+	public JsonReader(final Reader in) {
+		this.in = in;
+		this.scopes[0] = EMPTY_DOCUMENT;
+	}
+
+	public Token peek() throws IOException {
+		if (this.peeked != null) {
+			return this.peeked;
+		}
+		final var scope = this.scopes[this.depth - 1];
+		switch (scope) {
+			case EMPTY_ARRAY, NONEMPTY_ARRAY -> {
+				this.scopes[this.depth - 1] = NONEMPTY_ARRAY;
+				var c = nextNonWhitespace();
+				if (c == ']') {
+					return this.peeked = Token.END_ARRAY;
+				}
+				if (scope == NONEMPTY_ARRAY) {
+					expect(c, ',');
+					c = nextNonWhitespace();
+				}
+				return this.peeked = readValue(c);
+			}
+			case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+				var c = nextNonWhitespace();
+				if (c == '}') {
+					return this.peeked = Token.END_OBJECT;
+				}
+				if (scope == NONEMPTY_OBJECT) {
+					expect(c, ',');
+					c = nextNonWhitespace();
+				}
+				expect(c, '"');
+				this.scopes[this.depth - 1] = DANGLING_NAME;
+				return this.peeked = Token.NAME;
+			}
+			case DANGLING_NAME -> {
+				expect(nextNonWhitespace(), ':');
+				this.scopes[this.depth - 1] = NONEMPTY_OBJECT;
+				return this.peeked = readValue(nextNonWhitespace());
+			}
+			case EMPTY_DOCUMENT -> {
+				this.scopes[this.depth - 1] = NONEMPTY_DOCUMENT;
+				return this.peeked = readValue(nextNonWhitespace());
+			}
+			default -> {
+				final var c = nextNonWhitespace();
+				if (c != -1) {
+					throw syntaxError("Unexpected content after the document");
+				}
+				return this.peeked = Token.END_DOCUMENT;
+			}
+		}
+	}
+
+	public boolean hasNext() throws IOException {
+		final var aToken = peek();
+		return aToken != Token.END_OBJECT && aToken != Token.END_ARRAY && aToken != Token.END_DOCUMENT;
+	}
+
+	public void beginObject() throws IOException {
+		consume(Token.BEGIN_OBJECT);
+		push(EMPTY_OBJECT);
+	}
+
+	public void endObject() throws IOException {
+		consume(Token.END_OBJECT);
+		this.depth--;
+	}
+
+	public void beginArray() throws IOException {
+		consume(Token.BEGIN_ARRAY);
+		push(EMPTY_ARRAY);
+	}
+
+	public void endArray() throws IOException {
+		consume(Token.END_ARRAY);
+		this.depth--;
+	}
+
+	public String nextName() throws IOException {
+		consume(Token.NAME);
+		return readString();
+	}
+
+	public String nextString() throws IOException {
+		final var aToken = peek();
+		if (aToken == Token.NUMBER) {
+			this.peeked = null;
+			return this.peekedLiteral;
+		}
+		consume(Token.STRING);
+		return readString();
+	}
+
+	public boolean nextBoolean() throws IOException {
+		consume(Token.BOOLEAN);
+		return Boolean.parseBoolean(this.peekedLiteral);
+	}
+
+	public long nextLong() throws IOException {
+		final var aToken = peek();
+		final var aLiteral = aToken == Token.STRING ? nextString() : this.peekedLiteral;
+		if (aToken != Token.STRING) {
+			consume(Token.NUMBER);
+		}
+		try {
+			return Long.parseLong(aLiteral);
+		} catch (final NumberFormatException ex) {
+			throw syntaxError("Expected an integer but was '%s'".formatted(aLiteral));
+		}
+	}
+
+	public int nextInt() throws IOException {
+		final var aValue = nextLong();
+		if (aValue != (int) aValue) {
+			throw syntaxError("Expected an int but was %d".formatted(aValue));
+		}
+		return (int) aValue;
+	}
+
+	public void nextNull() throws IOException {
+		consume(Token.NULL);
+	}
+
+	/**
+	 * Skips the next value, including every value nested inside it.
+	 */
+	public void skipValue() throws IOException {
+		var nesting = 0;
+		do {
+			switch (peek()) {
+				case BEGIN_OBJECT -> {
+					beginObject();
+					nesting++;
+				}
+				case BEGIN_ARRAY -> {
+					beginArray();
+					nesting++;
+				}
+				case END_OBJECT -> {
+					endObject();
+					nesting--;
+				}
+				case END_ARRAY -> {
+					endArray();
+					nesting--;
+				}
+				case NAME -> nextName();
+				case STRING -> nextString();
+				case END_DOCUMENT -> throw syntaxError("Unexpected end of document");
+				default -> this.peeked = null;
+			}
+		} while (nesting > 0);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.in.close();
+	}
+
+	private void consume(final Token expected) throws IOException {
+		final var actual = peek();
+		if (actual != expected) {
+			throw syntaxError("Expected %s but was %s".formatted(expected, actual));
+		}
+		this.peeked = null;
+	}
+
+	private void push(final int aScope) {
+		if (this.depth == this.scopes.length) {
+			this.scopes = Arrays.copyOf(this.scopes, this.depth * 2);
+		}
+		this.scopes[this.depth++] = aScope;
+	}
+
+	private Token readValue(final int c) throws IOException {
+		switch (c) {
+			case '{' -> {
+				return Token.BEGIN_OBJECT;
+			}
+			case '[' -> {
+				return Token.BEGIN_ARRAY;
+			}
+			case '"' -> {
+				return Token.STRING;
+			}
+			case 't' -> {
+				readKeyword("rue");
+				this.peekedLiteral = "true";
+				return Token.BOOLEAN;
+			}
+			case 'f' -> {
+				readKeyword("alse");
+				this.peekedLiteral = "false";
+				return Token.BOOLEAN;
+			}
+			case 'n' -> {
+				readKeyword("ull");
+				return Token.NULL;
+			}
+			default -> {
+				if (c == '-' || c >= '0' && c <= '9') {
+					this.peekedLiteral = readNumber((char) c);
+					return Token.NUMBER;
+				}
+				throw syntaxError(c == -1 ? "Unexpected end of document" : "Unexpected character '%s'".formatted((char) c));
+			}
+		}
+	}
+
+	private void readKeyword(final String aRest) throws IOException {
+		for (int i = 0; i < aRest.length(); i++) {
+			if (read() != aRest.charAt(i)) {
+				throw syntaxError("Invalid literal");
+			}
+		}
+	}
+
+	private String readNumber(final char first) throws IOException {
+		this.text.setLength(0);
+		this.text.append(first);
+		while (true) {
+			if (this.position == this.limit && !fill()) {
+				break;
+			}
+			final var c = this.buffer[this.position];
+			if (c >= '0' && c <= '9' || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+				this.text.append(c);
+				this.position++;
+			} else {
+				break;
+			}
+		}
+		return this.text.toString();
+	}
+
+	private String readString() throws IOException {
+		this.text.setLength(0);
+		while (true) {
+			if (this.position == this.limit && !fill()) {
+				throw syntaxError("Unterminated string");
+			}
+			final var start = this.position;
+			while (this.position < this.limit) {
+				final var c = this.buffer[this.position];
+				if (c == '"' || c == '\\') {
+					break;
+				}
+				if (c < 0x20) {
+					throw syntaxError("Unescaped control character in string");
+				}
+				this.position++;
+			}
+			this.text.append(this.buffer, start, this.position - start);
+			if (this.position == this.limit) {
+				continue;
+			}
+			if (this.buffer[this.position++] == '"') {
+				return this.text.toString();
+			}
+			readEscape();
+		}
+	}
+
+	private void readEscape() throws IOException {
+		final var c = read();
+		switch (c) {
+			case '"', '\\', '/' -> this.text.append((char) c);
+			case 'n' -> this.text.append('\n');
+			case 'r' -> this.text.append('\r');
+			case 't' -> this.text.append('\t');
+			case 'b' -> this.text.append('\b');
+			case 'f' -> this.text.append('\f');
+			case 'u' -> {
+				var codeUnit = 0;
+				for (int i = 0; i < 4; i++) {
+					final var digit = Character.digit(read(), 16);
+					if (digit < 0) {
+						throw syntaxError("Invalid unicode escape");
+					}
+					codeUnit = codeUnit << 4 | digit;
+				}
+				this.text.append((char) codeUnit);
+			}
+			default -> throw syntaxError("Invalid escape sequence");
+		}
+	}
+
+	private int nextNonWhitespace() throws IOException {
+		while (true) {
+			final var c = read();
+			if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+				return c;
+			}
+		}
+	}
+
+	private void expect(final int actual, final char expected) {
+		if (actual != expected) {
+			throw syntaxError(actual == -1
+					? "Unexpected end of document, expected '%s'".formatted(expected)
+					: "Expected '%s' but was '%s'".formatted(expected, (char) actual));
+		}
+	}
+
+	private int read() throws IOException {
+		if (this.position == this.limit && !fill()) {
+			return -1;
+		}
+		return this.buffer[this.position++];
+	}
+
+	private boolean fill() throws IOException {
+		final var read = this.in.read(this.buffer, 0, this.buffer.length);
+		this.position = 0;
+		this.limit = Math.max(read, 0);
+		return read > 0;
+	}
+
+	private JsonException syntaxError(final String aMessage) {
+		return new JsonException("Malformed JSON: " + aMessage);
+	}
+}
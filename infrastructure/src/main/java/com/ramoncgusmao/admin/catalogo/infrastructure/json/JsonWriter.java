@@ -0,0 +1,215 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.json;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Streaming JSON writer that encodes UTF-8 straight into a byte buffer, without building a tree or intermediate
+ * strings. Structural mistakes such as a value without a name inside an object are not checked.
+ */
+public final class JsonWriter implements Flushable, Closeable {
+
+	private static final byte[] HEX = "0123456789abcdef".getBytes();
+	private static final byte[] TRUE = "true".getBytes();
+	private static final byte[] FALSE = "false".getBytes();
+	private static final byte[] NULL = "null".getBytes();
+
+	private final OutputStream out;
+	private final byte[] buffer;
+	private int position;
+
+	private boolean[] nonEmpty = new boolean[16];
+	private int depth;
+	private boolean afterName;
+
+	public JsonWriter(final OutputStream out) {
+		this(out, 8192);
+	}
+
+	public JsonWriter(final OutputStream out, final int bufferSize) {
+		this.out = out;
+		this.buffer = new byte[Math.max(bufferSize, 16)];
+	}
+
+	public JsonWriter beginObject() throws IOException {
+		return open('{');
+	}
+
+	public JsonWriter endObject() throws IOException {
+		return close('}');
+	}
+
+	public JsonWriter beginArray() throws IOException {
+		return open('[');
+	}
+
+	public JsonWriter endArray() throws IOException {
+		return close(']');
+	}
+
+	public JsonWriter name(final String aName) throws IOException {
+		if (this.nonEmpty[this.depth]) {
+			write(',');
+		}
+		this.nonEmpty[this.depth] = true;
+		writeString(aName);
+		write(':');
+		this.afterName = true;
+		return this;
+	}
+
+	public JsonWriter value(final String aValue) throws IOException {
+		if (aValue == null) {
+			return nullValue();
+		}
+		beforeValue();
+		writeString(aValue);
+		return this;
+	}
+
+	public JsonWriter value(final long aValue) throws IOException {
+		beforeValue();
+		final var digits = Long.toString(aValue);
+		for (int i = 0; i < digits.length(); i++) {
+			write(digits.charAt(i));
+		}
+		return this;
+	}
+
+	public JsonWriter value(final boolean aValue) throws IOException {
+		beforeValue();
+		write(aValue ? TRUE : FALSE);
+		return this;
+	}
+
+	public JsonWriter nullValue() throws IOException {
+		beforeValue();
+		write(NULL);
+		return this;
+	}
+
+	/**
+	 * Ends the current top-level value with a line break, so the next value starts a new line of NDJSON instead of
+	 * following a comma.
+	 */
+	public JsonWriter lineBreak() throws IOException {
+		if (this.depth != 0) {
+			throw new JsonException("Line break inside an open value");
+		}
+		write('\n');
+		this.nonEmpty[0] = false;
+		return this;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (this.position > 0) {
+			this.out.write(this.buffer, 0, this.position);
+			this.position = 0;
+		}
+		this.out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		flush();
+		this.out.close();
+	}
+
+	private JsonWriter open(final char aBracket) throws IOException {
+		beforeValue();
+		write(aBracket);
+		if (++this.depth == this.nonEmpty.length) {
+			this.nonEmpty = Arrays.copyOf(this.nonEmpty, this.depth * 2);
+		}
+		this.nonEmpty[this.depth] = false;
+		return this;
+	}
+
+	private JsonWriter close(final char aBracket) throws IOException {
+		if (this.depth == 0) {
+			throw new JsonException("Nothing to close with '%s'".formatted(aBracket));
+		}
+		this.depth--;
+		write(aBracket);
+		return this;
+	}
+
+	private void beforeValue() throws IOException {
+		if (this.afterName) {
+			this.afterName = false;
+			return;
+		}
+		if (this.nonEmpty[this.depth]) {
+			write(',');
+		}
+		this.nonEmpty[this.depth] = true;
+	}
+
+	private void writeString(final String aValue) throws IOException {
+		write('"');
+		final var length = aValue.length();
+		for (int i = 0; i < length; i++) {
+			final var c = aValue.charAt(i);
+			if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+				write(c);
+			} else if (c == '"' || c == '\\') {
+				write('\\');
+				write(c);
+			} else if (c < 0x20) {
+				writeControl(c);
+			} else if (c < 0x800) {
+				write(0xC0 | c >> 6);
+				write(0x80 | c & 0x3F);
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(aValue.charAt(i + 1))) {
+				final var codePoint = Character.toCodePoint(c, aValue.charAt(++i));
+				write(0xF0 | codePoint >> 18);
+				write(0x80 | codePoint >> 12 & 0x3F);
+				write(0x80 | codePoint >> 6 & 0x3F);
+				write(0x80 | codePoint & 0x3F);
+			} else if (Character.isSurrogate(c)) {
+				write('?');
+			} else {
+				write(0xE0 | c >> 12);
+				write(0x80 | c >> 6 & 0x3F);
+				write(0x80 | c & 0x3F);
+			}
+		}
+		write('"');
+	}
+
+	private void writeControl(final char c) throws IOException {
+		write('\\');
+		switch (c) {
+			case '\n' -> write('n');
+			case '\r' -> write('r');
+			case '\t' -> write('t');
+			case '\b' -> write('b');
+			case '\f' -> write('f');
+			default -> {
+				write('u');
+				write('0');
+				write('0');
+				write(HEX[c >> 4]);
+				write(HEX[c & 0xF]);
+			}
+		}
+	}
+
+	private void write(final byte[] bytes) throws IOException {
+		for (final var b : bytes) {
+			write(b);
+		}
+	}
+
+	private void write(final int b) throws IOException {
+		if (this.position == this.buffer.length) {
+			this.out.write(this.buffer, 0, this.position);
+			this.position = 0;
+		}
+		this.buffer[this.position++] = (byte) b;
+	}
+}
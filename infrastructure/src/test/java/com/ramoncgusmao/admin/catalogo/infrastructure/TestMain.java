@@ -8,6 +8,8 @@ public class TestMain {
     @Test
     public void testMain(){
         Assertions.assertNotNull(new Main());
-        Main.main(new String[]{});
+        try (final var server = Main.start(new String[]{"0"})) {
+            Assertions.assertTrue(server.port() > 0);
+        }
     }
 }
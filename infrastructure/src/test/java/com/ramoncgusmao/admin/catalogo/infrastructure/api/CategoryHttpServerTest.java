@@ -0,0 +1,168 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.api;
+
+import com.ramoncgusmao.admin.catalogo.application.limit.ConcurrencyLimitOptions;
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.CategoryInMemoryGateway;
+import com.ramoncgusmao.admin.catalogo.infrastructure.json.JsonReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class CategoryHttpServerTest {
+
+	private final CategoryHttpServer server = CategoryHttpServer.start(
+			HttpServerOptions.with(0).withMaxConcurrentRequests(4).withMaxRequestBytes(1024),
+			new CategoryInMemoryGateway()
+	);
+	private final HttpClient client = HttpClient.newHttpClient();
+
+	@AfterEach
+	public void stop() {
+		server.close();
+	}
+
+	@Test
+	public void givenAValidCategory_whenGoesThroughEveryRoute_shouldServeTheUseCases() throws Exception {
+		final var created = send("POST", "/categories", "{\"name\":\"Filmes\",\"description\":\"Longas\",\"is_active\":true}");
+		Assertions.assertEquals(201, created.statusCode());
+		final var anId = fields(created.body()).get("id");
+		Assertions.assertEquals("/categories/" + anId, created.headers().firstValue("Location").orElseThrow());
+
+		final var fetched = send("GET", "/categories/" + anId, null);
+		Assertions.assertEquals(200, fetched.statusCode());
+		Assertions.assertEquals("Filmes", fields(fetched.body()).get("name"));
+		Assertions.assertEquals("true", fields(fetched.body()).get("is_active"));
+
+		final var updated = send("PUT", "/categories/" + anId, "{\"name\":\"Filmes de acao\",\"is_active\":false,\"extra\":[1]}");
+		Assertions.assertEquals(200, updated.statusCode());
+
+		final var listed = send("GET", "/categories?search=acao&perPage=5", null);
+		Assertions.assertEquals(200, listed.statusCode());
+		Assertions.assertTrue(listed.body().contains("\"total\":1"));
+		Assertions.assertTrue(listed.body().contains("\"name\":\"Filmes de acao\""));
+		Assertions.assertTrue(listed.body().contains("\"is_active\":false"));
+
+		Assertions.assertEquals(204, send("DELETE", "/categories/" + anId, null).statusCode());
+		Assertions.assertEquals(404, send("GET", "/categories/" + anId, null).statusCode());
+	}
+
+	@Test
+	public void givenInvalidRequests_whenCallsTheApi_shouldAnswerWithMatchingStatus() throws Exception {
+		final var invalidName = send("POST", "/categories", "{\"name\":\"Fi\"}");
+		Assertions.assertEquals(422, invalidName.statusCode());
+		Assertions.assertEquals("'name' must be between 3 and 255 character", fields(invalidName.body()).get("message"));
+
+		Assertions.assertEquals(400, send("POST", "/categories", "{\"name\":").statusCode());
+		Assertions.assertEquals(400, send("GET", "/categories?page=abc", null).statusCode());
+		final var invalidSort = send("GET", "/categories?sort=popularity", null);
+		Assertions.assertEquals(400, invalidSort.statusCode());
+		Assertions.assertEquals("Query parameter 'sort' must be one of name, createdAt, updatedAt", fields(invalidSort.body()).get("message"));
+		Assertions.assertEquals(404, send("PUT", "/categories/unknown", "{\"name\":\"Filmes\"}").statusCode());
+		Assertions.assertEquals(405, send("PATCH", "/categories", "{}").statusCode());
+		Assertions.assertEquals(404, send("GET", "/categories/a/b", null).statusCode());
+		Assertions.assertEquals(413, send("POST", "/categories", "{\"name\":\"" + "x".repeat(2048) + "\"}").statusCode());
+	}
+
+	@Test
+	public void givenAnIdempotencyKey_whenRetriesACreation_shouldAnswerWithTheSameCategory() throws Exception {
+		final var aBody = "{\"name\":\"Filmes\"}";
+
+		final var created = send("POST", "/categories", aBody, "request-1");
+		final var retried = send("POST", "/categories", aBody, "request-1");
+		final var reused = send("POST", "/categories", "{\"name\":\"Series\"}", "request-1");
+
+		Assertions.assertEquals(201, retried.statusCode());
+		Assertions.assertEquals(fields(created.body()).get("id"), fields(retried.body()).get("id"));
+		Assertions.assertEquals(422, reused.statusCode());
+		Assertions.assertTrue(send("GET", "/categories", null).body().contains("\"total\":1"));
+	}
+
+	@Test
+	public void givenAUseCaseAtItsLimit_whenAnotherRequestArrives_shouldAnswer503WithRetryAfter() throws Exception {
+		final var entered = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		final var aGateway = new CategoryInMemoryGateway() {
+			@Override
+			public Optional<Category> findById(final CategoryID anId) {
+				entered.countDown();
+				try {
+					release.await();
+				} catch (final InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				return super.findById(anId);
+			}
+		};
+		final var anOptions = HttpServerOptions.with(0)
+				.withMaxConcurrentRequests(4)
+				.withUseCaseLimits(ConcurrencyLimitOptions.with(Duration.ofSeconds(1)).withLimits(1, 1, 1).withQueue(0, Duration.ZERO));
+
+		try (final var aServer = CategoryHttpServer.start(anOptions, aGateway)) {
+			final var aBaseUri = "http://localhost:" + aServer.port() + "/categories/";
+			final var inFlight = client.sendAsync(
+					HttpRequest.newBuilder(URI.create(aBaseUri + "first")).GET().build(),
+					HttpResponse.BodyHandlers.ofString()
+			);
+			Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+			final var rejected = client.send(
+					HttpRequest.newBuilder(URI.create(aBaseUri + "second")).GET().build(),
+					HttpResponse.BodyHandlers.ofString()
+			);
+			release.countDown();
+
+			Assertions.assertEquals(503, rejected.statusCode());
+			Assertions.assertEquals("1", rejected.headers().firstValue("Retry-After").orElseThrow());
+			Assertions.assertEquals(404, inFlight.get(5, TimeUnit.SECONDS).statusCode());
+		} finally {
+			release.countDown();
+		}
+	}
+
+	private HttpResponse<String> send(final String aMethod, final String aPath, final String aBody)
+			throws IOException, InterruptedException {
+		return send(aMethod, aPath, aBody, null);
+	}
+
+	private HttpResponse<String> send(final String aMethod, final String aPath, final String aBody, final String anIdempotencyKey)
+			throws IOException, InterruptedException {
+		final var aRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + server.port() + aPath))
+				.method(aMethod, aBody == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(aBody))
+				.header("Content-Type", "application/json");
+		if (anIdempotencyKey != null) {
+			aRequest.header("Idempotency-Key", anIdempotencyKey);
+		}
+		return client.send(aRequest.build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+	private static Map<String, String> fields(final String aBody) throws IOException {
+		final var aReader = new JsonReader(new ByteArrayInputStream(aBody.getBytes(StandardCharsets.UTF_8)));
+		final var fields = new HashMap<String, String>();
+		aReader.beginObject();
+		while (aReader.hasNext()) {
+			final var aName = aReader.nextName();
+			switch (aReader.peek()) {
+				case STRING, NUMBER -> fields.put(aName, aReader.nextString());
+				case BOOLEAN -> fields.put(aName, String.valueOf(aReader.nextBoolean()));
+				default -> aReader.skipValue();
+			}
+		}
+		aReader.endObject();
+		return fields;
+	}
+}
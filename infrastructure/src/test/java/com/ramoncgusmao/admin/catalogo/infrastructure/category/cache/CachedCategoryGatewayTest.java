@@ -0,0 +1,72 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.cache;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.CategoryInMemoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CachedCategoryGatewayTest {
+
+	private final AtomicInteger delegateReads = new AtomicInteger();
+
+	private final CategoryInMemoryGateway delegate = new CategoryInMemoryGateway() {
+		@Override
+		public Optional<Category> findById(final CategoryID anId) {
+			delegateReads.incrementAndGet();
+			return super.findById(anId);
+		}
+	};
+
+	private final CachedCategoryGateway gateway = new CachedCategoryGateway(delegate, 1024 * 1024, Duration.ZERO);
+
+	@Test
+	public void givenACachedCategory_whenCallsFindByIdTwice_shouldReadDelegateOnce() {
+		final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+
+		gateway.findById(aCategory.getId());
+		final var actualCategory = gateway.findById(aCategory.getId()).orElseThrow();
+
+		Assertions.assertEquals("Filmes", actualCategory.getName());
+		Assertions.assertEquals(1, delegateReads.get());
+		Assertions.assertEquals(1, gateway.stats().hits());
+		Assertions.assertEquals(1, gateway.stats().misses());
+	}
+
+	@Test
+	public void givenACachedCategory_whenCallerMutatesTheResult_shouldNotCorruptTheCache() {
+		final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+
+		gateway.findById(aCategory.getId()).orElseThrow().update("Alterado", null, false);
+		gateway.findById(aCategory.getId()).orElseThrow().update("Alterado", null, false);
+
+		final var actualCategory = gateway.findById(aCategory.getId()).orElseThrow();
+		Assertions.assertEquals("Filmes", actualCategory.getName());
+		Assertions.assertTrue(actualCategory.isActive());
+	}
+
+	@Test
+	public void givenACachedCategory_whenCallsUpdate_shouldInvalidateIt() {
+		final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+		gateway.findById(aCategory.getId());
+
+		gateway.update(aCategory.update("Series", null, true));
+
+		Assertions.assertEquals("Series", gateway.findById(aCategory.getId()).orElseThrow().getName());
+		Assertions.assertEquals(2, delegateReads.get());
+	}
+
+	@Test
+	public void givenACachedCategory_whenCallsDeleteById_shouldInvalidateIt() {
+		final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+		gateway.findById(aCategory.getId());
+
+		gateway.deleteById(aCategory.getId());
+
+		Assertions.assertTrue(gateway.findById(aCategory.getId()).isEmpty());
+	}
+}
@@ -0,0 +1,73 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SegmentedLruCacheTest {
+
+	private final AtomicLong clock = new AtomicLong();
+
+	@Test
+	public void givenAFullCache_whenPutsOneOffEntries_shouldKeepTheEntriesReadTwice() {
+		final var cache = newCache(10, null);
+		cache.put("hot", "hot");
+		cache.get("hot");
+
+		for (int i = 0; i < 50; i++) {
+			cache.put("cold-" + i, "cold");
+		}
+
+		Assertions.assertEquals("hot", cache.get("hot"));
+		Assertions.assertEquals(10, cache.stats().weight());
+		Assertions.assertEquals(41, cache.stats().evictions());
+	}
+
+	@Test
+	public void givenEntriesWithWeight_whenExceedsMaximumWeight_shouldEvictByWeight() {
+		final var cache = new SegmentedLruCache<String, String>(10, 1, String::length, null, clock::get);
+
+		cache.put("a", "12345");
+		cache.put("b", "12345");
+		cache.put("c", "123");
+
+		Assertions.assertNull(cache.get("a"));
+		Assertions.assertEquals("12345", cache.get("b"));
+		Assertions.assertEquals(8, cache.stats().weight());
+	}
+
+	@Test
+	public void givenATtl_whenEntryExpires_shouldMiss() {
+		final var cache = newCache(10, Duration.ofSeconds(5));
+		cache.put("a", "a");
+
+		clock.addAndGet(Duration.ofSeconds(4).toNanos());
+		Assertions.assertEquals("a", cache.get("a"));
+
+		clock.addAndGet(Duration.ofSeconds(1).toNanos());
+		Assertions.assertNull(cache.get("a"));
+
+		final var stats = cache.stats();
+		Assertions.assertEquals(1, stats.hits());
+		Assertions.assertEquals(1, stats.misses());
+		Assertions.assertEquals(0, stats.size());
+	}
+
+	@Test
+	public void givenAnInvalidationAfterStamp_whenPutIfUnchanged_shouldRejectStaleValue() {
+		final var cache = newCache(10, null);
+		final var aStamp = cache.stamp("a");
+
+		cache.invalidate("a");
+
+		Assertions.assertFalse(cache.putIfUnchanged("a", "stale", aStamp));
+		Assertions.assertTrue(cache.putIfUnchanged("a", "fresh", cache.stamp("a")));
+		Assertions.assertEquals("fresh", cache.get("a"));
+	}
+
+	private SegmentedLruCache<String, String> newCache(final long maximumWeight, final Duration ttl) {
+		return new SegmentedLruCache<>(maximumWeight, 1, value -> 1, ttl, clock::get);
+	}
+}
@@ -0,0 +1,86 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.event;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryCreated;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryDeactivated;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryDeleted;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryUpdated;
+import com.ramoncgusmao.admin.catalogo.domain.event.DomainEvent;
+import com.ramoncgusmao.admin.catalogo.domain.exception.VersionConflictException;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.CategoryInMemoryGateway;
+import com.ramoncgusmao.admin.catalogo.infrastructure.event.DomainEventStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class PublishingCategoryGatewayTest {
+
+	@Test
+	public void givenStoredChanges_whenSubscribed_shouldDeliverTheirEventsInOrder() throws InterruptedException {
+		final BlockingQueue<DomainEvent> received = new LinkedBlockingQueue<>();
+		try (final var stream = new DomainEventStream(16)) {
+			stream.subscribe("test", (anEvent, aSequence, endOfBatch) -> received.add(anEvent), 8);
+			final var gateway = new PublishingCategoryGateway(new CategoryInMemoryGateway(), stream);
+
+			final var aCategory = Category.newCategory("Filmes", null, true);
+			gateway.create(aCategory);
+			gateway.update(gateway.findById(aCategory.getId()).orElseThrow().update("Filmes", null, false));
+			gateway.deleteById(aCategory.getId());
+
+			final var events = take(received, 4);
+			Assertions.assertInstanceOf(CategoryCreated.class, events.get(0));
+			Assertions.assertInstanceOf(CategoryDeactivated.class, events.get(1));
+			Assertions.assertInstanceOf(CategoryUpdated.class, events.get(2));
+			Assertions.assertInstanceOf(CategoryDeleted.class, events.get(3));
+			events.forEach(anEvent -> Assertions.assertEquals(aCategory.getId(), anEvent.aggregateId()));
+		}
+	}
+
+	@Test
+	public void givenARejectedWrite_whenCallsUpdate_shouldNotPublishAndKeepTheEvents() throws InterruptedException {
+		final BlockingQueue<DomainEvent> received = new LinkedBlockingQueue<>();
+		try (final var stream = new DomainEventStream(16)) {
+			stream.subscribe("test", (anEvent, aSequence, endOfBatch) -> received.add(anEvent), 8);
+			final var gateway = new PublishingCategoryGateway(new CategoryInMemoryGateway(), stream);
+			final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+			gateway.update(aCategory.clone().update("Series", null, true));
+			take(received, 2);
+
+			final var stale = aCategory.clone().update("Documentarios", null, true);
+			Assertions.assertThrows(VersionConflictException.class, () -> gateway.update(stale));
+
+			Assertions.assertNull(received.poll(50, TimeUnit.MILLISECONDS));
+			Assertions.assertEquals(1, stale.pullEvents().size());
+		}
+	}
+
+	@Test
+	public void givenAnUnknownId_whenCallsDeleteById_shouldNotPublish() throws InterruptedException {
+		final BlockingQueue<DomainEvent> received = new LinkedBlockingQueue<>();
+		try (final var stream = new DomainEventStream(16)) {
+			stream.subscribe("test", (anEvent, aSequence, endOfBatch) -> received.add(anEvent), 8);
+			final var gateway = new PublishingCategoryGateway(new CategoryInMemoryGateway(), stream);
+
+			Assertions.assertFalse(gateway.deleteById(CategoryID.from("unknown")));
+			Assertions.assertFalse(gateway.deleteById(CategoryID.from("unknown"), 0));
+
+			Assertions.assertNull(received.poll(50, TimeUnit.MILLISECONDS));
+		}
+	}
+
+	private static List<DomainEvent> take(final BlockingQueue<DomainEvent> aQueue, final int aCount) throws InterruptedException {
+		final var events = new ArrayList<DomainEvent>(aCount);
+		for (int i = 0; i < aCount; i++) {
+			final var anEvent = aQueue.poll(5, TimeUnit.SECONDS);
+			Assertions.assertNotNull(anEvent, "missing event " + i);
+			events.add(anEvent);
+		}
+		return events;
+	}
+}
@@ -0,0 +1,84 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.export;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.CategoryInMemoryGateway;
+import com.ramoncgusmao.admin.catalogo.infrastructure.json.JsonReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+public class CategoryExporterTest {
+
+	private final CategoryInMemoryGateway gateway = new CategoryInMemoryGateway();
+	private final DirectBufferPool bufferPool = new DirectBufferPool(256, 2);
+	private final CategoryExporter exporter = new CategoryExporter(gateway, bufferPool, 7);
+
+	@Test
+	public void givenManyCategories_whenCallsExportToNdjson_shouldWriteOneLinePerCategory(@TempDir final Path aDir) throws Exception {
+		final var expectedIds = new HashSet<String>();
+		for (int i = 0; i < 100; i++) {
+			expectedIds.add(gateway.create(Category.newCategory("Categoria \"%d\"".formatted(i), "Descrição " + i, i % 2 == 0)).getId().getValue());
+		}
+		final var aFile = aDir.resolve("categories.ndjson");
+
+		final var actualSummary = exporter.exportTo(aFile, ExportFormat.NDJSON);
+
+		final var lines = Files.readAllLines(aFile, StandardCharsets.UTF_8);
+		final var actualIds = new HashSet<String>();
+		for (final var aLine : lines) {
+			final var aReader = new JsonReader(new StringReader(aLine));
+			aReader.beginObject();
+			Assertions.assertEquals("id", aReader.nextName());
+			actualIds.add(aReader.nextString());
+		}
+		Assertions.assertEquals(new ExportSummary(100, Files.size(aFile)), actualSummary);
+		Assertions.assertEquals(expectedIds, actualIds);
+		Assertions.assertFalse(Files.exists(aDir.resolve("categories.ndjson.tmp")));
+		Assertions.assertEquals(1, bufferPool.pooled());
+	}
+
+	@Test
+	public void givenCategories_whenCallsExportToBinary_shouldRoundTripEveryField(@TempDir final Path aDir) throws Exception {
+		final var deleted = Category.with(
+				CategoryID.from("legacy-id"),
+				"x".repeat(1_000),
+				null,
+				false,
+				Instant.parse("2024-01-01T10:00:00.123456789Z"),
+				Instant.parse("2024-01-02T10:00:00Z"),
+				Instant.parse("2024-01-03T10:00:00Z"),
+				4
+		);
+		final var active = Category.newCategory("Filmes", "Longas", true);
+		gateway.create(deleted);
+		gateway.create(active);
+		final var aFile = aDir.resolve("categories.bin");
+
+		final var actualSummary = exporter.exportTo(aFile, ExportFormat.BINARY);
+
+		final var actualCategories = new ArrayList<Category>();
+		final var count = BinaryCategoryExportWriter.read(ByteBuffer.wrap(Files.readAllBytes(aFile)), actualCategories::add);
+		Assertions.assertEquals(2, count);
+		Assertions.assertEquals(new ExportSummary(2, Files.size(aFile)), actualSummary);
+		final var actualDeleted = actualCategories.get(0);
+		Assertions.assertEquals(deleted.getId(), actualDeleted.getId());
+		Assertions.assertEquals(deleted.getName(), actualDeleted.getName());
+		Assertions.assertNull(actualDeleted.getDescription());
+		Assertions.assertFalse(actualDeleted.isActive());
+		Assertions.assertEquals(deleted.getCreatedAt(), actualDeleted.getCreatedAt());
+		Assertions.assertEquals(deleted.getDeletedAt(), actualDeleted.getDeletedAt());
+		Assertions.assertEquals(4, actualDeleted.getVersion());
+		Assertions.assertEquals(active.getId(), actualCategories.get(1).getId());
+		Assertions.assertEquals("Longas", actualCategories.get(1).getDescription());
+	}
+}
@@ -0,0 +1,65 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.importer;
+
+import com.ramoncgusmao.admin.catalogo.application.category.create.DefaultCreateCategoriesBatchUseCase;
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategorySearchQuery;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.CategoryInMemoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class CategoryImporterTest {
+
+	private final CategoryInMemoryGateway gateway = new CategoryInMemoryGateway();
+	private final CategoryImporter importer = new CategoryImporter(
+			new DefaultCreateCategoriesBatchUseCase(gateway),
+			new CategoryImportOptions(2, 2, 2)
+	);
+
+	@Test
+	public void givenAnNdjsonFile_whenCallsImportFile_shouldStoreValidRowsAndReportTheRest(@TempDir final Path aDir) throws Exception {
+		final var aFile = aDir.resolve("categories.ndjson");
+		final var aReport = aDir.resolve("rejected.csv");
+		Files.writeString(aFile, """
+				{"name":"Filmes","description":"Longas","is_active":true}
+				{"name":"Series","is_active":false}
+				{"name":"  ","is_active":true}
+
+				{"name":
+				{"name":"Animes","is_active":true}
+				""", StandardCharsets.UTF_8);
+
+		final var actualSummary = importer.importFile(aFile, aReport);
+
+		Assertions.assertEquals(new ImportSummary(5, 3, 2), actualSummary);
+		Assertions.assertEquals(
+				List.of("Animes", "Filmes", "Series"),
+				gateway.findAll(new CategorySearchQuery(0, 10, null, "name", "asc")).items().stream().map(Category::getName).toList()
+		);
+		final var reportLines = Files.readAllLines(aReport, StandardCharsets.UTF_8).stream().sorted().toList();
+		Assertions.assertEquals(3, reportLines.size());
+		Assertions.assertEquals("3,\"'name' should not be empty\"", reportLines.get(0));
+		Assertions.assertTrue(reportLines.get(1).startsWith("5,\""));
+		Assertions.assertEquals("line,error", reportLines.get(2));
+	}
+
+	@Test
+	public void givenManyCsvRows_whenCallsImportFile_shouldImportEveryRow(@TempDir final Path aDir) throws Exception {
+		final var aFile = aDir.resolve("categories.csv");
+		final var csv = new StringBuilder("name,description,is_active\n");
+		for (int i = 0; i < 1_000; i++) {
+			csv.append("Categoria ").append(i).append(",\"Descricao, ").append(i).append("\",true\n");
+		}
+		Files.writeString(aFile, csv, StandardCharsets.UTF_8);
+
+		final var actualSummary = importer.importFile(aFile, aDir.resolve("rejected.csv"));
+
+		Assertions.assertEquals(new ImportSummary(1_000, 1_000, 0), actualSummary);
+		Assertions.assertEquals(1_000, gateway.findAll(new CategorySearchQuery(0, 1, null, "name", "asc")).total());
+	}
+}
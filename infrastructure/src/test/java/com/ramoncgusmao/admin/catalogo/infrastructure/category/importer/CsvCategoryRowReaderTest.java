@@ -0,0 +1,63 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.importer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CsvCategoryRowReaderTest {
+
+	@Test
+	public void givenQuotedFields_whenCallsNext_shouldUnescapeQuotesAndKeepLineBreaks() throws IOException {
+		final var csv = "is_active,name,description\n"
+				+ "false,\"Filmes \"\"cult\"\"\",\"Longas\nmetragens, antigas\"\n"
+				+ ",Series,\n";
+
+		final var actualRows = readAll(csv);
+
+		Assertions.assertEquals(2, actualRows.size());
+		Assertions.assertEquals(2, actualRows.get(0).line());
+		Assertions.assertEquals("Filmes \"cult\"", actualRows.get(0).command().name());
+		Assertions.assertEquals("Longas\nmetragens, antigas", actualRows.get(0).command().description());
+		Assertions.assertFalse(actualRows.get(0).command().isActive());
+		Assertions.assertEquals(4, actualRows.get(1).line());
+		Assertions.assertEquals("Series", actualRows.get(1).command().name());
+		Assertions.assertTrue(actualRows.get(1).command().isActive());
+	}
+
+	@Test
+	public void givenMalformedRecords_whenCallsNext_shouldReportThemAndKeepReading() throws IOException {
+		final var csv = "name,is_active\r\nFilmes,talvez\r\n\r\n\"Series\"x,true\r\nAnimes,true\r\n";
+
+		final var actualRows = readAll(csv);
+
+		Assertions.assertEquals(3, actualRows.size());
+		Assertions.assertTrue(actualRows.get(0).isMalformed());
+		Assertions.assertEquals(2, actualRows.get(0).line());
+		Assertions.assertTrue(actualRows.get(1).isMalformed());
+		Assertions.assertEquals(4, actualRows.get(1).line());
+		Assertions.assertEquals("Animes", actualRows.get(2).command().name());
+		Assertions.assertEquals(5, actualRows.get(2).line());
+	}
+
+	@Test
+	public void givenAHeaderWithoutName_whenCallsNext_shouldThrowIOException() {
+		final var aReader = new CsvCategoryRowReader(new StringReader("description,is_active\nLongas,true\n"));
+
+		Assertions.assertThrows(IOException.class, aReader::next);
+	}
+
+	private static List<ImportRow> readAll(final String aCsv) throws IOException {
+		final var rows = new ArrayList<ImportRow>();
+		try (final var aReader = new CsvCategoryRowReader(new StringReader(aCsv))) {
+			ImportRow aRow;
+			while ((aRow = aReader.next()) != null) {
+				rows.add(aRow);
+			}
+		}
+		return rows;
+	}
+}
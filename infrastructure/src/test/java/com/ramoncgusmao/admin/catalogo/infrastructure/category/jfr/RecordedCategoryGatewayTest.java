@@ -0,0 +1,59 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.jfr;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategorySearchQuery;
+import com.ramoncgusmao.admin.catalogo.domain.exception.NotFoundException;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.CategoryInMemoryGateway;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+public class RecordedCategoryGatewayTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void givenARecording_whenCallsTheGateway_shouldCommitOneEventPerCall() throws IOException {
+		final var gateway = new RecordedCategoryGateway(new CategoryInMemoryGateway());
+		final var aCategory = Category.newCategory("Filmes", null, true);
+
+		final var events = record("catalogo.CategoryGateway", () -> {
+			gateway.create(aCategory);
+			gateway.findById(aCategory.getId());
+			gateway.findAll(new CategorySearchQuery(2, 5, "fil", "name", "desc"));
+			Assertions.assertThrows(NotFoundException.class, () -> gateway.update(Category.newCategory("Series", null, true)));
+		});
+
+		Assertions.assertEquals(List.of("create", "findById", "findAll", "update"), events.stream().map(e -> e.getString("operation")).toList());
+		Assertions.assertEquals(aCategory.getId().getValue(), events.get(1).getString("categoryId"));
+		Assertions.assertEquals(1, events.get(1).getInt("count"));
+		Assertions.assertEquals(2, events.get(2).getInt("page"));
+		Assertions.assertEquals("fil", events.get(2).getString("terms"));
+		Assertions.assertEquals("desc", events.get(2).getString("direction"));
+		Assertions.assertEquals(NotFoundException.class.getName(), events.get(3).getString("exception"));
+	}
+
+	private List<RecordedEvent> record(final String anEventName, final Runnable anAction) throws IOException {
+		final var aDump = this.directory.resolve("recording.jfr");
+		try (final var aRecording = new Recording()) {
+			aRecording.enable(anEventName).withoutThreshold();
+			aRecording.start();
+			anAction.run();
+			aRecording.stop();
+			aRecording.dump(aDump);
+		}
+		return RecordingFile.readAllEvents(aDump).stream()
+				.filter(anEvent -> anEvent.getEventType().getName().equals(anEventName))
+				.sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+				.toList();
+	}
+}
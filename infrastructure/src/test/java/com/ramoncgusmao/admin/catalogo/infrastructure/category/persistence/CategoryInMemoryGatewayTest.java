@@ -0,0 +1,265 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategorySearchQuery;
+import com.ramoncgusmao.admin.catalogo.domain.exception.DomainException;
+import com.ramoncgusmao.admin.catalogo.domain.exception.VersionConflictException;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.Cursor;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.CursorQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class CategoryInMemoryGatewayTest {
+
+	private final CategoryInMemoryGateway gateway = new CategoryInMemoryGateway();
+
+	@Test
+	public void givenAValidCategory_whenCallsCreate_shouldPersistACopy() {
+		final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+		gateway.create(aCategory);
+		aCategory.update("Outro nome", null, false);
+
+		final var actualCategory = gateway.findById(aCategory.getId()).orElseThrow();
+
+		Assertions.assertEquals(aCategory.getId(), actualCategory.getId());
+		Assertions.assertEquals("Filmes", actualCategory.getName());
+		Assertions.assertEquals("A categoria mais assistida", actualCategory.getDescription());
+		Assertions.assertTrue(actualCategory.isActive());
+	}
+
+	@Test
+	public void givenAnExistingCategory_whenCallsCreateAgain_shouldThrowDomainException() {
+		final var aCategory = Category.newCategory("Filmes", null, true);
+		gateway.create(aCategory);
+
+		final var actualException = Assertions.assertThrows(DomainException.class, () -> gateway.create(aCategory));
+
+		Assertions.assertEquals(
+				"Category with %s already exists".formatted(aCategory.getId().getValue()),
+				actualException.getErrors().get(0).message()
+		);
+	}
+
+	@Test
+	public void givenABatchWithADuplicateId_whenCallsCreateAll_shouldStoreNothing() {
+		final var existing = gateway.create(Category.newCategory("Filmes", null, true));
+		final var series = Category.newCategory("Series", null, true);
+		final var animes = Category.newCategory("Animes", null, true);
+
+		Assertions.assertThrows(DomainException.class, () -> gateway.createAll(List.of(series, animes, series.clone())));
+		final var actualException = Assertions.assertThrows(
+				DomainException.class,
+				() -> gateway.createAll(List.of(series, animes, existing))
+		);
+
+		Assertions.assertEquals(
+				"Category with %s already exists".formatted(existing.getId().getValue()),
+				actualException.getErrors().get(0).message()
+		);
+		Assertions.assertTrue(gateway.findById(series.getId()).isEmpty());
+		Assertions.assertTrue(gateway.findById(animes.getId()).isEmpty());
+		Assertions.assertEquals(List.of("Filmes"), names(gateway.findAll(new CategorySearchQuery(0, 10, null, "name", "asc")).items()));
+		Assertions.assertEquals(0, gateway.findAll(new CategorySearchQuery(0, 10, "series", "name", "asc")).total());
+
+		final var created = gateway.createAll(List.of(series, animes));
+
+		Assertions.assertEquals(List.of(series.getId(), animes.getId()), created.stream().map(Category::getId).toList());
+		Assertions.assertEquals(3, gateway.findAll(new CategorySearchQuery(0, 10, null, "name", "asc")).total());
+	}
+
+	@Test
+	public void givenAnUnknownCategory_whenCallsUpdate_shouldThrowNotFound() {
+		final var aCategory = Category.newCategory("Filmes", null, true);
+
+		final var actualException = Assertions.assertThrows(DomainException.class, () -> gateway.update(aCategory));
+
+		Assertions.assertEquals(
+				"Category with %s was not found".formatted(aCategory.getId().getValue()),
+				actualException.getErrors().get(0).message()
+		);
+	}
+
+	@Test
+	public void givenAStaleVersion_whenCallsUpdate_shouldThrowVersionConflict() {
+		final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+		final var updated = gateway.update(aCategory.clone().update("Filmes de acao", null, true));
+
+		final var actualException = Assertions.assertThrows(
+				VersionConflictException.class,
+				() -> gateway.update(aCategory.clone().update("Filmes de terror", null, true))
+		);
+
+		Assertions.assertEquals(0, aCategory.getVersion());
+		Assertions.assertEquals(1, updated.getVersion());
+		Assertions.assertEquals(
+				"Category with %s was modified concurrently: expected version 0 but was 1".formatted(aCategory.getId().getValue()),
+				actualException.getErrors().get(0).message()
+		);
+		Assertions.assertEquals("Filmes de acao", gateway.findById(aCategory.getId()).orElseThrow().getName());
+	}
+
+	@Test
+	public void givenAnExistingCategory_whenCallsDeleteById_shouldRemoveIt() {
+		final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+
+		Assertions.assertTrue(gateway.deleteById(aCategory.getId()));
+		Assertions.assertFalse(gateway.deleteById(CategoryID.from("unknown")));
+
+		Assertions.assertTrue(gateway.findById(aCategory.getId()).isEmpty());
+		Assertions.assertEquals(0, gateway.findAll(new CategorySearchQuery(0, 10, null, "name", "asc")).total());
+	}
+
+	@Test
+	public void givenAVersion_whenCallsDeleteById_shouldDeleteOnlyIfItIsStillCurrent() {
+		final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+		final var updated = gateway.update(aCategory.clone().update("Filmes de acao", null, true));
+
+		Assertions.assertThrows(VersionConflictException.class, () -> gateway.deleteById(aCategory.getId(), 0));
+		Assertions.assertTrue(gateway.findById(aCategory.getId()).isPresent());
+
+		Assertions.assertTrue(gateway.deleteById(aCategory.getId(), updated.getVersion()));
+		Assertions.assertFalse(gateway.deleteById(CategoryID.from("unknown"), 0));
+
+		Assertions.assertTrue(gateway.findById(aCategory.getId()).isEmpty());
+		Assertions.assertEquals(0, gateway.findAll(new CategorySearchQuery(0, 10, "acao", "name", "asc")).total());
+	}
+
+	@Test
+	public void givenCategories_whenCallsFindAllSortedByName_shouldReturnPagesInBothDirections() {
+		gateway.create(Category.newCategory("Documentarios", null, true));
+		gateway.create(Category.newCategory("Animes", null, true));
+		gateway.create(Category.newCategory("Filmes", null, true));
+		gateway.create(Category.newCategory("Series", null, true));
+
+		final var firstPage = gateway.findAll(new CategorySearchQuery(0, 3, "", "name", "asc"));
+		final var secondPage = gateway.findAll(new CategorySearchQuery(1, 3, "", "name", "asc"));
+		final var descending = gateway.findAll(new CategorySearchQuery(0, 2, "", "name", "desc"));
+
+		Assertions.assertEquals(4, firstPage.total());
+		Assertions.assertEquals(List.of("Animes", "Documentarios", "Filmes"), names(firstPage.items()));
+		Assertions.assertEquals(List.of("Series"), names(secondPage.items()));
+		Assertions.assertEquals(List.of("Series", "Filmes"), names(descending.items()));
+	}
+
+	@Test
+	public void givenAnUpdatedCategory_whenCallsFindAllSortedByUpdatedAt_shouldReflectNewPosition() {
+		final var first = gateway.create(Category.newCategory("Filmes", null, true));
+		gateway.create(Category.newCategory("Series", null, true));
+
+		gateway.update(first.update("Filmes de acao", null, true));
+
+		final var actualPage = gateway.findAll(new CategorySearchQuery(0, 10, null, "updatedAt", "desc"));
+		final var byName = gateway.findAll(new CategorySearchQuery(0, 10, null, "name", "asc"));
+
+		Assertions.assertEquals(List.of("Filmes de acao", "Series"), names(actualPage.items()));
+		Assertions.assertEquals(List.of("Filmes de acao", "Series"), names(byName.items()));
+		Assertions.assertEquals(2, byName.total());
+	}
+
+	@Test
+	public void givenTerms_whenCallsFindAll_shouldFilterByNameOrDescription() {
+		gateway.create(Category.newCategory("Filmes", "Longas metragens", true));
+		gateway.create(Category.newCategory("Series", "Episodios de filmes curtos", true));
+		gateway.create(Category.newCategory("Documentarios", null, true));
+
+		final var actualPage = gateway.findAll(new CategorySearchQuery(0, 1, "FILMES", "name", "asc"));
+
+		Assertions.assertEquals(2, actualPage.total());
+		Assertions.assertEquals(List.of("Filmes"), names(actualPage.items()));
+	}
+
+	@Test
+	public void givenManyMatches_whenCallsFindAllWithTerms_shouldReturnTheSamePagesAsAFullSort() {
+		final var expected = new ArrayList<String>();
+		for (int i = 0; i < TopKSelector.SEQUENTIAL_THRESHOLD + 500; i++) {
+			final var aName = "Filmes %05d".formatted((i * 7_919) % 10_000);
+			gateway.create(Category.newCategory(aName, null, true));
+			expected.add(aName);
+		}
+		gateway.create(Category.newCategory("Series", null, true));
+		expected.sort(Comparator.reverseOrder());
+
+		final var actualPage = gateway.findAll(new CategorySearchQuery(3, 25, "filmes", "name", "desc"));
+		final var firstCursorPage = gateway.findAll(new CursorQuery(null, 25, "filmes", "name", "desc"));
+		final var secondCursorPage = gateway.findAll(new CursorQuery(firstCursorPage.nextCursor(), 25, "filmes", "name", "desc"));
+
+		Assertions.assertEquals(expected.size(), actualPage.total());
+		Assertions.assertEquals(expected.subList(75, 100), names(actualPage.items()));
+		Assertions.assertEquals(expected.subList(25, 50), names(secondCursorPage.items()));
+	}
+
+	@Test
+	public void givenAnInvalidSort_whenCallsFindAll_shouldThrowDomainException() {
+		final var actualException = Assertions.assertThrows(
+				DomainException.class,
+				() -> gateway.findAll(new CategorySearchQuery(0, 10, null, "description", "asc"))
+		);
+
+		Assertions.assertEquals("Invalid sort field 'description'", actualException.getErrors().get(0).message());
+	}
+
+	@Test
+	public void givenCategories_whenCallsFindAllWithCursor_shouldWalkEveryPageOnce() {
+		final var expectedNames = List.of("Animes", "Documentarios", "Filmes", "Novelas", "Series");
+		expectedNames.forEach(aName -> gateway.create(Category.newCategory(aName, null, true)));
+
+		final var actualNames = new ArrayList<String>();
+		String cursor = null;
+		do {
+			final var aPage = gateway.findAll(new CursorQuery(cursor, 2, null, "name", "asc"));
+			actualNames.addAll(names(aPage.items()));
+			cursor = aPage.nextCursor();
+		} while (cursor != null);
+
+		Assertions.assertEquals(expectedNames, actualNames);
+	}
+
+	@Test
+	public void givenACursorAfterAnUpdate_whenCallsFindAllDescending_shouldContinueFromTheCursorKey() {
+		gateway.create(Category.newCategory("Animes", null, true));
+		final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+		gateway.create(Category.newCategory("Series", null, true));
+
+		final var firstPage = gateway.findAll(new CursorQuery(null, 1, null, "name", "desc"));
+		gateway.update(filmes.update("Zumbis", null, true));
+		final var secondPage = gateway.findAll(new CursorQuery(firstPage.nextCursor(), 5, null, "name", "desc"));
+
+		Assertions.assertEquals(List.of("Series"), names(firstPage.items()));
+		Assertions.assertEquals(List.of("Animes"), names(secondPage.items()));
+		Assertions.assertFalse(secondPage.hasNext());
+	}
+
+	@Test
+	public void givenTerms_whenCallsFindAllWithCursor_shouldPageOnlyMatches() {
+		gateway.create(Category.newCategory("Filmes de acao", null, true));
+		gateway.create(Category.newCategory("Filmes de terror", null, true));
+		gateway.create(Category.newCategory("Series", null, true));
+
+		final var firstPage = gateway.findAll(new CursorQuery(null, 1, "filmes", "name", "asc"));
+		final var secondPage = gateway.findAll(new CursorQuery(firstPage.nextCursor(), 1, "filmes", "name", "asc"));
+
+		Assertions.assertEquals(List.of("Filmes de acao"), names(firstPage.items()));
+		Assertions.assertEquals(List.of("Filmes de terror"), names(secondPage.items()));
+		Assertions.assertNull(secondPage.nextCursor());
+	}
+
+	@Test
+	public void givenACursorForAnotherSort_whenCallsFindAll_shouldThrowDomainException() {
+		final var aCursor = Cursor.of("Filmes", CategoryID.unique().getValue()).encode();
+
+		Assertions.assertThrows(
+				DomainException.class,
+				() -> gateway.findAll(new CursorQuery(aCursor, 10, null, "createdAt", "asc"))
+		);
+	}
+
+	private static List<String> names(final List<Category> categories) {
+		return categories.stream().map(Category::getName).toList();
+	}
+}
@@ -0,0 +1,106 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class CategoryTextIndexTest {
+
+	private final CategoryTextIndex index = new CategoryTextIndex();
+
+	@Test
+	public void givenIndexedCategories_whenSearchesByShortPrefix_shouldReturnMatchingIds() {
+		final var filmes = Category.newCategory("Filmes", null, true);
+		final var series = Category.newCategory("Series", "Temporadas completas", true);
+		index.add(filmes);
+		index.add(series);
+
+		Assertions.assertEquals(Set.of(filmes.getId()), index.search("fi"));
+		Assertions.assertEquals(Set.of(series.getId()), index.search("te"));
+	}
+
+	@Test
+	public void givenIndexedCategories_whenSearchesByInfix_shouldUseNGrams() {
+		final var documentarios = Category.newCategory("Document\u00e1rios", "Natureza e hist\u00f3ria", true);
+		index.add(documentarios);
+		index.add(Category.newCategory("Filmes", "Longas", true));
+
+		Assertions.assertEquals(Set.of(documentarios.getId()), index.search("MENTAR"));
+		Assertions.assertEquals(Set.of(documentarios.getId()), index.search("historia doc"));
+		Assertions.assertEquals(Set.of(), index.search("historia longas"));
+	}
+
+	@Test
+	public void givenQueryTokensOfAnyLength_whenSearches_shouldMatchPrefixesAndInfixesByLength() {
+		final var filmes = Category.newCategory("Filmes", null, true);
+		final var tv = Category.newCategory("Series de TV", null, true);
+		index.add(filmes);
+		index.add(tv);
+
+		Assertions.assertEquals(Set.of(filmes.getId()), index.search("ilm"));
+		Assertions.assertEquals(Set.of(filmes.getId()), index.search("fi"));
+		Assertions.assertEquals(Set.of(tv.getId()), index.search("t"));
+		Assertions.assertEquals(Set.of(tv.getId()), index.search("ries d"));
+		Assertions.assertEquals(Set.of(), index.search("lm"));
+		Assertions.assertEquals(Set.of(), index.search("es"));
+	}
+
+	@Test
+	public void givenCategoriesSharingATokenChangedConcurrently_whenSearches_shouldKeepEveryLinkedId() throws Exception {
+		final var executor = Executors.newFixedThreadPool(2);
+		try {
+			for (int i = 0; i < 500; i++) {
+				final var aRemoved = Category.newCategory("Filmes", null, true);
+				final var anAdded = Category.newCategory("Filmes", null, true);
+				final var anIndex = new CategoryTextIndex();
+				anIndex.add(aRemoved);
+
+				final var removal = CompletableFuture.runAsync(() -> anIndex.remove(aRemoved), executor);
+				final var addition = CompletableFuture.runAsync(() -> anIndex.add(anAdded), executor);
+				CompletableFuture.allOf(removal, addition).get(10, TimeUnit.SECONDS);
+
+				Assertions.assertEquals(Set.of(anAdded.getId()), anIndex.search("filmes"));
+				Assertions.assertEquals(Set.of(anAdded.getId()), anIndex.search("fi"));
+				Assertions.assertEquals(Set.of(anAdded.getId()), anIndex.search("ilm"));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void givenAnUpdatedCategory_whenSearchesOldTokens_shouldNotReturnIt() {
+		final var aCategory = Category.newCategory("Filmes", "Longas metragens", true);
+		index.add(aCategory);
+
+		index.add(aCategory.clone().update("Series", "Longas temporadas", true));
+
+		Assertions.assertEquals(Set.of(), index.search("filmes"));
+		Assertions.assertEquals(Set.of(), index.search("metragens"));
+		Assertions.assertEquals(Set.of(aCategory.getId()), index.search("temporadas"));
+		Assertions.assertEquals(Set.of(aCategory.getId()), index.search("longas"));
+	}
+
+	@Test
+	public void givenARemovedCategory_whenSearches_shouldNotReturnIt() {
+		final var aCategory = Category.newCategory("Filmes", null, true);
+		index.add(aCategory);
+
+		index.remove(aCategory);
+
+		Assertions.assertEquals(Set.of(), index.search("filmes"));
+		Assertions.assertEquals(Set.of(), index.search("fi"));
+	}
+
+	@Test
+	public void givenTermsWithoutTokens_whenSearches_shouldReturnEmpty() {
+		index.add(Category.newCategory("Filmes", null, true));
+
+		Assertions.assertEquals(Set.of(), index.search(" !! "));
+	}
+}
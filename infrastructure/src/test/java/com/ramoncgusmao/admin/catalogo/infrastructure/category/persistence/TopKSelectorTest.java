@@ -0,0 +1,51 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+public class TopKSelectorTest {
+
+	@Test
+	public void givenFewCandidates_whenSelects_shouldReturnTheFirstKInOrderAndCountMatches() {
+		final var candidates = List.of(9, 4, 7, 1, 8, 3, 6);
+
+		final var aSelection = TopKSelector.select(candidates, i -> i % 2 == 0 ? null : i, 2, Comparator.<Integer>naturalOrder());
+
+		Assertions.assertEquals(List.of(1, 3), aSelection.top());
+		Assertions.assertEquals(4, aSelection.matched());
+	}
+
+	@Test
+	public void givenKZeroOrLargerThanTheMatches_whenSelects_shouldReturnNothingOrEverythingSorted() {
+		final var candidates = List.of(3, 1, 2);
+
+		Assertions.assertEquals(List.of(), TopKSelector.select(candidates, Function.identity(), 0, Comparator.<Integer>naturalOrder()).top());
+		Assertions.assertEquals(3, TopKSelector.select(candidates, Function.identity(), 0, Comparator.<Integer>naturalOrder()).matched());
+		Assertions.assertEquals(List.of(3, 2, 1), TopKSelector.select(candidates, Function.identity(), 10, Comparator.<Integer>reverseOrder()).top());
+	}
+
+	@Test
+	public void givenManyCandidates_whenSelectsInParallel_shouldMatchAFullSort() {
+		final var random = new Random(42);
+		final var candidates = new ArrayList<Integer>();
+		for (int i = 0; i < TopKSelector.SEQUENTIAL_THRESHOLD * 10 + 17; i++) {
+			candidates.add(random.nextInt(1_000));
+		}
+		final Comparator<Integer> order = Comparator.reverseOrder();
+		final Function<Integer, Integer> onlyMultiplesOfThree = i -> i % 3 == 0 ? i : null;
+		final var expected = candidates.stream().map(onlyMultiplesOfThree).filter(i -> i != null).sorted(order).toList();
+
+		for (final var k : new int[]{1, 37, 1_000, expected.size() + 5}) {
+			final var aSelection = TopKSelector.select(candidates, onlyMultiplesOfThree, k, order);
+
+			Assertions.assertEquals(expected.subList(0, Math.min(k, expected.size())), aSelection.top());
+			Assertions.assertEquals(expected.size(), aSelection.matched());
+		}
+	}
+}
@@ -0,0 +1,271 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategorySearchQuery;
+import com.ramoncgusmao.admin.catalogo.domain.exception.DomainException;
+import com.ramoncgusmao.admin.catalogo.domain.exception.VersionConflictException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class CategoryLogGatewayTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void givenWrites_whenReopens_shouldReplayTheLatestState() {
+		final Category filmes;
+		final Category series;
+		try (final var gateway = new CategoryLogGateway(options())) {
+			filmes = gateway.create(Category.newCategory("Filmes", "Longas", true));
+			series = gateway.create(Category.newCategory("Series", null, true));
+			gateway.update(filmes.clone().update("Filmes de acao", null, false));
+			gateway.deleteById(series.getId());
+		}
+
+		try (final var gateway = new CategoryLogGateway(options())) {
+			final var actualCategory = gateway.findById(filmes.getId()).orElseThrow();
+
+			Assertions.assertEquals("Filmes de acao", actualCategory.getName());
+			Assertions.assertNull(actualCategory.getDescription());
+			Assertions.assertFalse(actualCategory.isActive());
+			Assertions.assertEquals(filmes.getCreatedAt(), actualCategory.getCreatedAt());
+			Assertions.assertNotNull(actualCategory.getDeletedAt());
+			Assertions.assertTrue(gateway.findById(series.getId()).isEmpty());
+			Assertions.assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, "acao", "name", "asc")).total());
+		}
+	}
+
+	@Test
+	public void givenAStaleVersion_whenCallsUpdate_shouldRejectItAndKeepTheStoredVersionAcrossRestarts() {
+		final Category filmes;
+		try (final var gateway = new CategoryLogGateway(options())) {
+			filmes = gateway.create(Category.newCategory("Filmes", null, true));
+			final var updated = gateway.update(filmes.clone().update("Filmes de acao", null, true));
+
+			Assertions.assertEquals(1, updated.getVersion());
+			Assertions.assertThrows(
+					VersionConflictException.class,
+					() -> gateway.update(filmes.clone().update("Filmes de terror", null, true))
+			);
+		}
+
+		try (final var gateway = new CategoryLogGateway(options())) {
+			final var actualCategory = gateway.findById(filmes.getId()).orElseThrow();
+
+			Assertions.assertEquals("Filmes de acao", actualCategory.getName());
+			Assertions.assertEquals(1, actualCategory.getVersion());
+			Assertions.assertEquals(2, gateway.update(actualCategory.update("Filmes", null, true)).getVersion());
+		}
+	}
+
+	@Test
+	public void givenAVersionedDelete_whenReopens_shouldHonorOnlyTheCurrentVersion() {
+		final Category filmes;
+		try (final var gateway = new CategoryLogGateway(options())) {
+			filmes = gateway.create(Category.newCategory("Filmes", null, true));
+			final var updated = gateway.update(filmes.clone().deactivate());
+
+			Assertions.assertThrows(VersionConflictException.class, () -> gateway.deleteById(filmes.getId(), 0));
+			Assertions.assertTrue(gateway.findById(filmes.getId()).isPresent());
+			gateway.deleteById(filmes.getId(), updated.getVersion());
+			gateway.deleteById(filmes.getId(), updated.getVersion());
+		}
+
+		try (final var gateway = new CategoryLogGateway(options())) {
+			Assertions.assertTrue(gateway.findById(filmes.getId()).isEmpty());
+		}
+	}
+
+	@Test
+	public void givenATornLastRecord_whenReopens_shouldDropOnlyTheTornTail() throws IOException {
+		final Category filmes;
+		final Category series;
+		try (final var gateway = new CategoryLogGateway(options())) {
+			filmes = gateway.create(Category.newCategory("Filmes", null, true));
+			series = gateway.create(Category.newCategory("Series", null, true));
+		}
+		final var aSegment = LogSegment.pathOf(directory, 1);
+		try (final var aChannel = FileChannel.open(aSegment, StandardOpenOption.WRITE)) {
+			aChannel.truncate(aChannel.size() - 3);
+		}
+
+		try (final var gateway = new CategoryLogGateway(options())) {
+			Assertions.assertTrue(gateway.findById(filmes.getId()).isPresent());
+			Assertions.assertTrue(gateway.findById(series.getId()).isEmpty());
+
+			gateway.create(Category.newCategory("Animes", null, true));
+		}
+		try (final var gateway = new CategoryLogGateway(options())) {
+			Assertions.assertEquals(2, gateway.findAll(new CategorySearchQuery(0, 10, null, "name", "asc")).total());
+		}
+	}
+
+	@Test
+	public void givenACorruptedSealedSegment_whenReopens_shouldFail() throws IOException {
+		try (final var gateway = new CategoryLogGateway(options().withMaxSegmentBytes(64))) {
+			gateway.create(Category.newCategory("Filmes", null, true));
+			gateway.create(Category.newCategory("Series", null, true));
+		}
+		try (final var aChannel = FileChannel.open(LogSegment.pathOf(directory, 1), StandardOpenOption.WRITE)) {
+			aChannel.truncate(aChannel.size() - 1);
+		}
+
+		Assertions.assertThrows(IllegalStateException.class, () -> new CategoryLogGateway(options()));
+	}
+
+	@Test
+	public void givenSupersededRecords_whenCompacts_shouldKeepStateAndShrinkTheLog() throws IOException {
+		final var compactable = options().withMaxSegmentBytes(256).withCompaction(Duration.ZERO, 2);
+		final Category filmes;
+		final Category series;
+		try (final var gateway = new CategoryLogGateway(compactable)) {
+			filmes = gateway.create(Category.newCategory("Filmes", null, true));
+			series = gateway.create(Category.newCategory("Series", null, true));
+			var current = filmes;
+			for (int i = 0; i < 20; i++) {
+				current = gateway.update(current.clone().update("Filmes " + i, null, true));
+			}
+			gateway.deleteById(series.getId());
+			gateway.create(Category.newCategory("Animes", null, true));
+
+			final var sizeBefore = directorySize();
+			gateway.compact();
+
+			Assertions.assertTrue(directorySize() < sizeBefore);
+			Assertions.assertEquals("Filmes 19", gateway.findById(filmes.getId()).orElseThrow().getName());
+			gateway.update(current.clone().update("Filmes atualizados", null, true));
+		}
+
+		try (final var gateway = new CategoryLogGateway(compactable)) {
+			Assertions.assertEquals("Filmes atualizados", gateway.findById(filmes.getId()).orElseThrow().getName());
+			Assertions.assertTrue(gateway.findById(series.getId()).isEmpty());
+			Assertions.assertEquals(2, gateway.findAll(new CategorySearchQuery(0, 10, null, "name", "asc")).total());
+		}
+	}
+
+	@Test
+	public void givenABatch_whenCallsCreateAll_shouldPersistEveryCategory() {
+		final var categories = List.of(
+				Category.newCategory("Filmes", null, true),
+				Category.newCategory("Series", null, true)
+		);
+		try (final var gateway = new CategoryLogGateway(options().withFsync(FsyncPolicy.ALWAYS, Duration.ZERO))) {
+			gateway.createAll(categories);
+
+			Assertions.assertThrows(DomainException.class, () -> gateway.createAll(List.of(categories.get(0))));
+		}
+
+		try (final var gateway = new CategoryLogGateway(options())) {
+			Assertions.assertEquals(2, gateway.findAll(new CategorySearchQuery(0, 10, null, "name", "asc")).total());
+		}
+	}
+
+	@Test
+	public void givenConcurrentWritersWithGroupCommit_whenReopens_shouldPersistEveryWrite() throws Exception {
+		final var writers = 8;
+		final var perWriter = 25;
+		final var executor = Executors.newFixedThreadPool(writers);
+		try (final var gateway = new CategoryLogGateway(options().withGroupCommit(writers, Duration.ofMillis(1)))) {
+			final var futures = new ArrayList<CompletableFuture<Void>>();
+			for (int w = 0; w < writers; w++) {
+				final var aWriter = w;
+				futures.add(CompletableFuture.runAsync(() -> {
+					for (int i = 0; i < perWriter; i++) {
+						final var created = gateway.create(Category.newCategory("Categoria %d-%d".formatted(aWriter, i), null, true));
+						gateway.update(created.clone().update("Categoria %d-%d atualizada".formatted(aWriter, i), null, true));
+					}
+				}, executor));
+			}
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdown();
+		}
+
+		try (final var gateway = new CategoryLogGateway(options())) {
+			Assertions.assertEquals(writers * perWriter, gateway.findAll(new CategorySearchQuery(0, 1, "atualizada", "name", "asc")).total());
+		}
+	}
+
+	@Test
+	public void givenASnapshot_whenReopens_shouldLoadItAndReplayOnlyTheTail() {
+		final Category filmes;
+		final Category series;
+		try (final var gateway = new CategoryLogGateway(options())) {
+			filmes = gateway.create(Category.newCategory("Filmes", "Longas", true));
+			series = gateway.create(Category.newCategory("Series", null, true));
+			gateway.snapshot();
+
+			Assertions.assertTrue(Files.exists(CategorySnapshot.pathOf(directory, 2)));
+			Assertions.assertFalse(Files.exists(LogSegment.pathOf(directory, 1)));
+
+			gateway.update(filmes.clone().update("Filmes de acao", "Longas", true));
+			gateway.deleteById(series.getId());
+		}
+
+		try (final var gateway = new CategoryLogGateway(options())) {
+			Assertions.assertEquals("Filmes de acao", gateway.findById(filmes.getId()).orElseThrow().getName());
+			Assertions.assertTrue(gateway.findById(series.getId()).isEmpty());
+			Assertions.assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, "longas", "name", "asc")).total());
+		}
+	}
+
+	@Test
+	public void givenADeleteAfterASnapshot_whenCompactsAndReopens_shouldNotResurrectTheCategory() {
+		final var compactable = options().withMaxSegmentBytes(128).withCompaction(Duration.ZERO, 2);
+		final Category filmes;
+		try (final var gateway = new CategoryLogGateway(compactable)) {
+			filmes = gateway.create(Category.newCategory("Filmes", null, true));
+			gateway.snapshot();
+			gateway.deleteById(filmes.getId());
+			for (int i = 0; i < 10; i++) {
+				gateway.create(Category.newCategory("Series " + i, null, true));
+			}
+			gateway.compact();
+		}
+
+		try (final var gateway = new CategoryLogGateway(compactable)) {
+			Assertions.assertTrue(gateway.findById(filmes.getId()).isEmpty());
+			Assertions.assertEquals(10, gateway.findAll(new CategorySearchQuery(0, 20, null, "name", "asc")).total());
+		}
+	}
+
+	@Test
+	public void givenACorruptedSnapshot_whenReopens_shouldFail() throws IOException {
+		try (final var gateway = new CategoryLogGateway(options())) {
+			gateway.create(Category.newCategory("Filmes", null, true));
+			gateway.snapshot();
+		}
+		final var aSnapshot = CategorySnapshot.pathOf(directory, 2);
+		final var bytes = Files.readAllBytes(aSnapshot);
+		bytes[bytes.length / 2] ^= 0x5A;
+		Files.write(aSnapshot, bytes);
+
+		Assertions.assertThrows(IllegalStateException.class, () -> new CategoryLogGateway(options()));
+	}
+
+	private CategoryLogOptions options() {
+		return CategoryLogOptions.with(directory)
+				.withCompaction(Duration.ZERO, 4)
+				.withSnapshotInterval(Duration.ZERO);
+	}
+
+	private long directorySize() throws IOException {
+		try (final var files = Files.list(directory)) {
+			return files.mapToLong(aFile -> aFile.toFile().length()).sum();
+		}
+	}
+}
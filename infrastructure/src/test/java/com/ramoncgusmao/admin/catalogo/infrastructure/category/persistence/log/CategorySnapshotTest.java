@@ -0,0 +1,99 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CategorySnapshotTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void givenCategories_whenWritesAndLoadsASnapshot_shouldRestoreEveryField() throws IOException {
+		final var now = Instant.parse("2022-03-01T10:15:30.123456789Z");
+		final var expected = List.of(
+				Category.newCategory("Documentários", "Natureza e história", true),
+				Category.with(CategoryID.from("legacy-id"), "Filmes", null, false, now, now.plusSeconds(1), now.plusSeconds(2), 7)
+		);
+
+		final Path aFile;
+		try (final var aSnapshot = CategorySnapshot.create(directory, 7)) {
+			for (final var aCategory : expected) {
+				aSnapshot.append(aCategory);
+			}
+			aFile = aSnapshot.commit();
+		}
+
+		final var actual = new ArrayList<Category>();
+		final var actualBoundary = CategorySnapshot.load(aFile, actual::add);
+
+		Assertions.assertEquals(7, actualBoundary);
+		Assertions.assertEquals(aFile, CategorySnapshot.latest(directory).orElseThrow());
+		Assertions.assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			final var expectedCategory = expected.get(i);
+			final var actualCategory = actual.get(i);
+			Assertions.assertEquals(expectedCategory.getId(), actualCategory.getId());
+			Assertions.assertEquals(expectedCategory.getName(), actualCategory.getName());
+			Assertions.assertEquals(expectedCategory.getDescription(), actualCategory.getDescription());
+			Assertions.assertEquals(expectedCategory.isActive(), actualCategory.isActive());
+			Assertions.assertEquals(expectedCategory.getCreatedAt(), actualCategory.getCreatedAt());
+			Assertions.assertEquals(expectedCategory.getUpdatedAt(), actualCategory.getUpdatedAt());
+			Assertions.assertEquals(expectedCategory.getDeletedAt(), actualCategory.getDeletedAt());
+			Assertions.assertEquals(expectedCategory.getVersion(), actualCategory.getVersion());
+		}
+	}
+
+	@Test
+	public void givenACategoryWithoutInstants_whenWritesAndLoadsASnapshot_shouldRestoreThemAsNull() throws IOException {
+		final var now = Instant.now();
+		final var expected = List.of(
+				Category.with(CategoryID.unique(), "Filmes", null, true, null, null, null),
+				Category.with(CategoryID.from("legacy-id"), "S\u00e9ries", null, false, now, null, now),
+				Category.with(CategoryID.unique(), "Document\u00e1rios", null, true, null, now, null)
+		);
+
+		final Path aFile;
+		try (final var aSnapshot = CategorySnapshot.create(directory, 2)) {
+			for (final var aCategory : expected) {
+				aSnapshot.append(aCategory);
+			}
+			aFile = aSnapshot.commit();
+		}
+
+		final var actual = new ArrayList<Category>();
+		CategorySnapshot.load(aFile, actual::add);
+
+		Assertions.assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			Assertions.assertEquals(expected.get(i).getId(), actual.get(i).getId());
+			Assertions.assertEquals(expected.get(i).getName(), actual.get(i).getName());
+			Assertions.assertEquals(expected.get(i).getCreatedAt(), actual.get(i).getCreatedAt());
+			Assertions.assertEquals(expected.get(i).getUpdatedAt(), actual.get(i).getUpdatedAt());
+			Assertions.assertEquals(expected.get(i).getDeletedAt(), actual.get(i).getDeletedAt());
+		}
+	}
+
+	@Test
+	public void givenAnInterruptedSnapshot_whenLooksForTheLatest_shouldIgnoreAndRemoveIt() throws IOException {
+		try (final var aSnapshot = CategorySnapshot.create(directory, 3)) {
+			aSnapshot.append(Category.newCategory("Filmes", null, true));
+			aSnapshot.commit();
+		}
+		final var leftover = directory.resolve(CategorySnapshot.pathOf(directory, 4).getFileName() + ".tmp");
+		Files.write(leftover, new byte[]{1, 2, 3});
+
+		Assertions.assertEquals(CategorySnapshot.pathOf(directory, 3), CategorySnapshot.latest(directory).orElseThrow());
+		Assertions.assertFalse(Files.exists(leftover));
+	}
+}
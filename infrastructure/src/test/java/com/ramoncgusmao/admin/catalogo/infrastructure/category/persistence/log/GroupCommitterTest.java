@@ -0,0 +1,70 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.log;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GroupCommitterTest {
+
+	@Test
+	public void givenConcurrentWriters_whenAwaitDurable_shouldShareForces() throws Exception {
+		final var writers = 16;
+		final var forces = new AtomicInteger();
+		final var committer = new GroupCommitter(forces::incrementAndGet, writers, Duration.ofSeconds(5));
+		final var ready = new CountDownLatch(writers);
+		final var executor = Executors.newFixedThreadPool(writers);
+		try {
+			final var futures = new ArrayList<CompletableFuture<Void>>();
+			for (int i = 0; i < writers; i++) {
+				futures.add(CompletableFuture.runAsync(() -> {
+					ready.countDown();
+					final var aTicket = committer.register();
+					try {
+						committer.awaitDurable(aTicket);
+					} catch (final IOException ex) {
+						throw new IllegalStateException(ex);
+					}
+				}, executor));
+			}
+
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdown();
+		}
+
+		Assertions.assertTrue(forces.get() < writers, "expected shared forces but got " + forces.get());
+	}
+
+	@Test
+	public void givenALoneWriter_whenAwaitDurable_shouldReturnAfterTheLinger() throws IOException {
+		final var forces = new AtomicInteger();
+		final var committer = new GroupCommitter(forces::incrementAndGet, 64, Duration.ofMillis(1));
+
+		committer.awaitDurable(committer.register());
+		committer.awaitDurable(committer.register());
+
+		Assertions.assertEquals(2, forces.get());
+	}
+
+	@Test
+	public void givenAFailedForce_whenAwaitDurable_shouldFailEveryLaterWaiter() {
+		final var expectedException = new IOException("disk gone");
+		final var committer = new GroupCommitter(() -> {
+			throw expectedException;
+		}, 1, Duration.ZERO);
+
+		final var first = committer.register();
+		Assertions.assertSame(expectedException, Assertions.assertThrows(IOException.class, () -> committer.awaitDurable(first)));
+
+		final var second = committer.register();
+		Assertions.assertSame(expectedException, Assertions.assertThrows(IOException.class, () -> committer.awaitDurable(second)));
+	}
+}
@@ -0,0 +1,95 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.category.purge;
+
+import com.ramoncgusmao.admin.catalogo.application.category.purge.DefaultPurgeDeletedCategoriesUseCase;
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategorySearchQuery;
+import com.ramoncgusmao.admin.catalogo.infrastructure.category.persistence.CategoryInMemoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class CategoryPurgeJobTest {
+
+	private static final Duration RETENTION = Duration.ofDays(30);
+
+	private final CategoryInMemoryGateway gateway = new CategoryInMemoryGateway();
+
+	@Test
+	public void givenDeletedCategories_whenRunsAFullSweep_shouldPurgeOnlyThoseOlderThanTheRetention() {
+		final var expected = new HashSet<String>();
+		for (int i = 0; i < 25; i++) {
+			final var aCategory = gateway.create(Category.newCategory("Categoria " + i, null, true));
+			if (i % 3 == 0) {
+				gateway.update(aCategory.clone().deactivate());
+			} else {
+				expected.add(aCategory.getName());
+			}
+		}
+		final var aJob = jobAt(Instant.now().plus(RETENTION).plusSeconds(60));
+
+		var batches = 0;
+		while (!aJob.runBatch().isSweepComplete()) {
+			batches++;
+		}
+
+		Assertions.assertEquals(2, batches);
+		Assertions.assertEquals(1, aJob.getSweeps());
+		Assertions.assertEquals(3, aJob.getBatches());
+		Assertions.assertEquals(25, aJob.getScanned());
+		Assertions.assertEquals(9, aJob.getPurged());
+		Assertions.assertEquals(0, aJob.getConflicts());
+		Assertions.assertNotNull(aJob.getLastSweepCompletedAt());
+		Assertions.assertEquals(expected, new HashSet<>(names()));
+	}
+
+	@Test
+	public void givenCategoriesDeletedWithinTheRetention_whenRuns_shouldKeepThem() {
+		final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+		gateway.update(aCategory.clone().deactivate());
+		final var aJob = jobAt(Instant.now().plus(RETENTION).minusSeconds(60));
+
+		final var anOutput = aJob.runBatch();
+
+		Assertions.assertTrue(anOutput.isSweepComplete());
+		Assertions.assertEquals(0, anOutput.purged());
+		Assertions.assertTrue(gateway.findById(aCategory.getId()).isPresent());
+	}
+
+	@Test
+	public void givenAStartedJob_whenTheScheduleRuns_shouldPurgeInTheBackgroundAndExposeMetrics() throws Exception {
+		final var aCategory = gateway.create(Category.newCategory("Filmes", null, true));
+		gateway.update(aCategory.clone().deactivate());
+		final var aServer = MBeanServerFactory.newMBeanServer();
+
+		try (final var aJob = jobAt(Instant.now().plus(RETENTION).plusSeconds(60)).registerWith(aServer).start(Duration.ZERO)) {
+			final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (aJob.getPurged() == 0 && System.nanoTime() - deadline < 0) {
+				Thread.sleep(10);
+			}
+
+			Assertions.assertTrue(gateway.findById(aCategory.getId()).isEmpty());
+			Assertions.assertEquals(1L, aServer.getAttribute(new ObjectName(CategoryPurgeJob.OBJECT_NAME), "Purged"));
+		}
+	}
+
+	private CategoryPurgeJob jobAt(final Instant aNow) {
+		return new CategoryPurgeJob(
+				new DefaultPurgeDeletedCategoriesUseCase(gateway),
+				CategoryPurgeOptions.with(RETENTION).withBatches(10, Duration.ofMillis(1)),
+				Clock.fixed(aNow, ZoneOffset.UTC)
+		);
+	}
+
+	private List<String> names() {
+		return gateway.findAll(new CategorySearchQuery(0, 100, null, "name", "asc")).items().stream().map(Category::getName).toList();
+	}
+}
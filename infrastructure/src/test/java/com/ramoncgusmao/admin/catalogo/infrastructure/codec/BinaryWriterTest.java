@@ -0,0 +1,96 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.codec;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+public class BinaryWriterTest {
+
+	@Test
+	public void givenBoundaryNumbers_whenWritesVarints_shouldUseMinimalBytesAndReadThemBack() {
+		final var aWriter = new BinaryWriter(16);
+		final int[] ints = {0, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, -1};
+		final long[] longs = {0, Long.MAX_VALUE, Long.MIN_VALUE, -1};
+
+		aWriter.writeVarInt(127);
+		Assertions.assertEquals(1, aWriter.size());
+		aWriter.reset().writeVarInt(128);
+		Assertions.assertEquals(2, aWriter.size());
+
+		aWriter.reset();
+		Arrays.stream(ints).forEach(aWriter::writeVarInt);
+		Arrays.stream(longs).forEach(aWriter::writeVarLong);
+		Arrays.stream(longs).forEach(aWriter::writeZigZagLong);
+
+		final var aReader = new BinaryReader(aWriter.buffer());
+		for (final var expected : ints) {
+			Assertions.assertEquals(expected, aReader.readVarInt());
+		}
+		for (final var expected : longs) {
+			Assertions.assertEquals(expected, aReader.readVarLong());
+		}
+		for (final var expected : longs) {
+			Assertions.assertEquals(expected, aReader.readZigZagLong());
+		}
+		Assertions.assertFalse(aReader.hasRemaining());
+	}
+
+	@Test
+	public void givenStrings_whenWritesThem_shouldMatchTheJdkUtf8Encoding() {
+		final var aWriter = new BinaryWriter(16);
+
+		for (final var aValue : new String[]{"", "Filmes", "Documentários", "日本のアニメ", "🎬 Séries"}) {
+			final var expected = aValue.getBytes(StandardCharsets.UTF_8);
+			aWriter.reset().writeString(aValue);
+
+			final var aBuffer = aWriter.buffer();
+			final var aReader = new BinaryReader(aBuffer.duplicate());
+			Assertions.assertEquals(expected.length + 1, aReader.readVarInt());
+			Assertions.assertArrayEquals(expected, Arrays.copyOfRange(aWriter.toByteArray(), aWriter.size() - expected.length, aWriter.size()));
+			Assertions.assertEquals(aValue, new BinaryReader(aBuffer).readString());
+		}
+	}
+
+	@Test
+	public void givenStringsWithLoneSurrogates_whenWritesThem_shouldReplaceEachWithAQuestionMark() {
+		final var aWriter = new BinaryWriter(16);
+		final var values = new String[]{"\uD800", "ab\uD8FF", "\uDC00x", "\uD83C\u00e9", "x\uDE00\uD83C"};
+		final var expected = new String[]{"?", "ab?", "?x", "?\u00e9", "x??"};
+
+		for (int i = 0; i < values.length; i++) {
+			aWriter.reset().writeString(values[i]);
+
+			Assertions.assertArrayEquals(values[i].getBytes(StandardCharsets.UTF_8), Arrays.copyOfRange(aWriter.toByteArray(), 1, aWriter.size()));
+			Assertions.assertEquals(expected[i], new BinaryReader(aWriter.buffer()).readString());
+		}
+	}
+
+	@Test
+	public void givenNullsAndInstantsBeforeTheEpoch_whenWrites_shouldReadThemBack() {
+		final var anInstant = Instant.parse("1969-07-20T20:17:40.000000001Z");
+		final var aWriter = new BinaryWriter()
+				.writeString(null)
+				.writeInstant(null)
+				.writeInstant(anInstant)
+				.writeInstant(Instant.EPOCH);
+
+		final var aReader = new BinaryReader(aWriter.buffer());
+
+		Assertions.assertNull(aReader.readString());
+		Assertions.assertNull(aReader.readInstant());
+		Assertions.assertEquals(anInstant, aReader.readInstant());
+		Assertions.assertEquals(Instant.EPOCH, aReader.readInstant());
+	}
+
+	@Test
+	public void givenATruncatedString_whenReads_shouldThrowCodecException() {
+		final var aBuffer = new BinaryWriter().writeString("Filmes").buffer();
+
+		final var aReader = new BinaryReader(aBuffer.limit(aBuffer.limit() - 1));
+
+		Assertions.assertThrows(CodecException.class, aReader::readString);
+	}
+}
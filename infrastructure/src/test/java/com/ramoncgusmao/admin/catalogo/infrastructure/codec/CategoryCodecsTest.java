@@ -0,0 +1,99 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.codec;
+
+import com.ramoncgusmao.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.ramoncgusmao.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.category.CategoryID;
+import com.ramoncgusmao.admin.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+
+public class CategoryCodecsTest {
+
+	private final BinaryWriter writer = new BinaryWriter();
+
+	@Test
+	public void givenACategory_whenEncodesAndDecodes_shouldKeepEveryField() {
+		final var aCategory = Category.with(
+				CategoryID.from("legacy-id"),
+				"Documentários",
+				null,
+				false,
+				Instant.parse("2024-01-01T10:00:00.123456789Z"),
+				Instant.parse("2024-01-02T10:00:00Z"),
+				Instant.parse("2024-01-03T10:00:00Z"),
+				42
+		);
+
+		final var actualCategory = CategoryCodecs.CATEGORY.decode(CategoryCodecs.CATEGORY.encode(aCategory, writer));
+
+		Assertions.assertEquals(aCategory.getId(), actualCategory.getId());
+		Assertions.assertEquals("Documentários", actualCategory.getName());
+		Assertions.assertNull(actualCategory.getDescription());
+		Assertions.assertFalse(actualCategory.isActive());
+		Assertions.assertEquals(aCategory.getCreatedAt(), actualCategory.getCreatedAt());
+		Assertions.assertEquals(aCategory.getUpdatedAt(), actualCategory.getUpdatedAt());
+		Assertions.assertEquals(aCategory.getDeletedAt(), actualCategory.getDeletedAt());
+		Assertions.assertEquals(42, actualCategory.getVersion());
+	}
+
+	@Test
+	public void givenAUuidId_whenEncodes_shouldTakeSeventeenBytes() {
+		final var anId = CategoryID.unique();
+
+		final var encoded = CategoryCodecs.CATEGORY_ID.encode(anId, writer);
+
+		Assertions.assertEquals(17, encoded.remaining());
+		Assertions.assertEquals(anId, CategoryCodecs.CATEGORY_ID.decode(encoded));
+	}
+
+	@Test
+	public void givenCommands_whenEncodesAndDecodes_shouldReturnEqualRecords() {
+		final var aCreate = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true, "8f0c2c1e-retry");
+		final var anUpdate = UpdateCategoryCommand.with(CategoryID.unique().getValue(), "Séries", null, false);
+
+		Assertions.assertEquals(aCreate, CategoryCodecs.CREATE_CATEGORY_COMMAND.decode(CategoryCodecs.CREATE_CATEGORY_COMMAND.encode(aCreate, writer)));
+		Assertions.assertEquals(anUpdate, CategoryCodecs.UPDATE_CATEGORY_COMMAND.decode(CategoryCodecs.UPDATE_CATEGORY_COMMAND.encode(anUpdate, writer)));
+	}
+
+	@Test
+	public void givenACreateCommandWithoutIdempotencyKey_whenEncodesAndDecodes_shouldKeepItNull() {
+		final var aCommand = CreateCategoryCommand.with("Filmes", null, true);
+
+		final var actualCommand = CategoryCodecs.CREATE_CATEGORY_COMMAND.decode(CategoryCodecs.CREATE_CATEGORY_COMMAND.encode(aCommand, writer));
+
+		Assertions.assertEquals(CreateCategoryCommand.with("Filmes", null, true), actualCommand);
+		Assertions.assertNull(actualCommand.idempotencyKey());
+	}
+
+	@Test
+	public void givenAPage_whenEncodesAndDecodes_shouldKeepMetadataAndItems() {
+		final var codec = CategoryCodecs.pagination(CategoryCodecs.CATEGORY);
+		final var aPage = new Pagination<>(2, 10, 1_000_000_000_000L, List.of(
+				Category.newCategory("Filmes", null, true),
+				Category.newCategory("Séries", "Temporadas", true)
+		));
+
+		final var actualPage = codec.decode(codec.encode(aPage, writer));
+
+		Assertions.assertEquals(2, actualPage.currentPage());
+		Assertions.assertEquals(10, actualPage.perPage());
+		Assertions.assertEquals(1_000_000_000_000L, actualPage.total());
+		Assertions.assertEquals(List.of("Filmes", "Séries"), actualPage.items().stream().map(Category::getName).toList());
+		Assertions.assertEquals(aPage.items().get(1).getId(), actualPage.items().get(1).getId());
+	}
+
+	@Test
+	public void givenAnUnknownVersion_whenDecodes_shouldThrowCodecException() {
+		final var actualException = Assertions.assertThrows(
+				CodecException.class,
+				() -> CategoryCodecs.CATEGORY.decode(ByteBuffer.wrap(new byte[]{9}))
+		);
+
+		Assertions.assertEquals("Unsupported category format version 9", actualException.getMessage());
+	}
+}
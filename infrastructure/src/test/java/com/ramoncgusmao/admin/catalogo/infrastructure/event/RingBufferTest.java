@@ -0,0 +1,118 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.event;
+
+import com.ramoncgusmao.admin.catalogo.domain.category.Category;
+import com.ramoncgusmao.admin.catalogo.domain.event.DomainEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class RingBufferTest {
+
+	@Test
+	public void givenACapacityThatIsNotAPowerOfTwo_whenCreates_shouldThrow() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new RingBuffer<String>(6));
+	}
+
+	@Test
+	public void givenNoSubscribers_whenPublishesMoreThanTheCapacity_shouldNeverBlock() {
+		final var ring = new RingBuffer<Integer>(4);
+
+		for (int i = 0; i < 10; i++) {
+			Assertions.assertEquals(i, ring.tryPublish(i));
+		}
+		Assertions.assertEquals(9, ring.get(9));
+	}
+
+	@Test
+	public void givenABlockedSubscriber_whenTheRingIsFull_shouldPushBackOnTheProducer() throws Exception {
+		final var stream = new DomainEventStream(4);
+		final var release = new CountDownLatch(1);
+		final var seen = Collections.synchronizedList(new ArrayList<DomainEvent>());
+		try (stream) {
+			final var aSubscription = stream.subscribe("blocked", (anEvent, aSequence, endOfBatch) -> {
+				release.await();
+				seen.add(anEvent);
+			}, 16);
+			final var events = events(6);
+
+			final var producer = new Thread(() -> stream.publish(events));
+			producer.start();
+			producer.join(200);
+
+			Assertions.assertTrue(producer.isAlive(), "the producer should wait for the subscriber");
+			release.countDown();
+			producer.join(TimeUnit.SECONDS.toMillis(5));
+			awaitPosition(aSubscription, 5);
+
+			Assertions.assertFalse(producer.isAlive());
+			Assertions.assertEquals(events, seen);
+		}
+	}
+
+	@Test
+	public void givenASubscriber_whenEventsArePublished_shouldDeliverThemInBatchesCappedByMaxBatchSize() throws Exception {
+		final var stream = new DomainEventStream(64);
+		final var batchSizes = Collections.synchronizedList(new ArrayList<Integer>());
+		final var gate = new CountDownLatch(1);
+		try (stream) {
+			final var aSubscription = stream.subscribe("batches", new EventHandler<>() {
+				private int size;
+
+				@Override
+				public void onEvent(final DomainEvent anEvent, final long aSequence, final boolean endOfBatch) throws Exception {
+					gate.await();
+					size++;
+					if (endOfBatch) {
+						batchSizes.add(size);
+						size = 0;
+					}
+				}
+			}, 8);
+
+			stream.publish(events(20));
+			gate.countDown();
+			awaitPosition(aSubscription, 19);
+
+			Assertions.assertEquals(20, batchSizes.stream().mapToInt(Integer::intValue).sum());
+			Assertions.assertTrue(batchSizes.stream().allMatch(aSize -> aSize <= 8), batchSizes.toString());
+			Assertions.assertTrue(batchSizes.size() < 20, "events should be consumed in batches: " + batchSizes);
+		}
+	}
+
+	@Test
+	public void givenAFailingHandler_whenEventsArePublished_shouldSkipTheFailedEventAndContinue() throws Exception {
+		try (final var stream = new DomainEventStream(8)) {
+			final var aSubscription = stream.subscribe("failing", (anEvent, aSequence, endOfBatch) -> {
+				if (aSequence == 1) {
+					throw new IllegalStateException("boom");
+				}
+			}, 4);
+
+			stream.publish(events(3));
+			awaitPosition(aSubscription, 2);
+
+			Assertions.assertEquals(1, aSubscription.failures());
+		}
+	}
+
+	private static List<DomainEvent> events(final int aCount) {
+		final var events = new ArrayList<DomainEvent>(aCount);
+		for (int i = 0; i < aCount; i++) {
+			events.addAll(Category.newCategory("Categoria " + i, null, true).pullEvents());
+		}
+		return events;
+	}
+
+	private static void awaitPosition(final Subscription<?> aSubscription, final long aSequence) throws InterruptedException {
+		final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (aSubscription.position() < aSequence && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+		Assertions.assertEquals(aSequence, aSubscription.position());
+	}
+}
@@ -0,0 +1,61 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.json;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class JsonReaderTest {
+
+	@Test
+	public void givenAnObject_whenReadsTokens_shouldReturnEveryValue() throws IOException {
+		final var aReader = reader(" { \"name\" : \"Filmes \\\"2\\\" \\u00e9 a\u00e7\u00e3o\", \"total\": 42, \"ok\": false,"
+				+ " \"nothing\": null, \"items\": [1, {\"a\": [true]}] } ");
+
+		aReader.beginObject();
+		Assertions.assertEquals("name", aReader.nextName());
+		Assertions.assertEquals("Filmes \"2\" \u00e9 a\u00e7\u00e3o", aReader.nextString());
+		Assertions.assertEquals("total", aReader.nextName());
+		Assertions.assertEquals(42, aReader.nextInt());
+		Assertions.assertEquals("ok", aReader.nextName());
+		Assertions.assertFalse(aReader.nextBoolean());
+		Assertions.assertEquals("nothing", aReader.nextName());
+		Assertions.assertEquals(JsonReader.Token.NULL, aReader.peek());
+		aReader.nextNull();
+		Assertions.assertEquals("items", aReader.nextName());
+		aReader.skipValue();
+		Assertions.assertFalse(aReader.hasNext());
+		aReader.endObject();
+		Assertions.assertEquals(JsonReader.Token.END_DOCUMENT, aReader.peek());
+	}
+
+	@Test
+	public void givenAStringLongerThanTheBuffer_whenReads_shouldReturnItWhole() throws IOException {
+		final var expected = "x".repeat(10_000);
+
+		Assertions.assertEquals(expected, reader("\"" + expected + "\"").nextString());
+	}
+
+	@Test
+	public void givenMalformedJson_whenReads_shouldThrowJsonException() {
+		Assertions.assertThrows(JsonException.class, () -> {
+			final var aReader = reader("{\"name\" \"Filmes\"}");
+			aReader.beginObject();
+			aReader.nextName();
+			aReader.nextString();
+		});
+		Assertions.assertThrows(JsonException.class, () -> reader("{\"name\": tru}").skipValue());
+		Assertions.assertThrows(JsonException.class, () -> reader("[1, 2").skipValue());
+		Assertions.assertThrows(JsonException.class, () -> {
+			final var aReader = reader("{} {}");
+			aReader.skipValue();
+			aReader.peek();
+		});
+	}
+
+	private static JsonReader reader(final String json) {
+		return new JsonReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+	}
+}
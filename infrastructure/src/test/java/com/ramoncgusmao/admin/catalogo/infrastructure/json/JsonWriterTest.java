@@ -0,0 +1,60 @@
+package com.ramoncgusmao.admin.catalogo.infrastructure.json;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class JsonWriterTest {
+
+	@Test
+	public void givenNestedValues_whenWrites_shouldProduceCompactJson() throws IOException {
+		final var out = new ByteArrayOutputStream();
+		final var aWriter = new JsonWriter(out, 16);
+
+		aWriter.beginObject()
+				.name("id").value("123")
+				.name("total").value(-42)
+				.name("is_active").value(true)
+				.name("deleted_at").value((String) null)
+				.name("items").beginArray()
+				.beginObject().name("name").value("Filmes").endObject()
+				.value(false)
+				.endArray()
+				.endObject()
+				.flush();
+
+		Assertions.assertEquals(
+				"{\"id\":\"123\",\"total\":-42,\"is_active\":true,\"deleted_at\":null,\"items\":[{\"name\":\"Filmes\"},false]}",
+				out.toString(StandardCharsets.UTF_8)
+		);
+	}
+
+	@Test
+	public void givenSpecialCharacters_whenWritesAString_shouldEscapeAndEncodeUtf8() throws IOException {
+		final var out = new ByteArrayOutputStream();
+		final var aWriter = new JsonWriter(out);
+
+		aWriter.value("Documentários \"2\"\n\\ \u0001 🎬").flush();
+
+		Assertions.assertEquals(
+				"\"Documentários \\\"2\\\"\\n\\\\ \\u0001 🎬\"",
+				out.toString(StandardCharsets.UTF_8)
+		);
+	}
+
+	@Test
+	public void givenTopLevelValues_whenCallsLineBreak_shouldWriteOneValuePerLine() throws IOException {
+		final var out = new ByteArrayOutputStream();
+		final var aWriter = new JsonWriter(out);
+
+		aWriter.beginObject().name("id").value("1").endObject().lineBreak()
+				.beginObject().name("id").value("2").endObject().lineBreak()
+				.flush();
+
+		Assertions.assertEquals("{\"id\":\"1\"}\n{\"id\":\"2\"}\n", out.toString(StandardCharsets.UTF_8));
+		Assertions.assertThrows(JsonException.class, () -> aWriter.beginArray().lineBreak());
+	}
+}